@@ -23,17 +23,28 @@ import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
-import org.json.JSONObject;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
 import org.wso2.financial.services.fdx.extensions.model.DetailedConsentResourceDataWithAmendments;
 import org.wso2.financial.services.fdx.extensions.model.ErrorResponse;
 import org.wso2.financial.services.fdx.extensions.model.FailedResponseInConsent;
+import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsent;
 import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsentRequestBody;
 import org.wso2.financial.services.fdx.extensions.model.Response200ForPersistAuthorizedConsent;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsent;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsentData;
+import org.wso2.financial.services.fdx.extensions.utils.FDXAsyncResponses;
+import org.wso2.financial.services.fdx.extensions.utils.FDXBatchProcessor;
 import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
 import org.wso2.financial.services.fdx.extensions.utils.FDXConsentPersistUtils;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayload;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayloads;
+import org.wso2.financial.services.fdx.extensions.utils.FDXJsonResponseWriter;
+import org.wso2.financial.services.fdx.extensions.utils.PersistedConsentResponseCache;
+import org.wso2.financial.services.fdx.extensions.utils.SharableAccountsCache;
 
 import java.util.List;
 import java.util.Map;
@@ -43,6 +54,8 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 /**
@@ -54,6 +67,8 @@ import javax.ws.rs.core.Response;
         date = "2025-05-07T09:57:13.986407+05:30[Asia/Colombo]", comments = "Generator version: 7.12.0")
 public class PersistAuthorizedConsentApi {
 
+    private static final Log log = LogFactory.getLog(PersistAuthorizedConsentApi.class);
+
     @POST
     @Consumes({"application/json"})
     @Produces({"application/json"})
@@ -72,64 +87,188 @@ public class PersistAuthorizedConsentApi {
             @ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
             @ApiResponse(code = 500, message = "Server Error", response = ErrorResponse.class)
     })
-    public Response persistAuthorizedConsentPost(
+    public void persistAuthorizedConsentPost(
+            @Suspended AsyncResponse asyncResponse,
             @Valid @NotNull PersistAuthorizedConsentRequestBody persistAuthorizedConsentRequestBody) {
+        FDXAsyncResponses.resume(asyncResponse,
+                () -> persistAuthorizedConsentPost(persistAuthorizedConsentRequestBody));
+    }
+
+    /**
+     * Persists the consent of the given request. Invoked on the request executor for the suspended requests of the
+     * API.
+     *
+     * @param persistAuthorizedConsentRequestBody The request body.
+     * @return The response of the request.
+     */
+    Response persistAuthorizedConsentPost(
+            PersistAuthorizedConsentRequestBody persistAuthorizedConsentRequestBody) {
 
         try {
-            // Moved inside try block
-            Map<String, Object> persistResponse =
-                    FDXConsentPersistUtils.persistConsent(persistAuthorizedConsentRequestBody);
-
-            if (persistResponse.get(FDXCommonConstants.STATUS) == FailedResponseInConsent.StatusEnum.ERROR) {
-                FailedResponseInConsent failedResponseInConsent = new FailedResponseInConsent();
-                failedResponseInConsent.setStatus(FailedResponseInConsent.StatusEnum.ERROR);
-                failedResponseInConsent.setErrorCode(
-                        (Integer) persistResponse.get(FDXCommonConstants.RESPONSE_STATUS));
-                failedResponseInConsent.setData(persistResponse.get(FDXCommonConstants.DATA));
-                return Response.status(Response.Status.OK)
-                        .entity(new JSONObject(failedResponseInConsent).toString())
-                        .build();
-            } else {
-                SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
-                response.setResponseId(persistAuthorizedConsentRequestBody.getRequestId());
-                response.setStatus((SuccessResponsePersistAuthorizedConsent.StatusEnum)
-                        persistResponse.get(FDXCommonConstants.STATUS));
-
-                response.setData(new SuccessResponsePersistAuthorizedConsentData()
-                        .consentResource(new DetailedConsentResourceDataWithAmendments()
-                                .type((String) persistResponse.get(FDXCommonConstants.TYPE))
-                                .status((String) persistResponse.get(FDXCommonConstants.FDX_CONSENT_STATUS))
-                                .validityTime(
-                                        (Long) persistResponse.getOrDefault(FDXCommonConstants.DURATION_PERIOD, 0L))
-                                .recurringIndicator(
-                                        (Boolean) persistResponse.getOrDefault(FDXCommonConstants.IS_RECURRING, false))
-                                .frequency(
-                                        (Integer) persistResponse.getOrDefault(FDXCommonConstants.FREQUENCY_SIMPLE, 0))
-                                .receipt(persistResponse.get(FDXCommonConstants.RECEIPT))
-                                .attributes(persistResponse.get(FDXCommonConstants.ATTRIBUTES))
-                                .authorizations(
-                                        (List<org.wso2.financial.services.fdx.extensions.model.Authorization>)
-                                                persistResponse.get(FDXCommonConstants.AUTHORIZATION_RESOURCES_KEY))
-                        )
-                );
-                return Response.status(Response.Status.OK)
-                        .entity(new JSONObject(response).toString())
-                        .build();
-            }
+            return Response.status(Response.Status.OK)
+                    .entity(FDXJsonResponseWriter.toEntity(persistConsent(persistAuthorizedConsentRequestBody)))
+                    .build();
         } catch (ConsentException e) {
-            ErrorResponse errorResponse = new ErrorResponse();
-            errorResponse.setStatus(ErrorResponse.StatusEnum.ERROR);
+            FDXErrorPayload errorPayload = getErrorPayload(e.getStatus(), e.getMessage());
+            return Response.status(errorPayload.getStatusCode())
+                    .entity(errorPayload.toErrorResponseEntity())
+                    .build();
+        }
+    }
+
+    @POST
+    @Path("/batch")
+    @Consumes({"application/json"})
+    @Produces({"application/json"})
+    @ApiOperation(
+            value = "handle consent persistence logic for a batch of consents and respond with the result of each " +
+                    "consent, in the order of the request",
+            notes = "", response = Object.class, responseContainer = "List", authorizations = {
+            @Authorization(value = "OAuth2", scopes = {
+            }),
+
+            @Authorization(value = "BasicAuth")
+    }, tags = {"Consent"})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successful response", response = Object.class,
+                    responseContainer = "List"),
+            @ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
+            @ApiResponse(code = 500, message = "Server Error", response = ErrorResponse.class)
+    })
+    public void persistAuthorizedConsentBatchPost(
+            @Suspended AsyncResponse asyncResponse,
+            @Valid @NotNull List<PersistAuthorizedConsentRequestBody> persistAuthorizedConsentRequestBodies) {
+        FDXAsyncResponses.resume(asyncResponse,
+                () -> persistAuthorizedConsentBatchPost(persistAuthorizedConsentRequestBodies),
+                ConfigurableProperties.PERSIST_BATCH_REQUEST_TIMEOUT_MILLIS);
+    }
 
-            JSONObject errorData = new JSONObject();
-            errorData.put("errorMessage", e.getStatus());
-            errorData.put("errorDescription", e.getMessage());
-            errorResponse.setData(errorData);
+    /**
+     * Persists the consents of the given batch. Invoked on the request executor for the suspended requests of the
+     * API.
+     *
+     * @param persistAuthorizedConsentRequestBodies The request bodies of the consents.
+     * @return The response of the request, listing the result of each consent.
+     */
+    Response persistAuthorizedConsentBatchPost(
+            List<PersistAuthorizedConsentRequestBody> persistAuthorizedConsentRequestBodies) {
 
-            int statusCode = e.getStatus().getStatusCode();
-            return Response.status(statusCode)
-                    .entity(new JSONObject(errorResponse).toString())
+        if (persistAuthorizedConsentRequestBodies.size() > ConfigurableProperties.PERSIST_BATCH_MAX_SIZE) {
+            FDXErrorPayload errorPayload = getErrorPayload(ResponseStatus.BAD_REQUEST,
+                    "Batch size exceeds the limit of " + ConfigurableProperties.PERSIST_BATCH_MAX_SIZE + " consents");
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(errorPayload.toErrorResponseEntity())
                     .build();
+        }
+
+        // A failed consent does not fail the batch, its result carries the error instead. Consents not persisted in
+        // time are reported as unavailable so that the client can retry them.
+        List<Object> results = FDXBatchProcessor.process(persistAuthorizedConsentRequestBodies,
+                PersistAuthorizedConsentApi::persistBatchItem, ConfigurableProperties.PERSIST_BATCH_PARALLELISM,
+                ConfigurableProperties.PERSIST_BATCH_PROCESSING_TIMEOUT_MILLIS,
+                requestBody -> buildFailedBatchItem(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+                        Response.Status.SERVICE_UNAVAILABLE.name(), "Timed out before the consent was persisted"));
+        return Response.status(Response.Status.OK)
+                .entity(FDXJsonResponseWriter.toEntity(results))
+                .build();
+    }
+
+    /**
+     * Persists a consent of a batch, mapping its failure to a failed response.
+     *
+     * @param persistAuthorizedConsentRequestBody The request body containing the consent data to be persisted.
+     * @return The response of the consent.
+     */
+    private static Object persistBatchItem(PersistAuthorizedConsentRequestBody persistAuthorizedConsentRequestBody) {
 
+        try {
+            return persistConsent(persistAuthorizedConsentRequestBody);
+        } catch (ConsentException e) {
+            return buildFailedBatchItem(e.getStatus().getStatusCode(), e.getStatus().name(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Error occurred while persisting a consent of the batch", e);
+            return buildFailedBatchItem(ResponseStatus.INTERNAL_SERVER_ERROR.getStatusCode(),
+                    ResponseStatus.INTERNAL_SERVER_ERROR.name(), "Error occurred while persisting the consent");
         }
     }
+
+    private static FailedResponseInConsent buildFailedBatchItem(int statusCode, String errorMessage,
+                                                                String description) {
+        return new FailedResponseInConsent(FailedResponseInConsent.StatusEnum.ERROR, statusCode,
+                FDXErrorPayloads.get(statusCode, errorMessage, description));
+    }
+
+    /**
+     * Persists a consent, or returns the response of an earlier request with the same request ID, consent and user so
+     * that retried requests do not persist the consent again.
+     *
+     * @param persistAuthorizedConsentRequestBody The request body containing the consent data to be persisted.
+     * @return The success or failed response of the consent.
+     * @throws ConsentException If the consent cannot be persisted.
+     */
+    private static Object persistConsent(PersistAuthorizedConsentRequestBody persistAuthorizedConsentRequestBody)
+            throws ConsentException {
+
+        PersistAuthorizedConsent data = persistAuthorizedConsentRequestBody.getData();
+        String consentId = data != null ? data.getConsentId() : null;
+        String userId = data != null && data.getUserGrantedData() != null ?
+                data.getUserGrantedData().getUserId() : null;
+        return PersistedConsentResponseCache.persist(persistAuthorizedConsentRequestBody.getRequestId(), consentId,
+                userId, () -> buildPersistResponse(persistAuthorizedConsentRequestBody, userId));
+    }
+
+    /**
+     * Persists a consent and maps the result to the response of the consent. The cached sharable accounts of the user
+     * are invalidated once the consent is persisted.
+     *
+     * @param persistAuthorizedConsentRequestBody The request body containing the consent data to be persisted.
+     * @param userId                              The ID of the user who authorized the consent.
+     * @return The success or failed response of the consent.
+     * @throws ConsentException If the consent cannot be persisted.
+     */
+    private static Object buildPersistResponse(
+            PersistAuthorizedConsentRequestBody persistAuthorizedConsentRequestBody, String userId)
+            throws ConsentException {
+
+        Map<String, Object> persistResponse =
+                FDXConsentPersistUtils.persistConsent(persistAuthorizedConsentRequestBody);
+
+        if (persistResponse.get(FDXCommonConstants.STATUS) == FailedResponseInConsent.StatusEnum.ERROR) {
+            FailedResponseInConsent failedResponseInConsent = new FailedResponseInConsent();
+            failedResponseInConsent.setStatus(FailedResponseInConsent.StatusEnum.ERROR);
+            failedResponseInConsent.setErrorCode(
+                    (Integer) persistResponse.get(FDXCommonConstants.RESPONSE_STATUS));
+            failedResponseInConsent.setData(persistResponse.get(FDXCommonConstants.DATA));
+            return failedResponseInConsent;
+        }
+        SharableAccountsCache.invalidate(userId);
+
+        SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
+        response.setResponseId(persistAuthorizedConsentRequestBody.getRequestId());
+        response.setStatus((SuccessResponsePersistAuthorizedConsent.StatusEnum)
+                persistResponse.get(FDXCommonConstants.STATUS));
+
+        response.setData(new SuccessResponsePersistAuthorizedConsentData()
+                .consentResource(new DetailedConsentResourceDataWithAmendments()
+                        .type((String) persistResponse.get(FDXCommonConstants.TYPE))
+                        .status((String) persistResponse.get(FDXCommonConstants.FDX_CONSENT_STATUS))
+                        .validityTime(
+                                (Long) persistResponse.getOrDefault(FDXCommonConstants.DURATION_PERIOD, 0L))
+                        .recurringIndicator(
+                                (Boolean) persistResponse.getOrDefault(FDXCommonConstants.IS_RECURRING, false))
+                        .frequency(
+                                (Integer) persistResponse.getOrDefault(FDXCommonConstants.FREQUENCY_SIMPLE, 0))
+                        .receipt(persistResponse.get(FDXCommonConstants.RECEIPT))
+                        .attributes(persistResponse.get(FDXCommonConstants.ATTRIBUTES))
+                        .authorizations(
+                                (List<org.wso2.financial.services.fdx.extensions.model.Authorization>)
+                                        persistResponse.get(FDXCommonConstants.AUTHORIZATION_RESOURCES_KEY))
+                )
+        );
+        return response;
+    }
+
+    private static FDXErrorPayload getErrorPayload(ResponseStatus status, String description) {
+        return FDXErrorPayloads.get(status.getStatusCode(), status.name(), description);
+    }
 }
@@ -31,14 +31,20 @@ import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorize
 import org.wso2.financial.services.fdx.extensions.model.Response200ForPopulateConsentAuthorizeScreen;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreen;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreenData;
+import org.wso2.financial.services.fdx.extensions.utils.FDXAsyncResponses;
 import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
 import org.wso2.financial.services.fdx.extensions.utils.FDXConsentRetrievalUtils;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayload;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayloads;
+import org.wso2.financial.services.fdx.extensions.utils.FDXJsonResponseWriter;
 
 import javax.validation.Valid;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Response;
 
 /**
@@ -67,18 +73,39 @@ public class PopulateConsentAuthorizeScreenApi {
             @ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
             @ApiResponse(code = 500, message = "Server Error", response = ErrorResponse.class)
     })
-    public Response populateConsentAuthorizeScreenPost(
+    public void populateConsentAuthorizeScreenPost(
+            @Suspended AsyncResponse asyncResponse,
             @Valid PopulateConsentAuthorizeScreenRequestBody populateConsentAuthorizeScreenRequestBody) {
+        FDXAsyncResponses.resume(asyncResponse,
+                () -> populateConsentAuthorizeScreenPost(populateConsentAuthorizeScreenRequestBody));
+    }
+
+    /**
+     * Builds the consent authorize screen data of the given request. Invoked on the request executor for the
+     * suspended requests of the API.
+     *
+     * @param populateConsentAuthorizeScreenRequestBody The request body.
+     * @return The response of the request.
+     */
+    Response populateConsentAuthorizeScreenPost(
+            PopulateConsentAuthorizeScreenRequestBody populateConsentAuthorizeScreenRequestBody) {
         try {
             JSONObject consentRetrievalResponse =
                     FDXConsentRetrievalUtils.retrieveConsentData(populateConsentAuthorizeScreenRequestBody);
 
             if (consentRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
+                Object errorPayload = consentRetrievalResponse.opt(FDXCommonConstants.ERROR_PAYLOAD);
+                if (errorPayload instanceof FDXErrorPayload) {
+                    return Response.status(Response.Status.OK)
+                            .entity(((FDXErrorPayload) errorPayload).toFailedResponseEntity())
+                            .build();
+                }
                 FailedResponse failedResponse = new FailedResponse();
                 failedResponse.setStatus(FailedResponse.StatusEnum.ERROR);
                 failedResponse.setErrorCode(consentRetrievalResponse.getInt(FDXCommonConstants.RESPONSE_STATUS));
                 failedResponse.setData(consentRetrievalResponse.get(FDXCommonConstants.DATA));
-                return Response.status(Response.Status.OK).entity(new JSONObject(failedResponse).toString()).build();
+                return Response.status(Response.Status.OK).entity(FDXJsonResponseWriter.toEntity(failedResponse))
+                        .build();
             } else {
                 SuccessResponsePopulateConsentAuthorizeScreen response =
                         new SuccessResponsePopulateConsentAuthorizeScreen();
@@ -88,18 +115,14 @@ public class PopulateConsentAuthorizeScreenApi {
                 response.setData(new SuccessResponsePopulateConsentAuthorizeScreenData()
                         .consentData(consentRetrievalResponse.get(FDXCommonConstants.CONSENT_DATA))
                         .consumerData(consentRetrievalResponse.get(FDXCommonConstants.CONSUMER_DATA)));
-                return Response.status(Response.Status.OK).entity(new JSONObject(response).toString()).build();
+                return Response.status(Response.Status.OK).entity(FDXJsonResponseWriter.toEntity(response)).build();
             }
         } catch (JSONException e) {
-            ErrorResponse errorResponse = new ErrorResponse();
-            errorResponse.setStatus(ErrorResponse.StatusEnum.ERROR);
-
-            JSONObject errorData = new JSONObject();
-            errorData.put(FDXCommonConstants.ERROR_MESSAGE, FDXCommonConstants.INVALID_REQUEST_MSG);
-            errorData.put(FDXCommonConstants.ERROR_DESCRIPTION, e.getMessage());
-
-            errorResponse.setData(errorData);
-            return Response.status(Response.Status.BAD_REQUEST).entity(new JSONObject(errorResponse).toString())
+            // The parser message quotes the request, so the error is not registered
+            FDXErrorPayload errorPayload = FDXErrorPayloads.create(Response.Status.BAD_REQUEST.getStatusCode(),
+                    FDXCommonConstants.INVALID_REQUEST_MSG, e.getMessage());
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(errorPayload.toErrorResponseEntity())
                     .build();
         }
     }
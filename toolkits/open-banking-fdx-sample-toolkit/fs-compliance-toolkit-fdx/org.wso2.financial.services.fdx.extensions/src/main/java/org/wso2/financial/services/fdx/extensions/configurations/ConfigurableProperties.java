@@ -27,5 +27,100 @@ public class ConfigurableProperties {
             "http://localhost:9766/api/openbanking/uk/backend/services/bankaccounts/bankaccountservice/sharable" +
                     "-accounts";
     public static final boolean MASKING_ENABLED = true;
+    // Account ID masking rules, as comma separated <account type>=<visible characters> pairs. DEFAULT applies to the
+    // account types without a rule and NONE leaves the account IDs of a type unmasked.
+    public static final String MASKING_RULES = "DEFAULT=4";
+    public static final char MASKING_CHARACTER = '*';
+
+    // HTTP connection pool used for backend calls made by the extensions
+    public static final int HTTP_POOL_MAX_TOTAL = 100;
+    public static final int HTTP_POOL_MAX_PER_ROUTE = 50;
+    public static final int HTTP_CONNECT_TIMEOUT_MILLIS = 2000;
+    public static final int HTTP_SOCKET_TIMEOUT_MILLIS = 5000;
+    public static final int HTTP_POOL_LEASE_TIMEOUT_MILLIS = 1000;
+    public static final long HTTP_KEEP_ALIVE_MILLIS = 30000;
+    public static final long HTTP_IDLE_CONNECTION_EVICT_MILLIS = 60000;
+    public static final int HTTP_VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    // Cache of the sharable accounts of each user. The weight of an entry is the number of accounts it holds.
+    public static final boolean ACCOUNTS_CACHE_ENABLED = true;
+    public static final long ACCOUNTS_CACHE_TTL_MILLIS = 60000;
+    public static final long ACCOUNTS_CACHE_MAX_WEIGHT = 100000;
+    // Time the last known accounts of a user are kept to be served while the accounts backend is unavailable
+    public static final long ACCOUNTS_LAST_KNOWN_TTL_MILLIS = 3600000;
+
+    // Bulkhead and circuit breaker guarding the calls to the sharable accounts backend
+    public static final int ACCOUNTS_BACKEND_MAX_CONCURRENT_CALLS = 20;
+    public static final long ACCOUNTS_BACKEND_MAX_WAIT_MILLIS = 100;
+    public static final int ACCOUNTS_BACKEND_FAILURE_THRESHOLD = 5;
+    public static final long ACCOUNTS_BACKEND_OPEN_STATE_MILLIS = 30000;
+    public static final int ACCOUNTS_BACKEND_HALF_OPEN_MAX_CALLS = 1;
+
+    // Executor used to run backend calls in parallel with the request processing
+    public static final int EXECUTOR_POOL_SIZE = 20;
+    public static final int EXECUTOR_QUEUE_CAPACITY = 200;
+    public static final long EXECUTOR_KEEP_ALIVE_MILLIS = 60000;
+
+    // Time allowed to build the consent authorize screen data, including the sharable accounts lookup
+    public static final long CONSENT_RETRIEVAL_TIMEOUT_MILLIS = 8000;
+
+    // Executor running the API requests off the container threads. Virtual threads are used when the runtime supports
+    // them, otherwise a fixed pool of platform threads. Requests beyond the pending limit are rejected.
+    public static final boolean REQUEST_EXECUTOR_VIRTUAL_THREADS_ENABLED = true;
+    public static final int REQUEST_EXECUTOR_POOL_SIZE = 50;
+    public static final int REQUEST_EXECUTOR_MAX_PENDING_REQUESTS = 500;
+    public static final long REQUEST_TIMEOUT_MILLIS = 10000;
+
+    // Batch mode of the persist authorized consent API. A full batch persists MAX_SIZE / PARALLELISM consents one after
+    // the other, so the batch request is allowed its own timeout instead of the request timeout. Consents not persisted
+    // within the processing timeout are reported as timed out, leaving time to respond before the request times out.
+    public static final int PERSIST_BATCH_MAX_SIZE = 1000;
+    public static final int PERSIST_BATCH_PARALLELISM = 4;
+    public static final long PERSIST_BATCH_REQUEST_TIMEOUT_MILLIS = 60000;
+    public static final long PERSIST_BATCH_PROCESSING_TIMEOUT_MILLIS = 55000;
+
+    // Responses of the persisted consents kept against the request ID, to answer retried persist requests
+    public static final boolean PERSIST_IDEMPOTENCY_ENABLED = true;
+    public static final long PERSIST_IDEMPOTENCY_TTL_MILLIS = 300000;
+    public static final long PERSIST_IDEMPOTENCY_MAX_ENTRIES = 10000;
+
+    // Data clusters required to access each FDX resource, as comma separated <resource path>=<data clusters> pairs.
+    // Path segments in braces match any value and {accountId} must be an account authorised by the consent.
+    public static final String CONSENT_ACCESS_RULES = "/accounts=ACCOUNT_BASIC," +
+            "/accounts/{accountId}=ACCOUNT_DETAILED," +
+            "/accounts/{accountId}/transactions=TRANSACTIONS," +
+            "/accounts/{accountId}/statements=STATEMENTS," +
+            "/accounts/{accountId}/statements/{statementId}=STATEMENTS," +
+            "/accounts/{accountId}/contact=CUSTOMER_CONTACT," +
+            "/accounts/{accountId}/payment-networks=PAYMENT_SUPPORT," +
+            "/accounts/{accountId}/transaction-images/{imageId}=IMAGES," +
+            "/customers/current=CUSTOMER_PERSONAL," +
+            "/tax-forms=TAX," +
+            "/tax-forms/{taxFormId}=TAX";
+
+    // In-process event store backing event polling. Each client holds at most the given number of events, the oldest
+    // unacknowledged events being overwritten once the capacity is reached. The capacity is rounded up to a power of 2.
+    // Once the maximum number of clients is reached, clients with every event acknowledged or idle for the given time
+    // are dropped to make room for new clients.
+    public static final int EVENT_STORE_CAPACITY_PER_CLIENT = 1024;
+    public static final int EVENT_STORE_MAX_CLIENTS = 10000;
+    public static final long EVENT_STORE_CLIENT_IDLE_MILLIS = 3600000;
+    public static final int EVENT_POLLING_MAX_EVENTS = 100;
+
+    // Consent file uploads. Files larger than the maximum size are rejected. The consent moves to the given status
+    // once its file is stored, and the size and hash of each uploaded file are kept for the file upload response.
+    public static final long FILE_UPLOAD_MAX_SIZE_BYTES = 100L * 1024 * 1024;
+    public static final String FILE_UPLOAD_CONSENT_STATUS = "AwaitingAuthorisation";
+    public static final long FILE_UPLOAD_SUMMARY_TTL_MILLIS = 300000;
+    public static final long FILE_UPLOAD_SUMMARY_MAX_ENTRIES = 10000;
+
+    // Error payloads are serialized once and shared, up to the given number of distinct errors
+    public static final int ERROR_PAYLOAD_REGISTRY_MAX_ENTRIES = 1024;
+    // FDX errors of the accelerator errors, as acceleratorCode=statusCode:errorCode pairs. Unmapped errors are
+    // reported as server errors.
+    public static final String ACCELERATOR_ERROR_MAPPINGS = "400=400:invalid_request,401=401:unauthorized," +
+            "403=403:forbidden,404=404:not_found,405=405:method_not_allowed,406=406:not_acceptable," +
+            "409=409:conflict,415=415:unsupported_media_type,422=422:unprocessable_entity," +
+            "429=429:too_many_requests,500=500:server_error,503=503:service_unavailable";
 
 }
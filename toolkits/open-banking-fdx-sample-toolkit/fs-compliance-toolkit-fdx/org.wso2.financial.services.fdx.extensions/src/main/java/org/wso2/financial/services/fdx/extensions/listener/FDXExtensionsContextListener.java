@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.fdx.extensions.utils.FDXExecutorHolder;
+import org.wso2.financial.services.fdx.extensions.utils.FDXHttpClientHolder;
+import org.wso2.financial.services.fdx.extensions.utils.FDXRequestExecutorHolder;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+ * Releases the resources owned by the FDX extensions web application when it is undeployed.
+ */
+public class FDXExtensionsContextListener implements ServletContextListener {
+
+    private static final Log log = LogFactory.getLog(FDXExtensionsContextListener.class);
+
+    @Override
+    public void contextInitialized(ServletContextEvent servletContextEvent) {
+        // Resources are created lazily on first use
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent servletContextEvent) {
+        log.debug("Shutting down the executors and the pooled HTTP client of the FDX extensions");
+        FDXRequestExecutorHolder.shutdown();
+        FDXExecutorHolder.shutdown();
+        FDXHttpClientHolder.shutdown();
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines a consent request of an authorization detail sent to the populate consent authorize screen API.
+ */
+public final class ConsentRequest {
+
+    private final long durationPeriod;
+    private final Map<String, List<String>> resources;
+    private final String expiryDateTime;
+
+    public ConsentRequest(long durationPeriod, Map<String, List<String>> resources, String expiryDateTime) {
+        this.durationPeriod = durationPeriod;
+        this.resources = resources;
+        this.expiryDateTime = expiryDateTime;
+    }
+
+    public long getDurationPeriod() {
+        return durationPeriod;
+    }
+
+    /**
+     * Returns the requested data clusters keyed by resource type.
+     *
+     * @return The requested data clusters, or null if the consent request does not contain resources.
+     */
+    public Map<String, List<String>> getResources() {
+        return resources;
+    }
+
+    /**
+     * Returns the expiry date and time of the consent resolved when the authorization detail was enriched.
+     *
+     * @return The expiry date and time, or null if the authorization detail was not enriched.
+     */
+    public String getExpiryDateTime() {
+        return expiryDateTime;
+    }
+}
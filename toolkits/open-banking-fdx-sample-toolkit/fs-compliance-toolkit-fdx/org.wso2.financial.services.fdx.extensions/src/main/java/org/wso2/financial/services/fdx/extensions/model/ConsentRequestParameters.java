@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Defines the request parameters sent to the populate consent authorize screen API, bound once from the request and
+ * shared by every stage that builds the consent authorize screen data.
+ */
+public final class ConsentRequestParameters {
+
+    private final boolean authorizationDetailsAvailable;
+    private final List<ConsentRequest> consentRequests;
+    private final String redirectUri;
+    private final int dataClusterBitmask;
+    private final Map<String, List<String>> permissionLanguage;
+
+    public ConsentRequestParameters(boolean authorizationDetailsAvailable, List<ConsentRequest> consentRequests,
+                                    String redirectUri, int dataClusterBitmask,
+                                    Map<String, List<String>> permissionLanguage) {
+        this.authorizationDetailsAvailable = authorizationDetailsAvailable;
+        this.consentRequests = consentRequests;
+        this.redirectUri = redirectUri;
+        this.dataClusterBitmask = dataClusterBitmask;
+        this.permissionLanguage = permissionLanguage;
+    }
+
+    public boolean isAuthorizationDetailsAvailable() {
+        return authorizationDetailsAvailable;
+    }
+
+    public List<ConsentRequest> getConsentRequests() {
+        return consentRequests;
+    }
+
+    public String getRedirectUri() {
+        return redirectUri;
+    }
+
+    /**
+     * Returns the bitmask of the data clusters requested across all the consent requests.
+     *
+     * @return The bitmask of the requested data clusters.
+     * @see org.wso2.financial.services.fdx.extensions.utils.FDXDataClusterTable
+     */
+    public int getDataClusterBitmask() {
+        return dataClusterBitmask;
+    }
+
+    /**
+     * Returns the permission language of the requested data clusters resolved when the authorization details were
+     * enriched, keyed by the UX name of each data cluster.
+     *
+     * @return The permission language, or null if any of the authorization details was not enriched.
+     */
+    public Map<String, List<String>> getPermissionLanguage() {
+        return permissionLanguage;
+    }
+}
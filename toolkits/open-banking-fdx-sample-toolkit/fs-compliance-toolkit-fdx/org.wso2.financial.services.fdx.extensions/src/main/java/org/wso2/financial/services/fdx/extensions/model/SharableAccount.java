@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.model;
+
+import java.util.Objects;
+
+/**
+ * Defines an account returned by the sharable accounts endpoint of the bank backend.
+ */
+public final class SharableAccount {
+
+    private final String accountId;
+    private final String accountType;
+    private final String accountIdToDisplay;
+
+    public SharableAccount(String accountId, String accountType) {
+        this(accountId, accountType, null);
+    }
+
+    public SharableAccount(String accountId, String accountType, String accountIdToDisplay) {
+        this.accountId = accountId;
+        this.accountType = accountType;
+        this.accountIdToDisplay = accountIdToDisplay;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public String getAccountType() {
+        return accountType;
+    }
+
+    /**
+     * Returns the account ID to be displayed to the user.
+     *
+     * @return The masked account ID, or the account ID if it is not masked.
+     */
+    public String getAccountIdToDisplay() {
+        return accountIdToDisplay != null ? accountIdToDisplay : accountId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SharableAccount sharableAccount = (SharableAccount) o;
+        return Objects.equals(this.accountId, sharableAccount.accountId) &&
+                Objects.equals(this.accountType, sharableAccount.accountType) &&
+                Objects.equals(this.accountIdToDisplay, sharableAccount.accountIdToDisplay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, accountType, accountIdToDisplay);
+    }
+}
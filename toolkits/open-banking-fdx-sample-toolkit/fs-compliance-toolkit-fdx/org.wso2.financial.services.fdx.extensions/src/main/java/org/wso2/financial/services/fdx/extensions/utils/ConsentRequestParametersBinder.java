@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONException;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequest;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds the request parameters sent to the populate consent authorize screen API to a
+ * {@link ConsentRequestParameters}.
+ * <p>
+ * The parameters are read in a single pass over the deserialized request, without converting them to JSON objects.
+ * Values of an unexpected type are reported with a {@link JSONException}, as the API responds to malformed requests
+ * with a bad request error.
+ * </p>
+ * <p>
+ * Authorization details enriched by the identity server carry the data cluster bitmask, the permission language and
+ * the expiry date and time resolved at authorization time. These values are used as they are, and are only derived
+ * from the consent request for authorization details that were not enriched.
+ * </p>
+ */
+public class ConsentRequestParametersBinder {
+
+    private static final ConsentRequestParameters NO_AUTHORIZATION_DETAILS =
+            new ConsentRequestParameters(false, Collections.emptyList(), null, 0, null);
+
+    /**
+     * Binds the given request parameters.
+     *
+     * @param requestParameters The request parameters of the populate consent authorize screen request.
+     * @return The bound request parameters.
+     * @throws JSONException If the request parameters are not in the expected format.
+     */
+    public static ConsentRequestParameters bind(Object requestParameters) throws JSONException {
+
+        if (requestParameters == null) {
+            return NO_AUTHORIZATION_DETAILS;
+        }
+        if (!(requestParameters instanceof Map)) {
+            throw new JSONException("Request parameters are not a JSONObject.");
+        }
+        Map<?, ?> parameters = (Map<?, ?>) requestParameters;
+
+        Object authorizationDetailsValue = parameters.get(FDXCommonConstants.AUTHORIZATION_DETAILS);
+        if (authorizationDetailsValue == null) {
+            return NO_AUTHORIZATION_DETAILS;
+        }
+
+        List<?> authorizationDetails = getList(authorizationDetailsValue, FDXCommonConstants.AUTHORIZATION_DETAILS);
+        List<ConsentRequest> consentRequests = new ArrayList<>(authorizationDetails.size());
+        int dataClusterBitmask = 0;
+        Map<String, List<String>> permissionLanguage = new LinkedHashMap<>();
+        boolean enriched = true;
+
+        for (int i = 0; i < authorizationDetails.size(); i++) {
+            Map<?, ?> authorizationDetail = getMapElement(authorizationDetails, i);
+            Object consentRequestValue = authorizationDetail.get(FDXCommonConstants.CONSENT_REQUEST);
+            if (consentRequestValue == null) {
+                continue;
+            }
+            Map<?, ?> consentRequest = getMap(consentRequestValue, FDXCommonConstants.CONSENT_REQUEST);
+
+            Object enrichedBitmask = authorizationDetail.get(FDXCommonConstants.DATA_CLUSTER_BITMASK);
+            Object enrichedPermissionLanguage = authorizationDetail.get(FDXCommonConstants.DATA_REQUESTED_CAMEL_CASE);
+            boolean detailEnriched = enrichedBitmask != null && enrichedPermissionLanguage != null;
+            if (detailEnriched) {
+                dataClusterBitmask |= getBitmask(enrichedBitmask);
+                putPermissionLanguage(enrichedPermissionLanguage, permissionLanguage);
+            } else {
+                enriched = false;
+            }
+
+            Map<String, List<String>> resourcesMap = null;
+            Object resourcesValue = consentRequest.get(FDXCommonConstants.RESOURCES);
+            if (resourcesValue != null) {
+                List<?> resources = getList(resourcesValue, FDXCommonConstants.RESOURCES);
+                resourcesMap = new HashMap<>();
+
+                for (int j = 0; j < resources.size(); j++) {
+                    Map<?, ?> resource = getMapElement(resources, j);
+                    String resourceType = getString(resource, FDXCommonConstants.RESOURCE_TYPE);
+                    List<?> dataClusters = getList(getRequired(resource, FDXCommonConstants.DATA_CLUSTERS_TITLE),
+                            FDXCommonConstants.DATA_CLUSTERS_TITLE);
+
+                    List<String> dataClusterList = new ArrayList<>(dataClusters.size());
+                    for (int k = 0; k < dataClusters.size(); k++) {
+                        Object dataCluster = dataClusters.get(k);
+                        if (!(dataCluster instanceof String)) {
+                            throw new JSONException("JSONArray[" + k + "] is not a String.");
+                        }
+                        dataClusterList.add((String) dataCluster);
+                        if (!detailEnriched) {
+                            dataClusterBitmask |= FDXDataClusterTable.getBit((String) dataCluster);
+                        }
+                    }
+                    resourcesMap.put(resourceType, Collections.unmodifiableList(dataClusterList));
+                }
+                resourcesMap = Collections.unmodifiableMap(resourcesMap);
+            }
+            consentRequests.add(new ConsentRequest(getDurationPeriod(consentRequest), resourcesMap,
+                    getOptionalString(authorizationDetail, FDXCommonConstants.EXPIRES_AT)));
+        }
+
+        String redirectUri = getString(parameters, FDXCommonConstants.REDIRECT_URL);
+        return new ConsentRequestParameters(true, Collections.unmodifiableList(consentRequests), redirectUri,
+                dataClusterBitmask, enriched && !consentRequests.isEmpty() ?
+                Collections.unmodifiableMap(permissionLanguage) : null);
+    }
+
+    /**
+     * Returns the enriched data cluster bitmask. Data clusters the consent extensions do not know are left out.
+     *
+     * @param value The enriched data cluster bitmask.
+     * @return The bitmask of the known data clusters.
+     */
+    private static int getBitmask(Object value) {
+        if (!(value instanceof Number)) {
+            throw new JSONException("JSONObject[\"" + FDXCommonConstants.DATA_CLUSTER_BITMASK + "\"] is not a number.");
+        }
+        return FDXDataClusterTable.retainKnown(((Number) value).intValue());
+    }
+
+    /**
+     * Adds the enriched permission language of an authorization detail to the given permission language.
+     *
+     * @param value              The enriched permission language.
+     * @param permissionLanguage The permission language of the authorization details bound so far.
+     */
+    private static void putPermissionLanguage(Object value, Map<String, List<String>> permissionLanguage) {
+        Map<?, ?> enrichedPermissionLanguage = getMap(value, FDXCommonConstants.DATA_REQUESTED_CAMEL_CASE);
+        for (Map.Entry<?, ?> entry : enrichedPermissionLanguage.entrySet()) {
+            List<?> uxDescriptions = getList(entry.getValue(), FDXCommonConstants.DATA_REQUESTED_CAMEL_CASE);
+            List<String> uxDescriptionList = new ArrayList<>(uxDescriptions.size());
+            for (int k = 0; k < uxDescriptions.size(); k++) {
+                Object uxDescription = uxDescriptions.get(k);
+                if (!(uxDescription instanceof String)) {
+                    throw new JSONException("JSONArray[" + k + "] is not a String.");
+                }
+                uxDescriptionList.add((String) uxDescription);
+            }
+            permissionLanguage.put(String.valueOf(entry.getKey()), Collections.unmodifiableList(uxDescriptionList));
+        }
+    }
+
+    /**
+     * Returns the sharing duration of the given consent request. One time consents and consent requests without a
+     * duration type are not shared beyond the current day.
+     *
+     * @param consentRequest The consent request.
+     * @return The sharing duration in days.
+     */
+    private static long getDurationPeriod(Map<?, ?> consentRequest) {
+        Object durationType = consentRequest.get(FDXCommonConstants.DURATION_TYPE);
+        if (durationType == null || FDXCommonConstants.ONE_TIME_CONSENT.equals(durationType.toString())) {
+            return 0;
+        }
+        Object durationPeriod = consentRequest.get(FDXCommonConstants.DURATION_PERIOD);
+        String durationPeriodStr = durationPeriod == null ? "" : durationPeriod.toString();
+        return durationPeriodStr.isEmpty() ? 0 : Long.parseLong(durationPeriodStr);
+    }
+
+    private static Object getRequired(Map<?, ?> map, String key) {
+        Object value = map.get(key);
+        if (value == null) {
+            throw new JSONException("JSONObject[\"" + key + "\"] not found.");
+        }
+        return value;
+    }
+
+    private static String getOptionalString(Map<?, ?> map, String key) {
+        return map.get(key) == null ? null : getString(map, key);
+    }
+
+    private static String getString(Map<?, ?> map, String key) {
+        Object value = getRequired(map, key);
+        if (!(value instanceof String)) {
+            throw new JSONException("JSONObject[\"" + key + "\"] is not a string.");
+        }
+        return (String) value;
+    }
+
+    private static List<?> getList(Object value, String key) {
+        if (!(value instanceof List)) {
+            throw new JSONException("JSONObject[\"" + key + "\"] is not a JSONArray.");
+        }
+        return (List<?>) value;
+    }
+
+    private static Map<?, ?> getMap(Object value, String key) {
+        if (!(value instanceof Map)) {
+            throw new JSONException("JSONObject[\"" + key + "\"] is not a JSONObject.");
+        }
+        return (Map<?, ?>) value;
+    }
+
+    private static Map<?, ?> getMapElement(List<?> list, int index) {
+        Object value = list.get(index);
+        if (!(value instanceof Map)) {
+            throw new JSONException("JSONArray[" + index + "] is not a JSONObject.");
+        }
+        return (Map<?, ?>) value;
+    }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.json.JSONException;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Enriches the result of a consent search while it is streamed from the request to the response.
+ * <p>
+ * The request is read token by token and the response is written as the request is read. Only one consent record of
+ * the search result is held in memory at a time, so the memory used does not grow with the size of the search. Each
+ * consent record is enriched with the display names of the data clusters it grants, and each of its account
+ * resources with the masked account ID. Both come from shared, precomputed state: the permission descriptors and the
+ * permission language of each set of data clusters, and the compiled masking engine.
+ * </p>
+ * <p>
+ * The request is read up to the start of the search result by {@link #open(InputStream)}, so that requests without a
+ * search result are rejected before the response is started.
+ * </p>
+ */
+public class ConsentSearchResultEnricher {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private String requestId;
+
+    private ConsentSearchResultEnricher(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the given search request up to the start of its search result.
+     *
+     * @param inputStream The stream of the search request.
+     * @return The enricher positioned at the start of the search result.
+     * @throws JSONException If the request is not in the expected format or has no search result.
+     * @throws IOException   If an error occurs while reading the stream.
+     */
+    public static ConsentSearchResultEnricher open(InputStream inputStream) throws IOException {
+
+        JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream);
+        ConsentSearchResultEnricher enricher = new ConsentSearchResultEnricher(parser);
+        try {
+            expect(parser.nextToken(), JsonToken.START_OBJECT, "Search request is not a JSON object");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (FDXCommonConstants.REQUEST_ID.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                    enricher.requestId = parser.getText();
+                } else if (FDXCommonConstants.DATA.equals(fieldName)) {
+                    expect(value, JsonToken.START_OBJECT, "Search data is not a JSON object");
+                    if (enricher.skipToSearchResult()) {
+                        return enricher;
+                    }
+                    throw new JSONException("Search result is missing");
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            throw new JSONException("Data is missing");
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the enriched search result to the given stream, reading the remainder of the search request. The
+     * request stream is released once the response is written.
+     *
+     * @param outputStream The stream of the response.
+     * @throws IOException If an error occurs while reading the request or writing the response.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+
+        try (JsonParser requestParser = parser;
+             JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            // The stream is owned by the container, which closes it once the response is written
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            if (requestId != null) {
+                generator.writeStringField(FDXCommonConstants.RESPONSE_ID, requestId);
+            }
+            generator.writeStringField(FDXCommonConstants.STATUS, FDXCommonConstants.SUCCESS);
+            generator.writeObjectFieldStart(FDXCommonConstants.DATA);
+            generator.writeFieldName(FDXCommonConstants.SEARCH_RESULT);
+            writeSearchResult(generator);
+            generator.writeEndObject();
+
+            // Skip the remaining fields of the search data and read the request ID if it follows the data
+            skipObject();
+            while (requestParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = requestParser.currentName();
+                JsonToken value = requestParser.nextToken();
+                if (requestId == null && FDXCommonConstants.REQUEST_ID.equals(fieldName) &&
+                        value == JsonToken.VALUE_STRING) {
+                    generator.writeStringField(FDXCommonConstants.RESPONSE_ID, requestParser.getText());
+                } else {
+                    requestParser.skipChildren();
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Enriches the given consent record.
+     *
+     * @param consent The consent record of the search result.
+     */
+    static void enrichConsent(ObjectNode consent) {
+
+        int bitmask = 0;
+        JsonNode authorizations = consent.path(FDXCommonConstants.AUTHORIZATIONS);
+        for (JsonNode authorization : authorizations) {
+            for (JsonNode resource : authorization.path(FDXCommonConstants.RESOURCES)) {
+                if (!(resource instanceof ObjectNode)) {
+                    continue;
+                }
+                JsonNode permission = resource.get(FDXCommonConstants.PERMISSION);
+                if (permission != null && permission.isTextual()) {
+                    bitmask |= FDXPermissionDescriptor.parse(permission.asText()).getBitmask();
+                }
+                JsonNode accountId = resource.get(FDXCommonConstants.ACCOUNT_ID_CAMEL_CASE);
+                if (ConfigurableProperties.MASKING_ENABLED && accountId != null && accountId.isTextual()) {
+                    ((ObjectNode) resource).put(FDXCommonConstants.ACCOUNT_ID_DISPLAYABLE,
+                            FDXAccountMaskingEngine.getInstance().mask(null, accountId.asText()));
+                }
+            }
+        }
+        ArrayNode dataClusterNames = consent.putArray(FDXCommonConstants.DATA_CLUSTER_NAMES);
+        for (String dataClusterName : FDXDataClusterTable.getPermissionLanguage(bitmask).keySet()) {
+            dataClusterNames.add(dataClusterName);
+        }
+    }
+
+    /**
+     * Copies the search result object to the generator, enriching each consent record of its data array.
+     */
+    private void writeSearchResult(JsonGenerator generator) throws IOException {
+
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            generator.writeFieldName(fieldName);
+            if (FDXCommonConstants.DATA.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonNode consent = OBJECT_MAPPER.readTree(parser);
+                    if (consent instanceof ObjectNode) {
+                        enrichConsent((ObjectNode) consent);
+                    }
+                    OBJECT_MAPPER.writeTree(generator, consent);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Skips the fields of the search data until the search result.
+     *
+     * @return True if the parser is positioned at the start of the search result.
+     */
+    private boolean skipToSearchResult() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (FDXCommonConstants.SEARCH_RESULT.equals(fieldName)) {
+                expect(value, JsonToken.START_OBJECT, "Search result is not a JSON object");
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private void skipObject() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    private static void expect(JsonToken token, JsonToken expected, String message) {
+        if (token != expected) {
+            throw new JSONException(message);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Masks the account IDs displayed to the user on the consent authorize screen.
+ * <p>
+ * The masking rules are compiled once into a policy for each account type. A policy keeps the configured number of
+ * trailing characters of an account ID visible, or fewer for account IDs too short to hide anything otherwise, and
+ * replaces the rest with the masking character. The accounts of a batch are masked into one reused character
+ * buffer.
+ * </p>
+ */
+public final class FDXAccountMaskingEngine {
+
+    private static final String DEFAULT_ACCOUNT_TYPE = "DEFAULT";
+    private static final String NOT_MASKED = "NONE";
+    private static final int DEFAULT_VISIBLE_CHARACTERS = 4;
+    private static final int INITIAL_BUFFER_SIZE = 32;
+    private static final FDXAccountMaskingEngine INSTANCE =
+            compile(ConfigurableProperties.MASKING_RULES, ConfigurableProperties.MASKING_CHARACTER);
+
+    private final MaskingPolicy defaultPolicy;
+    private final Map<String, MaskingPolicy> accountTypePolicies;
+    private final char maskingCharacter;
+
+    private FDXAccountMaskingEngine(MaskingPolicy defaultPolicy, Map<String, MaskingPolicy> accountTypePolicies,
+                                    char maskingCharacter) {
+        this.defaultPolicy = defaultPolicy;
+        this.accountTypePolicies = accountTypePolicies;
+        this.maskingCharacter = maskingCharacter;
+    }
+
+    /**
+     * Returns the engine compiled from the configured masking rules.
+     *
+     * @return The configured masking engine.
+     */
+    public static FDXAccountMaskingEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compiles the given masking rules.
+     *
+     * @param rules            The masking rules, as comma separated {@code <account type>=<visible characters>}
+     *                         pairs. {@code DEFAULT} applies to account types without a rule and {@code NONE} leaves
+     *                         the account IDs of a type unmasked.
+     * @param maskingCharacter The character replacing the hidden characters.
+     * @return The masking engine.
+     * @throws IllegalArgumentException If a rule is not in the expected format.
+     */
+    public static FDXAccountMaskingEngine compile(String rules, char maskingCharacter) {
+
+        MaskingPolicy defaultPolicy = new MaskingPolicy(DEFAULT_VISIBLE_CHARACTERS);
+        Map<String, MaskingPolicy> accountTypePolicies = new HashMap<>();
+        for (String rule : rules.split(",")) {
+            if (rule.trim().isEmpty()) {
+                continue;
+            }
+            int separatorIndex = rule.indexOf('=');
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid account masking rule: " + rule.trim());
+            }
+            String accountType = rule.substring(0, separatorIndex).trim();
+            MaskingPolicy policy = compilePolicy(rule.substring(separatorIndex + 1).trim(), rule);
+            if (DEFAULT_ACCOUNT_TYPE.equals(accountType)) {
+                defaultPolicy = policy;
+            } else {
+                accountTypePolicies.put(accountType, policy);
+            }
+        }
+        return new FDXAccountMaskingEngine(defaultPolicy, Collections.unmodifiableMap(accountTypePolicies),
+                maskingCharacter);
+    }
+
+    /**
+     * Masks the account ID of each of the given accounts.
+     *
+     * @param accounts The accounts to be masked.
+     * @return The accounts with their masked account IDs.
+     */
+    public List<SharableAccount> maskAccounts(List<SharableAccount> accounts) {
+
+        List<SharableAccount> maskedAccounts = new ArrayList<>(accounts.size());
+        char[] buffer = new char[INITIAL_BUFFER_SIZE];
+        for (SharableAccount account : accounts) {
+            String accountId = account.getAccountId();
+            if (accountId != null && accountId.length() > buffer.length) {
+                buffer = new char[Math.max(accountId.length(), buffer.length * 2)];
+            }
+            String accountIdToDisplay = mask(getPolicy(account.getAccountType()), accountId, buffer);
+            maskedAccounts.add(new SharableAccount(accountId, account.getAccountType(), accountIdToDisplay));
+        }
+        return maskedAccounts;
+    }
+
+    /**
+     * Masks the given account ID.
+     *
+     * @param accountType The type of the account, or null to apply the default policy.
+     * @param accountId   The account ID to be masked.
+     * @return The masked account ID.
+     */
+    public String mask(String accountType, String accountId) {
+        return accountId == null ? null : mask(getPolicy(accountType), accountId, new char[accountId.length()]);
+    }
+
+    private MaskingPolicy getPolicy(String accountType) {
+        MaskingPolicy policy = accountType == null ? null : accountTypePolicies.get(accountType);
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    private String mask(MaskingPolicy policy, String accountId, char[] buffer) {
+        if (accountId == null) {
+            return null;
+        }
+        int length = accountId.length();
+        int visibleCharacters = policy.getVisibleCharacters(length);
+        if (visibleCharacters >= length) {
+            return accountId;
+        }
+        int maskedCharacters = length - visibleCharacters;
+        Arrays.fill(buffer, 0, maskedCharacters, maskingCharacter);
+        accountId.getChars(maskedCharacters, length, buffer, maskedCharacters);
+        return new String(buffer, 0, length);
+    }
+
+    private static MaskingPolicy compilePolicy(String visibleCharacters, String rule) {
+        if (NOT_MASKED.equals(visibleCharacters)) {
+            return new MaskingPolicy(-1);
+        }
+        try {
+            int visibleCharacterCount = Integer.parseInt(visibleCharacters);
+            if (visibleCharacterCount >= 0) {
+                return new MaskingPolicy(visibleCharacterCount);
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Invalid account masking rule: " + rule.trim());
+    }
+
+    /**
+     * Masking policy of an account type.
+     */
+    private static final class MaskingPolicy {
+        // Number of trailing characters kept visible, or -1 to keep the whole account ID visible
+        private final int visibleCharacters;
+
+        private MaskingPolicy(int visibleCharacters) {
+            this.visibleCharacters = visibleCharacters;
+        }
+
+        /**
+         * Returns the number of trailing characters kept visible for an account ID of the given length. Account IDs
+         * no longer than the configured number of visible characters keep half of them, or only the last character,
+         * visible. Single character account IDs are not masked.
+         */
+        private int getVisibleCharacters(int length) {
+            if (visibleCharacters < 0 || length <= 1) {
+                return length;
+            }
+            if (length > visibleCharacters) {
+                return visibleCharacters;
+            }
+            return length == visibleCharacters ? Math.max(1, visibleCharacters / 2) : 1;
+        }
+    }
+}
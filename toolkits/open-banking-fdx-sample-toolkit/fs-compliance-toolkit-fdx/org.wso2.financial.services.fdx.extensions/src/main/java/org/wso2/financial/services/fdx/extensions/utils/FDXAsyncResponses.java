@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+
+/**
+ * Processes suspended API requests on the request executor of the FDX extensions.
+ * <p>
+ * The suspended response is resumed with the response built by the request handler. Requests rejected by the
+ * executor, or not completed within the request timeout, are resumed with a service unavailable error so that the
+ * client can retry. A timed out request is abandoned: it is skipped if it has not started yet, and its thread is
+ * interrupted if it is running, so that it releases its pending request slot of the executor.
+ * </p>
+ */
+public class FDXAsyncResponses {
+
+    private static final Log log = LogFactory.getLog(FDXAsyncResponses.class);
+
+    /**
+     * Processes the request on the request executor and resumes the given suspended response with its result.
+     *
+     * @param asyncResponse  The suspended response.
+     * @param requestHandler The handler building the response of the request.
+     */
+    public static void resume(AsyncResponse asyncResponse, Supplier<Response> requestHandler) {
+
+        resume(asyncResponse, requestHandler, ConfigurableProperties.REQUEST_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Processes the request on the request executor and resumes the given suspended response with its result, allowing
+     * the given time instead of the request timeout.
+     *
+     * @param asyncResponse  The suspended response.
+     * @param requestHandler The handler building the response of the request.
+     * @param timeoutMillis  The time allowed to process the request.
+     */
+    public static void resume(AsyncResponse asyncResponse, Supplier<Response> requestHandler, long timeoutMillis) {
+
+        SuspendedRequest request = new SuspendedRequest(asyncResponse, requestHandler);
+        asyncResponse.setTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        asyncResponse.setTimeoutHandler(timedOutResponse -> {
+            log.error("Timed out while processing the request");
+            request.abandon();
+            timedOutResponse.resume(buildServiceUnavailableResponse("Timed out while processing the request"));
+        });
+
+        try {
+            FDXRequestExecutorHolder.getInstance().execute(request);
+        } catch (RejectedExecutionException e) {
+            log.error("Rejected the request as the server is overloaded. " + e.getMessage());
+            asyncResponse.resume(buildServiceUnavailableResponse("Server is temporarily overloaded"));
+        }
+    }
+
+    private static Response buildServiceUnavailableResponse(String errorDescription) {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                .entity(FDXErrorPayloads.get(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+                        FDXCommonConstants.SERVER_ERROR_MSG, errorDescription).toErrorResponseEntity())
+                .build();
+    }
+
+    /**
+     * Request run on the executor, which can be abandoned once its suspended response has timed out.
+     */
+    private static final class SuspendedRequest implements Runnable {
+
+        private final AsyncResponse asyncResponse;
+        private final Supplier<Response> requestHandler;
+        private Thread worker;
+        private boolean abandoned;
+
+        private SuspendedRequest(AsyncResponse asyncResponse, Supplier<Response> requestHandler) {
+            this.asyncResponse = asyncResponse;
+            this.requestHandler = requestHandler;
+        }
+
+        @Override
+        public void run() {
+
+            synchronized (this) {
+                if (abandoned || asyncResponse.isDone()) {
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            try {
+                asyncResponse.resume(requestHandler.get());
+            } catch (RuntimeException | Error e) {
+                // Unhandled failures are mapped to a server error by the JAX-RS runtime
+                asyncResponse.resume(e);
+            } finally {
+                synchronized (this) {
+                    worker = null;
+                    // An interrupt made when the request was abandoned must not reach the next request of the thread
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        /**
+         * Skips the request if it has not started, or interrupts its thread if it is running.
+         */
+        private synchronized void abandon() {
+            abandoned = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+/**
+ * Thrown when a backend call is not attempted because the backend is considered unavailable, or when the call fails
+ * while reaching the backend.
+ */
+public class FDXBackendUnavailableException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public FDXBackendUnavailableException(String message) {
+        super(message);
+    }
+
+    public FDXBackendUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Processes the items of a batch in parallel on the extensions executor.
+ * <p>
+ * The items are split into stripes processed one item at a time, so a single batch never occupies more than the
+ * requested number of threads. The first stripe is processed on the calling thread. The results are returned in the
+ * order of the items.
+ * </p>
+ */
+public class FDXBatchProcessor {
+
+    /**
+     * Processes the given items.
+     *
+     * @param items       The items to be processed.
+     * @param processor   The function processing an item. Failures of an item are expected to be mapped to a result
+     *                    by the function, as an exception thrown by the function fails the whole batch.
+     * @param parallelism The maximum number of items processed at the same time.
+     * @param <T>         The type of the items.
+     * @param <R>         The type of the results.
+     * @return The results, in the order of the items.
+     */
+    public static <T, R> List<R> process(List<T> items, Function<T, R> processor, int parallelism) {
+
+        return process(items, processor, parallelism, 0, null);
+    }
+
+    /**
+     * Processes the given items within the given time. Items not processed in time are given the timeout result,
+     * while the results of the items processed so far are kept.
+     *
+     * @param items         The items to be processed.
+     * @param processor     The function processing an item. Failures of an item are expected to be mapped to a
+     *                      result by the function, as an exception thrown by the function fails the whole batch.
+     * @param parallelism   The maximum number of items processed at the same time.
+     * @param timeoutMillis The time allowed to process the batch. The batch is not timed out if not positive.
+     * @param timeoutResult The function giving the result of an item not processed in time.
+     * @param <T>           The type of the items.
+     * @param <R>           The type of the results.
+     * @return The results, in the order of the items.
+     */
+    public static <T, R> List<R> process(List<T> items, Function<T, R> processor, int parallelism,
+                                         long timeoutMillis, Function<T, R> timeoutResult) {
+
+        int stripeCount = Math.max(1, Math.min(parallelism, items.size()));
+        boolean timed = timeoutMillis > 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(items.size());
+
+        List<CompletableFuture<Void>> stripes = new ArrayList<>(stripeCount - 1);
+        for (int stripe = 1; stripe < stripeCount; stripe++) {
+            int firstIndex = stripe;
+            stripes.add(CompletableFuture.runAsync(
+                    () -> processStripe(items, processor, results, firstIndex, stripeCount, timed, deadline),
+                    FDXExecutorHolder.getInstance().getExecutor()));
+        }
+        processStripe(items, processor, results, 0, stripeCount, timed, deadline);
+
+        CompletableFuture<Void> allStripes = CompletableFuture.allOf(stripes.toArray(new CompletableFuture[0]));
+        try {
+            if (!timed) {
+                allStripes.join();
+            } else {
+                allStripes.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (CompletionException | ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            // The results of the items still being processed are given up
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<R> resultList = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            // A result is set once, so an item completing late does not replace its timeout result
+            if (results.get(i) == null && timeoutResult != null) {
+                results.compareAndSet(i, null, timeoutResult.apply(items.get(i)));
+            }
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+
+    private static <T, R> void processStripe(List<T> items, Function<T, R> processor,
+                                             AtomicReferenceArray<R> results, int firstIndex, int stripeCount,
+                                             boolean timed, long deadline) {
+        for (int i = firstIndex; i < items.size(); i += stripeCount) {
+            if (timed && System.nanoTime() - deadline >= 0) {
+                return;
+            }
+            results.compareAndSet(i, null, processor.apply(items.get(i)));
+        }
+    }
+}
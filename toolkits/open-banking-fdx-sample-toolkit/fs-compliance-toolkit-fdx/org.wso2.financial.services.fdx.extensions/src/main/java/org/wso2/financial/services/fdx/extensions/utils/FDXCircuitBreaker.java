@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker guarding calls to a backend.
+ * <p>
+ * The circuit opens after the configured number of consecutive failures and rejects calls until the open duration
+ * elapses. It then lets a limited number of probe calls through: a successful probe closes the circuit while a failed
+ * probe opens it again. State transitions and rejected calls are counted so that the breaker can be monitored.
+ * </p>
+ */
+public class FDXCircuitBreaker {
+
+    private static final Log log = LogFactory.getLog(FDXCircuitBreaker.class);
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenMaxCalls;
+    private final Map<State, LongAdder> transitionCounts = new EnumMap<>(State.class);
+    private final LongAdder rejectedCount = new LongAdder();
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int halfOpenCalls;
+    private long openedAtNanos;
+
+    /**
+     * Creates a circuit breaker.
+     *
+     * @param name               The name of the circuit breaker, used in logs.
+     * @param failureThreshold   The number of consecutive failures that opens the circuit.
+     * @param openDurationMillis The time in milliseconds the circuit stays open before probe calls are allowed.
+     * @param halfOpenMaxCalls   The number of probe calls allowed while the circuit is half open.
+     */
+    public FDXCircuitBreaker(String name, int failureThreshold, long openDurationMillis, int halfOpenMaxCalls) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+        for (State value : State.values()) {
+            transitionCounts.put(value, new LongAdder());
+        }
+    }
+
+    /**
+     * Checks whether a call may be made to the backend. Every permitted call must be followed by a call to
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the call is permitted, false if it must be rejected.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && halfOpenCalls < halfOpenMaxCalls) {
+            halfOpenCalls++;
+            return true;
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    /**
+     * Records a call that reached the backend.
+     */
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a call that failed to reach the backend.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Closes the circuit and clears the failure count.
+     */
+    public synchronized void reset() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the number of times the circuit moved to the given state.
+     *
+     * @param toState The target state.
+     * @return The number of transitions to the state.
+     */
+    public long getTransitionCount(State toState) {
+        return transitionCounts.get(toState).sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + " {state: " + getState() + ", opened: " + getTransitionCount(State.OPEN) +
+                ", halfOpened: " + getTransitionCount(State.HALF_OPEN) + ", closed: " +
+                getTransitionCount(State.CLOSED) + ", rejected: " + getRejectedCount() + "}";
+    }
+
+    private void transitionTo(State newState) {
+        State previousState = state;
+        state = newState;
+        halfOpenCalls = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (newState == State.CLOSED) {
+            consecutiveFailures = 0;
+        }
+        transitionCounts.get(newState).increment();
+
+        if (newState == State.OPEN) {
+            log.warn(name + " circuit moved from " + previousState + " to " + newState);
+        } else if (log.isDebugEnabled()) {
+            log.debug(name + " circuit moved from " + previousState + " to " + newState);
+        }
+    }
+}
@@ -20,7 +20,6 @@ package org.wso2.financial.services.fdx.extensions.utils;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +38,7 @@ public class FDXCommonConstants {
     public static final String RESPONSE_STATUS = "responseStatus";
     public static final String INVALID_REQUEST_MSG = "invalid_request";
     public static final String USER_ID_KEY_NAME = "userId";
+    public static final String RESOURCE_TYPES_KEY_NAME = "resourceTypes";
     public static final String ACCOUNT_ID = "account_id";
     public static final String ONE_TIME_CONSENT = "ONE_TIME";
     public static final String ACCOUNT_TYPE = "type";
@@ -51,6 +51,9 @@ public class FDXCommonConstants {
     public static final Map<String, Map<String, List<String>>> DATA_CLUSTERS;
     public static final String REDIRECT_URL = "redirect_uri";
     public static final String DATA_REQUESTED = "data_requested";
+    public static final String DATA_REQUESTED_CAMEL_CASE = "dataRequested";
+    public static final String DATA_CLUSTER_BITMASK = "dataClusterBitmask";
+    public static final String EXPIRES_AT = "expiresAt";
     public static final String ACCOUNT_IDS = "accountIds";
     public static final String COMMON_AUTH_ID = "commonAuthId";
     public static final String IS_RECURRING = "isRecurring";
@@ -69,9 +72,37 @@ public class FDXCommonConstants {
     public static final String ERROR_MESSAGE = "errorMessage";
     public static final String ERROR_DESCRIPTION = "errorDescription";
     public static final Integer INTERNAL_SERVER_ERROR = 500;
+    public static final String RESOURCE_PARAMS = "resourceParams";
+    public static final String RESOURCE = "resource";
+    public static final String REQUEST_PATH = "requestPath";
+    public static final String INVALID_CONSENT_MSG = "invalid_consent";
+    public static final String INVALID_PERMISSIONS_MSG = "invalid_permissions";
+    public static final String REQUEST_ID = "requestId";
+    public static final String RESPONSE_ID = "responseId";
+    public static final String SEARCH_RESULT = "searchResult";
+    public static final String AUTHORIZATIONS = "authorizations";
+    public static final String PERMISSION = "permission";
+    public static final String ACCOUNT_ID_CAMEL_CASE = "accountId";
+    public static final String DATA_CLUSTER_NAMES = "dataClusterNames";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String CLIENT_ID = "clientId";
+    public static final String MAX_EVENTS = "maxEvents";
+    public static final String ACK = "ack";
+    public static final String SET_ERRORS = "setErrs";
+    public static final String SETS = "sets";
+    public static final String MORE_AVAILABLE = "moreAvailable";
+    public static final String CONSENT_ID = "consentId";
+    public static final String FILE_CONTENT = "fileContent";
+    public static final String FILE_HASH = "fileHash";
+    public static final String FILE_SIZE = "fileSize";
+    public static final String FILE_UPLOAD_CREATED_TIME = "fileUploadCreatedTime";
+    public static final String ERROR_CODE = "errorCode";
+    public static final String ERROR_PAYLOAD = "errorPayload";
+    public static final String CUSTOM_ERROR_CODE = "customErrorCode";
+    public static final String CUSTOM_ERROR_DESCRIPTION = "customErrorDescription";
 
     static {
-        Map<String, Map<String, List<String>>> dataCluster = new HashMap<>();
+        Map<String, Map<String, List<String>>> dataCluster = new LinkedHashMap<>();
         dataCluster.put("ACCOUNT_BASIC", createPermissionLanguage(
                 "Account Information - Basic",
                 "Account display name", "Masked account number", "Account type and Description"));
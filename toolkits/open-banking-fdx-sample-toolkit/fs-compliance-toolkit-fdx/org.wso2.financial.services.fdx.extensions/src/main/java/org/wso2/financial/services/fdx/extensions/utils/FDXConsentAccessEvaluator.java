@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.fdx.extensions.model.StoredAuthorization;
+import org.wso2.financial.services.fdx.extensions.model.StoredDetailedConsentResourceData;
+import org.wso2.financial.services.fdx.extensions.model.StoredResource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access permissions of a consent, precompiled for the validation of data access requests.
+ * <p>
+ * The data clusters granted for each authorised account of the consent are held in an open addressing table keyed
+ * by the account ID, along with the union of the data clusters of all the accounts. A data access request is checked
+ * with a rule lookup, a table probe on the account ID segment of the request path and a bitmask comparison, without
+ * allocating. A consent with a validity time is denied once the validity time has passed.
+ * </p>
+ */
+public final class FDXConsentAccessEvaluator {
+
+    /**
+     * Outcome of a data access check.
+     */
+    public enum Decision {
+        PERMITTED,
+        CONSENT_NOT_AUTHORISED,
+        CONSENT_EXPIRED,
+        RESOURCE_NOT_PERMITTED,
+        ACCOUNT_NOT_PERMITTED
+    }
+
+    private final boolean authorised;
+    // Expiry of the consent in epoch seconds, or zero if the consent does not expire
+    private final long validityTime;
+    private final int grantedBitmask;
+    private final String[] accountIds;
+    private final int[] accountBitmasks;
+    private final int accountCount;
+
+    private FDXConsentAccessEvaluator(boolean authorised, long validityTime, int grantedBitmask, String[] accountIds,
+                                      int[] accountBitmasks, int accountCount) {
+        this.authorised = authorised;
+        this.validityTime = validityTime;
+        this.grantedBitmask = grantedBitmask;
+        this.accountIds = accountIds;
+        this.accountBitmasks = accountBitmasks;
+        this.accountCount = accountCount;
+    }
+
+    /**
+     * Compiles the permissions of the given consent. Only the resources of the authorised authorizations are taken
+     * into account.
+     *
+     * @param consentResource The stored consent resource.
+     * @return The evaluator of the consent.
+     */
+    public static FDXConsentAccessEvaluator compile(StoredDetailedConsentResourceData consentResource) {
+
+        List<StoredResource> resources = new ArrayList<>();
+        if (consentResource.getAuthorizations() != null) {
+            for (StoredAuthorization authorization : consentResource.getAuthorizations()) {
+                if (isAuthorised(authorization.getStatus()) && authorization.getResources() != null) {
+                    for (StoredResource resource : authorization.getResources()) {
+                        if (resource.getAccountId() != null && resource.getPermission() != null &&
+                                (resource.getStatus() == null || isAuthorised(resource.getStatus()))) {
+                            resources.add(resource);
+                        }
+                    }
+                }
+            }
+        }
+
+        // The table is kept at most half full so that probe sequences stay short
+        int capacity = Integer.highestOneBit(Math.max(1, resources.size()) * 2) << 1;
+        String[] accountIds = new String[capacity];
+        int[] accountBitmasks = new int[capacity];
+        int accountCount = 0;
+        int grantedBitmask = 0;
+        for (StoredResource resource : resources) {
+            int bitmask = FDXPermissionDescriptor.parse(resource.getPermission()).getBitmask();
+            grantedBitmask |= bitmask;
+            String accountId = resource.getAccountId();
+            int slot = accountId.hashCode() & (capacity - 1);
+            while (accountIds[slot] != null && !accountIds[slot].equals(accountId)) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            if (accountIds[slot] == null) {
+                accountIds[slot] = accountId;
+                accountCount++;
+            }
+            accountBitmasks[slot] |= bitmask;
+        }
+        return new FDXConsentAccessEvaluator(isAuthorised(consentResource.getStatus()),
+                getValidityTime(consentResource), grantedBitmask, accountIds, accountBitmasks, accountCount);
+    }
+
+    /**
+     * Checks whether the given resource of the consent can be accessed.
+     *
+     * @param rules        The consent access rules.
+     * @param resourcePath The path of the requested resource.
+     * @return The decision of the check.
+     */
+    public Decision evaluate(FDXConsentAccessRules rules, String resourcePath) {
+
+        if (!authorised) {
+            return Decision.CONSENT_NOT_AUTHORISED;
+        }
+        if (validityTime > 0 && System.currentTimeMillis() / 1000 >= validityTime) {
+            return Decision.CONSENT_EXPIRED;
+        }
+        int rule = rules.match(resourcePath);
+        if (rule == FDXConsentAccessRules.NO_RULE) {
+            return Decision.RESOURCE_NOT_PERMITTED;
+        }
+        int requiredBitmask = rules.getRequiredBitmask(rule);
+        long accountIdPosition = rules.getAccountIdPosition(rule, resourcePath);
+        if (accountIdPosition == FDXConsentAccessRules.NO_ACCOUNT_ID) {
+            return (grantedBitmask & requiredBitmask) == requiredBitmask ? Decision.PERMITTED :
+                    Decision.RESOURCE_NOT_PERMITTED;
+        }
+
+        int slot = findAccount(resourcePath, (int) (accountIdPosition >>> 32), (int) accountIdPosition);
+        if (slot < 0) {
+            return Decision.ACCOUNT_NOT_PERMITTED;
+        }
+        return (accountBitmasks[slot] & requiredBitmask) == requiredBitmask ? Decision.PERMITTED :
+                Decision.RESOURCE_NOT_PERMITTED;
+    }
+
+    /**
+     * Returns the number of authorised accounts of the consent.
+     *
+     * @return The number of accounts.
+     */
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    /**
+     * Finds the slot of the account ID found between the given indexes of the path. The hash of the region is the
+     * same as the hash of the account ID string, so no substring is created.
+     */
+    private int findAccount(String path, int start, int end) {
+
+        int hash = 0;
+        for (int index = start; index < end; index++) {
+            hash = 31 * hash + path.charAt(index);
+        }
+        int length = end - start;
+        int mask = accountIds.length - 1;
+        for (int slot = hash & mask; accountIds[slot] != null; slot = (slot + 1) & mask) {
+            String accountId = accountIds[slot];
+            if (accountId.length() == length && accountId.regionMatches(0, path, start, length)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the validity time of the consent, treating a missing or non positive validity time as no expiry.
+     */
+    private static long getValidityTime(StoredDetailedConsentResourceData consentResource) {
+        Integer validityTime = consentResource.getValidityTime();
+        return validityTime == null || validityTime <= 0 ? 0 : validityTime;
+    }
+
+    private static boolean isAuthorised(String status) {
+        return FDXCommonConstants.FDX_CONSENT_AUTHORISED.equalsIgnoreCase(status);
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data clusters required to access the FDX resources.
+ * <p>
+ * The access rules are compiled once into resource path templates, ordered from the most to the least specific. A
+ * resource path is matched against the templates by its trailing segments, so the base path of the API does not need
+ * to be part of the rules. Matching compares the segments in place and does not allocate, and the position of the
+ * account ID segment of a matched path is returned packed into a long.
+ * </p>
+ */
+public final class FDXConsentAccessRules {
+
+    /**
+     * Returned when the resource path does not match any rule.
+     */
+    public static final int NO_RULE = -1;
+    /**
+     * Returned as the account ID position of the rules without an account ID segment.
+     */
+    public static final long NO_ACCOUNT_ID = -1L;
+
+    private static final String ACCOUNT_ID_SEGMENT = "{accountId}";
+    private static final FDXConsentAccessRules INSTANCE = compile(ConfigurableProperties.CONSENT_ACCESS_RULES);
+
+    private final String[][] templates;
+    private final int[] accountIdSegments;
+    private final int[] requiredBitmasks;
+
+    private FDXConsentAccessRules(String[][] templates, int[] accountIdSegments, int[] requiredBitmasks) {
+        this.templates = templates;
+        this.accountIdSegments = accountIdSegments;
+        this.requiredBitmasks = requiredBitmasks;
+    }
+
+    /**
+     * Returns the rules compiled from the configured consent access rules.
+     *
+     * @return The configured rules.
+     */
+    public static FDXConsentAccessRules getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compiles the given access rules.
+     *
+     * @param rules The access rules, as comma separated {@code <resource path>=<data clusters>} pairs. The data
+     *              clusters are {@code &} separated and are all required. Path segments in braces match any value.
+     * @return The compiled rules.
+     * @throws IllegalArgumentException If a rule is not in the expected format or names an unknown data cluster.
+     */
+    public static FDXConsentAccessRules compile(String rules) {
+
+        List<String[]> templates = new ArrayList<>();
+        List<Integer> requiredBitmasks = new ArrayList<>();
+        for (String rule : rules.split(",")) {
+            if (rule.trim().isEmpty()) {
+                continue;
+            }
+            int separatorIndex = rule.indexOf('=');
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid consent access rule: " + rule.trim());
+            }
+            String path = rule.substring(0, separatorIndex).trim();
+            int requiredBitmask = 0;
+            for (String dataCluster : rule.substring(separatorIndex + 1).split("&")) {
+                int bit = FDXDataClusterTable.getBit(dataCluster.trim());
+                if (bit == 0) {
+                    throw new IllegalArgumentException("Unknown data cluster in consent access rule: " + rule.trim());
+                }
+                requiredBitmask |= bit;
+            }
+            String[] segments = trimSlashes(path).split("/");
+            // More specific templates are placed first so that they are matched before shorter ones
+            int index = 0;
+            while (index < templates.size() && templates.get(index).length >= segments.length) {
+                index++;
+            }
+            templates.add(index, segments);
+            requiredBitmasks.add(index, requiredBitmask);
+        }
+
+        String[][] compiledTemplates = templates.toArray(new String[0][]);
+        int[] accountIdSegments = new int[compiledTemplates.length];
+        int[] compiledBitmasks = new int[compiledTemplates.length];
+        for (int rule = 0; rule < compiledTemplates.length; rule++) {
+            accountIdSegments[rule] = -1;
+            for (int segment = 0; segment < compiledTemplates[rule].length; segment++) {
+                if (ACCOUNT_ID_SEGMENT.equals(compiledTemplates[rule][segment])) {
+                    accountIdSegments[rule] = segment;
+                }
+            }
+            compiledBitmasks[rule] = requiredBitmasks.get(rule);
+        }
+        return new FDXConsentAccessRules(compiledTemplates, accountIdSegments, compiledBitmasks);
+    }
+
+    /**
+     * Returns the rule matching the given resource path. The query string of the path is ignored.
+     *
+     * @param resourcePath The path of the requested resource.
+     * @return The index of the matching rule, or {@link #NO_RULE} if no rule matches.
+     */
+    public int match(String resourcePath) {
+        int end = getPathEnd(resourcePath);
+        for (int rule = 0; rule < templates.length; rule++) {
+            if (matchSegments(templates[rule], resourcePath, end, -1) != Long.MIN_VALUE) {
+                return rule;
+            }
+        }
+        return NO_RULE;
+    }
+
+    /**
+     * Returns the data clusters required by the given rule.
+     *
+     * @param rule The index of the rule.
+     * @return The bitmask of the required data clusters.
+     */
+    public int getRequiredBitmask(int rule) {
+        return requiredBitmasks[rule];
+    }
+
+    /**
+     * Returns the position of the account ID in the given resource path, which must match the given rule.
+     *
+     * @param rule         The index of the rule matched by the path.
+     * @param resourcePath The path of the requested resource.
+     * @return The start index of the account ID in the upper 32 bits and its end index in the lower 32 bits, or
+     * {@link #NO_ACCOUNT_ID} if the rule has no account ID segment.
+     */
+    public long getAccountIdPosition(int rule, String resourcePath) {
+        if (accountIdSegments[rule] < 0) {
+            return NO_ACCOUNT_ID;
+        }
+        return matchSegments(templates[rule], resourcePath, getPathEnd(resourcePath), accountIdSegments[rule]);
+    }
+
+    /**
+     * Matches the trailing segments of the path against the given template.
+     *
+     * @return Long.MIN_VALUE if the path does not match, otherwise the packed position of the captured segment, or 0
+     * if no segment is captured.
+     */
+    private static long matchSegments(String[] template, String path, int end, int capturedSegment) {
+
+        int segmentEnd = end;
+        long captured = 0;
+        for (int segment = template.length - 1; segment >= 0; segment--) {
+            if (segmentEnd <= 0) {
+                return Long.MIN_VALUE;
+            }
+            // Segments start after a slash or at the start of the path, so templates match whole segments only
+            int segmentStart = path.lastIndexOf('/', segmentEnd - 1) + 1;
+            int length = segmentEnd - segmentStart;
+            String expected = template[segment];
+            boolean variable = expected.startsWith("{") && expected.endsWith("}");
+            if (length == 0 || !variable && (length != expected.length() ||
+                    !path.regionMatches(segmentStart, expected, 0, length))) {
+                return Long.MIN_VALUE;
+            }
+            if (segment == capturedSegment) {
+                captured = ((long) segmentStart << 32) | segmentEnd;
+            }
+            segmentEnd = segmentStart - 1;
+        }
+        return captured;
+    }
+
+    private static int getPathEnd(String path) {
+        int end = path.indexOf('?');
+        end = end < 0 ? path.length() : end;
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return end;
+    }
+
+    private static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+}
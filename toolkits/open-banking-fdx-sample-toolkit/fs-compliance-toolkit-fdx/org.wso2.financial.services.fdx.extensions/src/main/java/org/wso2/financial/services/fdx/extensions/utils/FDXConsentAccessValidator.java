@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.model.ValidateConsentAccessData;
+
+import java.util.Map;
+
+/**
+ * Validates the data access requests made with a consent.
+ * <p>
+ * The permissions of the consent sent with each request are compiled into a {@link FDXConsentAccessEvaluator}. The
+ * evaluator is not cached, as deactivating an account mapping changes neither the status nor the updated time of the
+ * consent, so telling whether a cached evaluator is current takes a pass over every resource of the consent, which
+ * costs as much as compiling it.
+ * </p>
+ */
+public class FDXConsentAccessValidator {
+
+    private static final Log log = LogFactory.getLog(FDXConsentAccessValidator.class);
+
+    /**
+     * Checks whether the data access request of the given validation data is permitted by its consent.
+     *
+     * @param validationData The consent and the data access request to be validated.
+     * @return The decision of the check.
+     * @throws ConsentException If the consent or the requested resource is missing from the validation data.
+     */
+    public static FDXConsentAccessEvaluator.Decision validate(ValidateConsentAccessData validationData)
+            throws ConsentException {
+
+        if (validationData == null || validationData.getConsentResource() == null) {
+            log.error("Consent resource is not available in the validation request");
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Consent resource is not available");
+        }
+        String resourcePath = getResourcePath(validationData.getDataRequestPayload());
+        if (resourcePath == null) {
+            log.error("Requested resource is not available in the validation request");
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Requested resource is not available");
+        }
+
+        return FDXConsentAccessEvaluator.compile(validationData.getConsentResource())
+                .evaluate(FDXConsentAccessRules.getInstance(), resourcePath);
+    }
+
+    /**
+     * Reads the path of the requested resource from the data access request, taking the resource of the resource
+     * parameters and falling back to the request path.
+     */
+    private static String getResourcePath(Object dataRequestPayload) {
+
+        if (!(dataRequestPayload instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> payload = (Map<?, ?>) dataRequestPayload;
+        Object resourceParams = payload.get(FDXCommonConstants.RESOURCE_PARAMS);
+        if (resourceParams instanceof Map &&
+                ((Map<?, ?>) resourceParams).get(FDXCommonConstants.RESOURCE) instanceof String) {
+            return (String) ((Map<?, ?>) resourceParams).get(FDXCommonConstants.RESOURCE);
+        }
+        Object requestPath = payload.get(FDXCommonConstants.REQUEST_PATH);
+        return requestPath instanceof String ? (String) requestPath : null;
+    }
+}
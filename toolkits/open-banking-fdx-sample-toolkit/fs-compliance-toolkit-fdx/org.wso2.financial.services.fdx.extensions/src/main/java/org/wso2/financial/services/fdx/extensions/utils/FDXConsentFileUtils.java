@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.PreProcessFileUploadRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.RequestForEnrichFileUploadResponse;
+import org.wso2.financial.services.fdx.extensions.model.RequestForPreProcessFileUpload;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePreProcessFileUpload;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePreProcessFileUploadData;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Utility class to validate the consent file uploads and build their responses.
+ * <p>
+ * The file content of an upload request is not held in memory. It is diverted from the request while the request is
+ * parsed, and only its size and SHA-256 hash are computed, so the memory used does not depend on the size of the
+ * file. The size and hash of each uploaded file are kept for a short period to be returned in the file upload
+ * response.
+ * </p>
+ */
+public class FDXConsentFileUtils {
+
+    // The file content is read from the data object of the request
+    private static final int FILE_CONTENT_DEPTH = 2;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final FDXExpiringCache<String, JSONObject> UPLOADED_FILES =
+            new FDXExpiringCache<>("UploadedConsentFiles",
+                    ConfigurableProperties.FILE_UPLOAD_SUMMARY_TTL_MILLIS,
+                    ConfigurableProperties.FILE_UPLOAD_SUMMARY_MAX_ENTRIES,
+                    uploadedFile -> 1L);
+
+    /**
+     * Validates the given file upload request.
+     *
+     * @param inputStream The stream of the file upload request.
+     * @return The response of the file upload request.
+     * @throws ConsentException If the request has no consent or file content, or the file is not valid for the
+     *                          consent.
+     * @throws IOException      If the request is not valid JSON or an error occurs while reading the stream.
+     */
+    public static SuccessResponsePreProcessFileUpload preProcessFileUpload(InputStream inputStream)
+            throws ConsentException, IOException {
+
+        FDXFileContentDigest fileContentDigest = new FDXFileContentDigest(
+                ConfigurableProperties.FILE_UPLOAD_MAX_SIZE_BYTES);
+        FDXFileContentInputStream requestStream =
+                new FDXFileContentInputStream(inputStream, FILE_CONTENT_DEPTH, fileContentDigest);
+        PreProcessFileUploadRequestBody requestBody =
+                OBJECT_MAPPER.readValue(requestStream, PreProcessFileUploadRequestBody.class);
+
+        RequestForPreProcessFileUpload data = requestBody == null ? null : requestBody.getData();
+        if (data == null) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Data is missing");
+        }
+        if (data.getConsentId() == null) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Consent ID is missing");
+        }
+        if (!requestStream.isFileContentFound() || fileContentDigest.getSize() == 0) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "File content is missing");
+        }
+        if (fileContentDigest.isMaxSizeExceeded()) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "File exceeds the maximum size of " +
+                    ConfigurableProperties.FILE_UPLOAD_MAX_SIZE_BYTES + " bytes");
+        }
+
+        String fileHash = fileContentDigest.getHash();
+        Object declaredFileHash = data.getConsentResource() != null &&
+                data.getConsentResource().getAttributes() instanceof Map ?
+                ((Map<?, ?>) data.getConsentResource().getAttributes()).get(FDXCommonConstants.FILE_HASH) : null;
+        if (declaredFileHash != null && !fileHash.equals(declaredFileHash)) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST,
+                    "File hash does not match the file hash of the consent");
+        }
+
+        JSONObject uploadedFile = new JSONObject();
+        uploadedFile.put(FDXCommonConstants.FILE_SIZE, fileContentDigest.getSize());
+        uploadedFile.put(FDXCommonConstants.FILE_HASH, fileHash);
+        UPLOADED_FILES.put(data.getConsentId(), uploadedFile);
+
+        return new SuccessResponsePreProcessFileUpload()
+                .responseId(requestBody.getRequestId())
+                .status(SuccessResponsePreProcessFileUpload.StatusEnum.SUCCESS)
+                .data(new SuccessResponsePreProcessFileUploadData()
+                        .consentStatus(ConfigurableProperties.FILE_UPLOAD_CONSENT_STATUS));
+    }
+
+    /**
+     * Builds the response body of a file upload request once the file is stored.
+     *
+     * @param data The data of the stored file.
+     * @return The response body, holding the size and hash of the file if it was uploaded recently.
+     * @throws ConsentException If the consent ID is missing.
+     */
+    public static JSONObject buildFileUploadResponse(RequestForEnrichFileUploadResponse data)
+            throws ConsentException {
+
+        if (data == null || data.getConsentId() == null) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Consent ID is missing");
+        }
+        JSONObject fileUploadResponse = new JSONObject();
+        fileUploadResponse.put(FDXCommonConstants.CONSENT_ID, data.getConsentId());
+        fileUploadResponse.put(FDXCommonConstants.FILE_UPLOAD_CREATED_TIME, data.getFileUploadCreatedTime());
+        JSONObject uploadedFile = UPLOADED_FILES.get(data.getConsentId());
+        if (uploadedFile != null) {
+            fileUploadResponse.put(FDXCommonConstants.FILE_SIZE, uploadedFile.get(FDXCommonConstants.FILE_SIZE));
+            fileUploadResponse.put(FDXCommonConstants.FILE_HASH, uploadedFile.get(FDXCommonConstants.FILE_HASH));
+        }
+        return fileUploadResponse;
+    }
+
+    /**
+     * Removes the kept size and hash of all the uploaded files.
+     */
+    public static void invalidateAll() {
+        UPLOADED_FILES.invalidateAll();
+    }
+}
@@ -75,7 +75,8 @@ public class FDXConsentPersistUtils {
 
         JSONObject jsonObject = new JSONObject((Map<?, ?>) userGrantedData.getRequestParameters());
 
-        StringBuilder dataClustersString = new StringBuilder();
+        List<String> dataClusterNames = new ArrayList<>();
+        FDXPermissionDescriptor permissions = null;
         long validityPeriod = 0;
         JSONObject authorizationDetailsJSON = new JSONObject();
         if (jsonObject.has(FDXCommonConstants.AUTHORIZATION_DETAILS)
@@ -89,6 +90,11 @@ public class FDXConsentPersistUtils {
             if (!(authorizationDetails.isEmpty())) {
                 JSONObject authorizationDetail = authorizationDetails.getJSONObject(0);
 
+                // Use the data clusters resolved when the authorization detail was enriched, if any
+                if (authorizationDetail.has(FDXCommonConstants.DATA_CLUSTER_BITMASK)) {
+                    permissions = FDXPermissionDescriptor.of(FDXDataClusterTable.retainKnown(
+                            authorizationDetail.getInt(FDXCommonConstants.DATA_CLUSTER_BITMASK)));
+                }
                 if (authorizationDetail.has(FDXCommonConstants.CONSENT_REQUEST)) {
                     JSONObject consentRequest = authorizationDetail.getJSONObject(FDXCommonConstants.CONSENT_REQUEST);
                     if (consentRequest.has(FDXCommonConstants.DURATION_TYPE) && !
@@ -98,14 +104,13 @@ public class FDXConsentPersistUtils {
                             validityPeriod = consentRequest.getLong(FDXCommonConstants.DURATION_PERIOD);
                         }
                     }
-                    if (consentRequest.has(FDXCommonConstants.RESOURCES)) {
+                    if (permissions == null && consentRequest.has(FDXCommonConstants.RESOURCES)) {
                         JSONArray resources = consentRequest.getJSONArray(FDXCommonConstants.RESOURCES);
                         JSONObject resource = resources.getJSONObject(0);
                         if (resource.has(FDXCommonConstants.DATA_CLUSTERS_TITLE)) {
                             JSONArray dataClusters = resource.getJSONArray(FDXCommonConstants.DATA_CLUSTERS_TITLE);
                             for (int i = 0; i < dataClusters.length(); i++) {
-                                dataClustersString.append(dataClusters.getString(i));
-                                dataClustersString.append("&");
+                                dataClusterNames.add(dataClusters.getString(i));
                             }
                         }
                     }
@@ -124,7 +129,7 @@ public class FDXConsentPersistUtils {
         List<Authorization> authorizations = buildAuthorizationResource(
                 userGrantedData.getUserId(),
                 accountIdList,
-                dataClustersString.toString()
+                permissions != null ? permissions : FDXPermissionDescriptor.of(dataClusterNames)
         );
 
         persistResponse.put(FDXCommonConstants.FDX_CONSENT_STATUS, FDXCommonConstants.FDX_CONSENT_AUTHORISED);
@@ -143,16 +148,17 @@ public class FDXConsentPersistUtils {
      *
      * @param userId        The user ID.
      * @param accountIdList The list of account IDs.
-     * @param permissions   The permissions granted by the user.
+     * @param permissions   The permissions granted by the user, shared by the resources of all the accounts.
      * @return A list of Authorization objects representing the authorization resources.
      */
     private static List<Authorization> buildAuthorizationResource(String userId, ArrayList<String> accountIdList,
-                                                                  String permissions) {
-        List<Resource> resources = new ArrayList<>();
+                                                                  FDXPermissionDescriptor permissions) {
+        String permission = permissions.getPermission();
+        List<Resource> resources = new ArrayList<>(accountIdList.size());
         for (String accountId : accountIdList) {
             Resource resource = new Resource();
             resource.setAccountId(accountId);
-            resource.setPermission(permissions);
+            resource.setPermission(permission);
             resource.setStatus(FDXCommonConstants.FDX_CONSENT_AUTHORISED);
             resources.add(resource);
         }
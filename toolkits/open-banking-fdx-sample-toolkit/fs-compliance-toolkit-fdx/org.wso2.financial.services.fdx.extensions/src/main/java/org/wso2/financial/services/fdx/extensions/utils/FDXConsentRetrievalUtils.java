@@ -21,42 +21,59 @@ package org.wso2.financial.services.fdx.extensions.utils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
+import org.apache.http.HttpEntity;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
 import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequest;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
 import org.wso2.financial.services.fdx.extensions.model.FailedResponse;
 import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorizeScreenData;
 import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorizeScreenRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreen;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Utility class for FDX consent retrieval.
  */
 public class FDXConsentRetrievalUtils {
     private static final Log log = LogFactory.getLog(FDXConsentRetrievalUtils.class);
+    private static final FDXSingleFlight<String, List<SharableAccount>> ACCOUNT_LOOKUPS =
+            new FDXSingleFlight<>("SharableAccountsLookup");
 
     /**
      * Retrieves consent data and populates the response.
+     * <p>
+     * The sharable accounts of the user are loaded on the extensions executor while the consent data and the data
+     * clusters are mapped on the calling thread, so the backend call overlaps with the request processing. Both
+     * stages share a single deadline. Requests without authorization details are rejected before the account lookup
+     * is started, so that they do not cost a backend call. If the request itself is invalid its error is returned,
+     * otherwise the error of the account lookup, if any, is returned.
+     * </p>
      *
      * @param populateConsentAuthorizeScreenRequestBody The request body containing the consent data to be retrieved.
      * @throws Exception If an error occurs during the retrieval process.
@@ -64,85 +81,131 @@ public class FDXConsentRetrievalUtils {
     public static JSONObject retrieveConsentData(
             PopulateConsentAuthorizeScreenRequestBody populateConsentAuthorizeScreenRequestBody) {
 
+        long deadlineNanos = System.nanoTime() +
+                TimeUnit.MILLISECONDS.toNanos(ConfigurableProperties.CONSENT_RETRIEVAL_TIMEOUT_MILLIS);
+
+        // Bind the request parameters once and share them with every stage
+        PopulateConsentAuthorizeScreenData data = populateConsentAuthorizeScreenRequestBody.getData();
+        ConsentRequestParameters requestParameters = ConsentRequestParametersBinder.bind(data.getRequestParameters());
+        SharableAccountsFilter accountsFilter = SharableAccountsFilter.fromRequestParameters(requestParameters);
+
         JSONObject consentRetrievalResponse = new JSONObject();
+        if (!requestParameters.isAuthorizationDetailsAvailable()) {
+            handleBadRequests(consentRetrievalResponse, FDXCommonConstants.BAD_REQUEST,
+                    "\"Authorization details are not available\"");
+            return consentRetrievalResponse;
+        }
+
+        // Start the account lookup first so that the backend call overlaps with the consent data mapping
+        JSONObject accountRetrievalResponse = new JSONObject();
+        CompletableFuture<Void> accountRetrieval = CompletableFuture.runAsync(
+                () -> retrieveAccountData(populateConsentAuthorizeScreenRequestBody, accountsFilter,
+                        accountRetrievalResponse),
+                FDXExecutorHolder.getInstance().getExecutor());
 
         consentRetrievalResponse.put(FDXCommonConstants.STATUS,
                 SuccessResponsePopulateConsentAuthorizeScreen.StatusEnum.SUCCESS);
 
-        PopulateConsentAuthorizeScreenData data = populateConsentAuthorizeScreenRequestBody.getData();
-        Object requestParam = data.getRequestParameters();
-
-        JSONObject requestParameters = new JSONObject((Map<?, ?>) requestParam);
+        try {
+            // Append consent data to response
+            appendConsentDataToResponse(requestParameters, consentRetrievalResponse);
+            retrieveDataClusterData(requestParameters, consentRetrievalResponse);
+        } catch (RuntimeException e) {
+            accountRetrieval.cancel(false);
+            throw e;
+        }
 
-        // Append consent data to response
-        appendConsentDataToResponse(requestParameters, consentRetrievalResponse);
-        retrieveDataClusterData(consentRetrievalResponse);
-        retrieveAccountData(populateConsentAuthorizeScreenRequestBody, consentRetrievalResponse);
+        // Errors in the request take precedence over errors in the account lookup
+        if (consentRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
+            accountRetrieval.cancel(false);
+            return consentRetrievalResponse;
+        }
 
+        mergeAccountData(accountRetrieval, accountRetrievalResponse, consentRetrievalResponse, deadlineNanos);
         return consentRetrievalResponse;
     }
 
+    /**
+     * Waits for the account lookup until the given deadline and merges its result into the response.
+     *
+     * @param accountRetrieval         The running account lookup.
+     * @param accountRetrievalResponse The response populated by the account lookup.
+     * @param consentRetrievalResponse The response object to be populated with account data.
+     * @param deadlineNanos            The deadline of the consent data retrieval, as a {@link System#nanoTime()} value.
+     */
+    private static void mergeAccountData(CompletableFuture<Void> accountRetrieval,
+                                         JSONObject accountRetrievalResponse,
+                                         JSONObject consentRetrievalResponse, long deadlineNanos) {
+
+        try {
+            accountRetrieval.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            accountRetrieval.cancel(false);
+            log.error("Timed out while loading the sharable accounts");
+            handleBadRequests(consentRetrievalResponse, FDXCommonConstants.INTERNAL_SERVER_ERROR,
+                    "Timed out while loading accounts data");
+            return;
+        } catch (InterruptedException e) {
+            accountRetrieval.cancel(false);
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while loading the sharable accounts", e);
+            handleBadRequests(consentRetrievalResponse, FDXCommonConstants.INTERNAL_SERVER_ERROR,
+                    "Unable to load accounts data");
+            return;
+        } catch (ExecutionException e) {
+            // Surface the failure of the account lookup as if it was thrown on the calling thread
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+
+        if (accountRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
+            consentRetrievalResponse.clear();
+            for (String key : accountRetrievalResponse.keySet()) {
+                consentRetrievalResponse.put(key, accountRetrievalResponse.get(key));
+            }
+        } else {
+            consentRetrievalResponse.put(FDXCommonConstants.CONSUMER_DATA,
+                    accountRetrievalResponse.get(FDXCommonConstants.CONSUMER_DATA));
+        }
+    }
+
     /**
      * Appends consent data to the response object.
      *
-     * @param requestParameters        The request parameters containing consent details.
+     * @param requestParameters        The bound request parameters containing consent details.
      * @param consentRetrievalResponse The response object to be populated with consent data.
      */
-    private static void appendConsentDataToResponse(JSONObject requestParameters,
+    private static void appendConsentDataToResponse(ConsentRequestParameters requestParameters,
                                                     JSONObject consentRetrievalResponse) {
 
-        long sharingDuration = 0;
-        JSONObject consentDataObject = new JSONObject();
-        JSONArray consentRequests = new JSONArray();
-        if (requestParameters.has(FDXCommonConstants.AUTHORIZATION_DETAILS)) {
-            JSONArray authorizationDetails = requestParameters.getJSONArray
-                    (FDXCommonConstants.AUTHORIZATION_DETAILS);
-            for (int i = 0; i < authorizationDetails.length(); i++) {
-                JSONObject authorizationDetail = authorizationDetails.getJSONObject(i);
-                if (authorizationDetail.has(FDXCommonConstants.CONSENT_REQUEST)) {
-                    JSONObject authorizationDetailJSON =
-                            authorizationDetail.getJSONObject(FDXCommonConstants.CONSENT_REQUEST);
-                    Map<String, Object> requestMap = new HashMap<>();
-                    if (authorizationDetailJSON.has(FDXCommonConstants.DURATION_TYPE) &&
-                            !authorizationDetailJSON.optString(FDXCommonConstants.DURATION_TYPE)
-                                    .equals(FDXCommonConstants.ONE_TIME_CONSENT)) {
-                        String sharingDurationStr = authorizationDetailJSON.optString
-                                (FDXCommonConstants.DURATION_PERIOD, "");
-                        sharingDuration = sharingDurationStr.isEmpty() ? 0 : Long.parseLong(sharingDurationStr);
-                    }
-
-                    requestMap.put(FDXCommonConstants.EXPIRATION_DATE_TIME,
-                            getConsentExpiryDateTime(sharingDuration));
-                    requestMap.put(FDXCommonConstants.DURATION_PERIOD, sharingDuration);
-
-                    if (authorizationDetailJSON.has(FDXCommonConstants.RESOURCES)) {
-                        JSONArray resources = authorizationDetailJSON.getJSONArray
-                                (FDXCommonConstants.RESOURCES);
-                        Map<String, List<String>> resourcesMap = new HashMap<>();
-
-                        for (int j = 0; j < resources.length(); j++) {
-                            JSONObject resource = resources.getJSONObject(j);
-                            String resourceType = resource.getString(FDXCommonConstants.RESOURCE_TYPE);
-                            JSONArray dataClusters = resource.getJSONArray(FDXCommonConstants.DATA_CLUSTERS_TITLE);
-
-                            List<String> dataClusterList = new ArrayList<>();
-                            for (int k = 0; k < dataClusters.length(); k++) {
-                                dataClusterList.add(dataClusters.getString(k));
-                            }
-                            resourcesMap.put(resourceType, dataClusterList);
-                        }
-                        requestMap.put(FDXCommonConstants.RESOURCES, resourcesMap);
-                    }
-                    consentRequests.put(requestMap);
+        if (requestParameters.isAuthorizationDetailsAvailable()) {
+            JSONObject consentDataObject = new JSONObject();
+            JSONArray consentRequests = new JSONArray();
+            for (ConsentRequest consentRequest : requestParameters.getConsentRequests()) {
+                JSONObject requestObject = new JSONObject();
+                // Use the expiry resolved when the authorization detail was enriched, if any
+                String expiryDateTime = consentRequest.getExpiryDateTime() != null ?
+                        consentRequest.getExpiryDateTime() :
+                        getConsentExpiryDateTime(consentRequest.getDurationPeriod()).toString();
+                requestObject.put(FDXCommonConstants.EXPIRATION_DATE_TIME, expiryDateTime);
+                requestObject.put(FDXCommonConstants.DURATION_PERIOD, consentRequest.getDurationPeriod());
+                if (consentRequest.getResources() != null) {
+                    requestObject.put(FDXCommonConstants.RESOURCES, consentRequest.getResources());
                 }
+                consentRequests.put(requestObject);
             }
             consentDataObject.put(FDXCommonConstants.AUTHORIZATION_DETAILS, consentRequests);
             JSONArray consentDataArray = new JSONArray();
             consentDataObject.put(FDXCommonConstants.TYPE, FDXCommonConstants.FDX_TYPE);
 
             // appending redirect URL
-            consentDataObject.put(FDXCommonConstants.REDIRECT_URL,
-                    requestParameters.getString(FDXCommonConstants.REDIRECT_URL));
+            consentDataObject.put(FDXCommonConstants.REDIRECT_URL, requestParameters.getRedirectUri());
             consentDataArray.put(consentDataObject);
 
             consentRetrievalResponse.put(FDXCommonConstants.CONSENT_DATA, consentDataArray);
@@ -153,17 +216,20 @@ public class FDXConsentRetrievalUtils {
     }
 
     /**
-     * Handles bad requests by populating the response object with error details.
+     * Handles bad requests by populating the response object with error details. The error is taken from the error
+     * payload registry, so the response also carries the precomputed error payload to be written as it is.
      *
      * @param response    The response object to be populated with error details.
      * @param statusCode  The HTTP status code for the error.
      * @param errorMessage The error message to be included in the response.
      */
     public static void handleBadRequests(JSONObject response, Integer statusCode, String errorMessage) {
+        FDXErrorPayload errorPayload = FDXErrorPayloads.getMessage(statusCode, errorMessage);
         response.clear();
         response.put(FDXCommonConstants.STATUS, FailedResponse.StatusEnum.ERROR);
         response.put(FDXCommonConstants.RESPONSE_STATUS, statusCode);
-        response.put(FDXCommonConstants.DATA, new JSONObject().put(FDXCommonConstants.DATA, errorMessage));
+        response.put(FDXCommonConstants.DATA, errorPayload.getData());
+        response.put(FDXCommonConstants.ERROR_PAYLOAD, errorPayload);
     }
 
     /**
@@ -179,14 +245,19 @@ public class FDXConsentRetrievalUtils {
 
     /**
      * Retrieves account data from the specified endpoint and populates the response.
+     * <p>
+     * Only the accounts matching the given filter are requested from the endpoint and cached.
+     * </p>
      *
      * @param populateConsentAuthorizeScreenRequestBody The request body containing the user ID for account retrieval.
+     * @param accountsFilter                            The filter of the accounts needed, or null to load every
+     *                                                  account of the user.
      * @param consentRetrievalResponse                  The response object to be populated with account data.
      * @throws Exception If an error occurs during the retrieval process.
      */
     public static void retrieveAccountData(
             PopulateConsentAuthorizeScreenRequestBody populateConsentAuthorizeScreenRequestBody,
-            JSONObject consentRetrievalResponse) throws JSONException {
+            SharableAccountsFilter accountsFilter, JSONObject consentRetrievalResponse) throws JSONException {
         // If previous validation failed
         if (consentRetrievalResponse.has(FDXCommonConstants.STATUS)) {
             if (consentRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
@@ -200,45 +271,69 @@ public class FDXConsentRetrievalUtils {
         String userId = populateConsentAuthorizeScreenRequestBody.getData().getUserId();
 
         if (StringUtils.isNotBlank(accountsURL)) {
-            Map<String, String> parameters = new HashMap<>();
-            parameters.put(FDXCommonConstants.USER_ID_KEY_NAME, userId);
-            String accountData = getAccountsFromEndpoint(accountsURL, parameters, new HashMap<>());
-
-            if (accountData == null || accountData.isEmpty()) {
-                handleBadRequests(consentRetrievalResponse,
-                        FDXCommonConstants.INTERNAL_SERVER_ERROR,
-                        "Unable to load accounts data for the user: " + userId);
-            }
-
-            try {
-                JSONArray consumerDataObject = new JSONArray();
-                JSONObject jsonAccountData = new JSONObject(accountData);
-                JSONArray accountsArray = jsonAccountData.getJSONArray(FDXCommonConstants.DATA);
-                for (int accountIndex = 0; accountIndex < accountsArray.length(); accountIndex++) {
-                    JSONObject object = accountsArray.getJSONObject(accountIndex);
-                    String accountId = object.getString(FDXCommonConstants.ACCOUNT_ID);
-                    String accountType = object.getString(FDXCommonConstants.ACCOUNT_TYPE);
-
-                    // Masking account ID
-                    boolean isAccountMaskingEnabled = ConfigurableProperties.MASKING_ENABLED;
-
-                    String accountNumberDisplay = accountId;
-                    if (isAccountMaskingEnabled) {
-                        accountNumberDisplay = getMaskedAccountNumber(accountId);
+            List<SharableAccount> accounts = SharableAccountsCache.get(userId, accountsFilter);
+            if (accounts == null) {
+                Map<String, String> parameters = new HashMap<>();
+                parameters.put(FDXCommonConstants.USER_ID_KEY_NAME, userId);
+                if (accountsFilter != null) {
+                    // Push the filter down so that the backend only returns the accounts needed
+                    accountsFilter.addTo(parameters);
+                }
+                String lookupKey = userId == null || accountsFilter == null ? userId : userId + "?" + accountsFilter;
+                try {
+                    // Concurrent lookups for the same user and filter share a single backend call
+                    accounts = ACCOUNT_LOOKUPS.execute(lookupKey, () -> {
+                        List<SharableAccount> loadedAccounts = SharableAccountsBackendGuard.execute(
+                                () -> getAccountsFromEndpoint(accountsURL, parameters, new HashMap<>(),
+                                        accountsFilter));
+                        if (loadedAccounts == null) {
+                            return null;
+                        }
+                        // Mask the accounts once per load so that cached renders reuse the masked account IDs
+                        if (ConfigurableProperties.MASKING_ENABLED) {
+                            loadedAccounts = FDXAccountMaskingEngine.getInstance().maskAccounts(loadedAccounts);
+                        }
+                        loadedAccounts = Collections.unmodifiableList(loadedAccounts);
+                        SharableAccountsCache.put(userId, accountsFilter, loadedAccounts);
+                        return loadedAccounts;
+                    }, FDXBackendUnavailableException.class);
+                } catch (FDXBackendUnavailableException e) {
+                    log.warn("Sharable accounts backend is unavailable. " + e.getMessage());
+                    if (log.isDebugEnabled()) {
+                        log.debug("Sharable accounts backend call failed", e);
                     }
+                    // Serve the last known accounts of the user while the backend is unavailable
+                    accounts = SharableAccountsCache.getLastKnown(userId, accountsFilter);
+                    if (accounts == null) {
+                        handleBadRequests(consentRetrievalResponse, FDXCommonConstants.INTERNAL_SERVER_ERROR,
+                                "Accounts service is temporarily unavailable");
+                        return;
+                    }
+                    SharableAccountsBackendGuard.recordFallback();
+                }
 
-                    JSONObject accountObject = new JSONObject()
-                            .put(FDXCommonConstants.ACCOUNT_ID, accountId)
-                            .put(FDXCommonConstants.ACCOUNT_TYPE, accountType)
-                            .put(FDXCommonConstants.ACCOUNT_ID_DISPLAYABLE, accountNumberDisplay);
-
-                    consumerDataObject.put(accountObject);
+                if (accounts == null) {
+                    // The user is logged rather than included in the error, so that the error payload is shared
+                    log.error("Unable to load accounts data for the user: " + userId);
+                    handleBadRequests(consentRetrievalResponse,
+                            FDXCommonConstants.INTERNAL_SERVER_ERROR,
+                            "Unable to load accounts data for the user");
+                    return;
                 }
-                consentRetrievalResponse.put(FDXCommonConstants.CONSUMER_DATA, consumerDataObject);
-            } catch (JSONException e) {
-                log.error("Error occurred while parsing account data", e);
-                throw new JSONException(e.getMessage());
+            } else if (log.isDebugEnabled()) {
+                log.debug("Loaded sharable accounts from cache. " + SharableAccountsCache.getStatistics());
             }
+
+            JSONArray consumerDataObject = new JSONArray();
+            for (SharableAccount account : accounts) {
+                JSONObject accountObject = new JSONObject()
+                        .put(FDXCommonConstants.ACCOUNT_ID, account.getAccountId())
+                        .put(FDXCommonConstants.ACCOUNT_TYPE, account.getAccountType())
+                        .put(FDXCommonConstants.ACCOUNT_ID_DISPLAYABLE, account.getAccountIdToDisplay());
+
+                consumerDataObject.put(accountObject);
+            }
+            consentRetrievalResponse.put(FDXCommonConstants.CONSUMER_DATA, consumerDataObject);
         } else {
             log.error("Sharable accounts endpoint is not configured properly");
             handleBadRequests(consentRetrievalResponse, FDXCommonConstants.INTERNAL_SERVER_ERROR,
@@ -246,16 +341,31 @@ public class FDXConsentRetrievalUtils {
         }
     }
 
+    /**
+     * Returns the group coalescing concurrent sharable account lookups of the same user, to read its in-flight,
+     * load and coalesced call counts.
+     *
+     * @return The account lookup group.
+     */
+    public static FDXSingleFlight<?, ?> getAccountLookups() {
+        return ACCOUNT_LOOKUPS;
+    }
+
     /**
      * Retrieves account data from the specified endpoint.
      *
-     * @param accountsURL The URL of the accounts endpoint.
-     * @param parameters  The parameters to be sent in the request.
-     * @param headers     The headers to be sent in the request.
-     * @return The response from the endpoint as a string.
+     * @param accountsURL    The URL of the accounts endpoint.
+     * @param parameters     The parameters to be sent in the request.
+     * @param headers        The headers to be sent in the request.
+     * @param accountsFilter The filter of the accounts to keep from the response, or null to keep every account.
+     * @return The accounts returned by the endpoint, or null if the endpoint did not return any accounts.
+     * @throws IOException   If the endpoint cannot be reached or responds with a server error.
+     * @throws JSONException If the response of the endpoint is not in the expected format.
      */
-    public static String getAccountsFromEndpoint(String accountsURL, Map<String, String> parameters,
-                                                 Map<String, String> headers) {
+    public static List<SharableAccount> getAccountsFromEndpoint(String accountsURL, Map<String, String> parameters,
+                                                                Map<String, String> headers,
+                                                                SharableAccountsFilter accountsFilter)
+            throws IOException, JSONException {
 
         String retrieveUrl = accountsURL;
         if (retrieveUrl.endsWith("/")) {
@@ -264,36 +374,46 @@ public class FDXConsentRetrievalUtils {
         if (!parameters.isEmpty()) {
             retrieveUrl = buildRequestURL(retrieveUrl, parameters);
         }
-        try {
-            CloseableHttpClient client = HTTPClientUtils.getHttpsClient();
-            HttpGet request = new HttpGet(retrieveUrl);
-            request.addHeader("Accept", "application/json");
-
-            if (headers != null && !headers.isEmpty()) {
-                for (Map.Entry<String, String> entry : headers.entrySet()) {
-                    if (entry.getKey() != null && entry.getValue() != null) {
-                        request.addHeader(entry.getKey(), entry.getValue());
-                    }
+        FDXHttpClientHolder clientHolder = FDXHttpClientHolder.getInstance();
+        CloseableHttpClient client = clientHolder.getHttpClient();
+        HttpGet request = new HttpGet(retrieveUrl);
+        request.addHeader("Accept", "application/json");
+
+        if (headers != null && !headers.isEmpty()) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null) {
+                    request.addHeader(entry.getKey(), entry.getValue());
                 }
             }
+        }
 
-            HttpResponse response = client.execute(request);
+        // Closing the response returns the connection to the pool
+        try (CloseableHttpResponse response = client.execute(request)) {
             int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                EntityUtils.consumeQuietly(response.getEntity());
+                throw new IOException("Accounts endpoint responded with status code " + statusCode);
+            }
             if (statusCode != HttpURLConnection.HTTP_OK) {
+                EntityUtils.consumeQuietly(response.getEntity());
                 return null;
             }
 
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
-                StringBuilder buffer = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    buffer.append(line);
-                }
-                return buffer.toString();
+            HttpEntity entity = response.getEntity();
+            if (entity == null) {
+                return null;
+            }
+            // Accounts are decoded from the response stream without buffering the whole payload
+            try (InputStream content = entity.getContent()) {
+                return SharableAccountsParser.parseAccounts(content, accountsFilter);
+            } catch (JSONException e) {
+                log.error("Error occurred while parsing account data", e);
+                throw e;
+            }
+        } finally {
+            if (log.isDebugEnabled()) {
+                log.debug("Accounts endpoint connection pool usage: " + clientHolder.getPoolStats());
             }
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
         }
     }
 
@@ -316,77 +436,35 @@ public class FDXConsentRetrievalUtils {
     }
 
     /**
-     * Retrieves data cluster data from the consent retrieval response.
+     * Adds the permission language of the data clusters requested in the bound request parameters to the consent
+     * data of the response. The permission language resolved when the authorization details were enriched is used
+     * if available, otherwise it is looked up by the requested data cluster bitmask.
      *
+     * @param requestParameters        The bound request parameters.
      * @param consentRetrievalResponse The consent retrieval response object.
      */
-    public static void retrieveDataClusterData(JSONObject consentRetrievalResponse) {
+    static void retrieveDataClusterData(ConsentRequestParameters requestParameters,
+                                        JSONObject consentRetrievalResponse) {
 
         // If previous validation failed
-        if (consentRetrievalResponse.has(FDXCommonConstants.STATUS)) {
-            if (consentRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
-                return;
-            }
-        } else {
-            consentRetrievalResponse.put(FDXCommonConstants.STATUS,
-                    SuccessResponsePopulateConsentAuthorizeScreen.StatusEnum.SUCCESS);
+        if (consentRetrievalResponse.get(FDXCommonConstants.STATUS) == FailedResponse.StatusEnum.ERROR) {
+            return;
         }
+        Map<String, List<String>> dataClusterMapping = requestParameters.getPermissionLanguage() != null ?
+                requestParameters.getPermissionLanguage() :
+                FDXDataClusterTable.getPermissionLanguage(requestParameters.getDataClusterBitmask());
         for (Object item : consentRetrievalResponse.getJSONArray(FDXCommonConstants.CONSENT_DATA)) {
-            Map<String, Object> consentDataItem = ((JSONObject) item).toMap();
-            Map<String, List<String>> dataClusterMapping = new HashMap<>();
-
-            List<Map<String, Object>> authDetailArray =
-                    (List<Map<String, Object>>) consentDataItem.get(FDXCommonConstants.AUTHORIZATION_DETAILS);
-
-            for (Map<String, Object> authorizationDetail : authDetailArray) {
-                if (authorizationDetail.containsKey(FDXCommonConstants.RESOURCES)) {
-                    Map<String, List<String>> resources =
-                            (Map<String, List<String>>) authorizationDetail.get(FDXCommonConstants.RESOURCES);
-
-                    for (List<String> dataClusterList : resources.values()) {
-                        for (String dataCluster : dataClusterList) {
-                            Map<String, List<String>> permissionData =
-                                    FDXCommonConstants.DATA_CLUSTERS.get(dataCluster);
-
-                            if (permissionData != null && !permissionData.isEmpty()) {
-                                Map.Entry<String, List<String>> firstEntry =
-                                        permissionData.entrySet().iterator().next();
-                                dataClusterMapping.put(firstEntry.getKey(), firstEntry.getValue());
-                            }
-                        }
-                    }
-                }
-            }
-
-            // Add the final dataClusterMapping back into the consentDataItem
             ((JSONObject) item).put(FDXCommonConstants.DATA_REQUESTED, dataClusterMapping);
         }
     }
 
     /**
-     * Masks the account number based on its length.
+     * Masks the account number based on its length, using the default masking policy.
      *
      * @param accountId The account ID to be masked.
      * @return The masked account number.
      */
     public static String getMaskedAccountNumber(String accountId) {
-        int accountIdLength = accountId.length();
-        if (accountIdLength > 1) {
-            if (accountIdLength < 4) {
-                // If the length is less than 4, mask all but the last character
-                String maskedPart = StringUtils.repeat('*', accountIdLength - 1);
-                String visiblePart = StringUtils.right(accountId, 1);
-                return maskedPart + visiblePart;
-            } else if (accountIdLength == 4) {
-                // If the length is exactly 4, mask all but the last two characters
-                return "**" + StringUtils.right(accountId, 2);
-            } else {
-                // If the length is greater than 4, mask all but the last 4 characters
-                String maskedPart = StringUtils.repeat('*', accountIdLength - 4);
-                String visiblePart = StringUtils.right(accountId, 4);
-                return maskedPart + visiblePart;
-            }
-        }
-        return accountId;
+        return FDXAccountMaskingEngine.getInstance().mask(null, accountId);
     }
 }
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Indexed, immutable view of the FDX data clusters defined in {@link FDXCommonConstants#DATA_CLUSTERS}.
+ * <p>
+ * Each data cluster is assigned a bit in declaration order, so a set of data clusters can be represented as a
+ * bitmask. The permission language shown on the consent screen for a set of data clusters depends only on that set,
+ * hence it is built once per bitmask and served from an array on subsequent lookups.
+ * </p>
+ */
+public class FDXDataClusterTable {
+
+    private static final String[] CLUSTER_NAMES;
+    private static final String[] UX_NAMES;
+    private static final List<String>[] UX_DESCRIPTIONS;
+    private static final Map<String, Integer> CLUSTER_INDEXES;
+    private static final AtomicReferenceArray<Map<String, List<String>>> PERMISSION_LANGUAGES;
+
+    static {
+        int clusterCount = FDXCommonConstants.DATA_CLUSTERS.size();
+        if (clusterCount >= Integer.SIZE) {
+            throw new IllegalStateException("Data clusters cannot be represented as an integer bitmask");
+        }
+
+        CLUSTER_NAMES = new String[clusterCount];
+        UX_NAMES = new String[clusterCount];
+        @SuppressWarnings("unchecked")
+        List<String>[] uxDescriptions = new List[clusterCount];
+        Map<String, Integer> clusterIndexes = new HashMap<>();
+
+        int index = 0;
+        for (Map.Entry<String, Map<String, List<String>>> dataCluster :
+                FDXCommonConstants.DATA_CLUSTERS.entrySet()) {
+            Map.Entry<String, List<String>> permissionLanguage =
+                    dataCluster.getValue().entrySet().iterator().next();
+            CLUSTER_NAMES[index] = dataCluster.getKey();
+            UX_NAMES[index] = permissionLanguage.getKey();
+            uxDescriptions[index] = Collections.unmodifiableList(permissionLanguage.getValue());
+            clusterIndexes.put(dataCluster.getKey(), index);
+            index++;
+        }
+
+        UX_DESCRIPTIONS = uxDescriptions;
+        CLUSTER_INDEXES = Collections.unmodifiableMap(clusterIndexes);
+        PERMISSION_LANGUAGES = new AtomicReferenceArray<>(1 << clusterCount);
+    }
+
+    public static int getDataClusterCount() {
+        return CLUSTER_NAMES.length;
+    }
+
+    /**
+     * Returns the name of the data cluster at the given index, which is also the position of its bit.
+     *
+     * @param index The index of the data cluster.
+     * @return The name of the data cluster.
+     */
+    public static String getDataCluster(int index) {
+        return CLUSTER_NAMES[index];
+    }
+
+    /**
+     * Returns the bit of the given data cluster.
+     *
+     * @param dataCluster The name of the data cluster.
+     * @return The bit of the data cluster, or 0 if the data cluster is not known.
+     */
+    public static int getBit(String dataCluster) {
+        Integer index = CLUSTER_INDEXES.get(dataCluster);
+        return index == null ? 0 : 1 << index;
+    }
+
+    /**
+     * Returns the bitmask of the given data clusters. Unknown data clusters are ignored.
+     *
+     * @param dataClusters The names of the data clusters.
+     * @return The bitmask of the data clusters.
+     */
+    public static int toBitmask(Iterable<String> dataClusters) {
+        int bitmask = 0;
+        for (String dataCluster : dataClusters) {
+            bitmask |= getBit(dataCluster);
+        }
+        return bitmask;
+    }
+
+    /**
+     * Returns the given bitmask without the bits of the data clusters that are not known to this table.
+     *
+     * @param bitmask The bitmask of the data clusters.
+     * @return The bitmask of the known data clusters.
+     */
+    public static int retainKnown(int bitmask) {
+        return bitmask & ((1 << CLUSTER_NAMES.length) - 1);
+    }
+
+    /**
+     * Returns the permission language of the data clusters in the given bitmask, keyed by the UX name of each data
+     * cluster. The returned map is shared between callers and cannot be modified.
+     *
+     * @param bitmask The bitmask of the data clusters.
+     * @return The UX descriptions of the data clusters keyed by their UX names.
+     */
+    public static Map<String, List<String>> getPermissionLanguage(int bitmask) {
+        Map<String, List<String>> permissionLanguage = PERMISSION_LANGUAGES.get(bitmask);
+        if (permissionLanguage == null) {
+            Map<String, List<String>> builtPermissionLanguage = new LinkedHashMap<>();
+            for (int index = 0; index < CLUSTER_NAMES.length; index++) {
+                if ((bitmask & (1 << index)) != 0) {
+                    builtPermissionLanguage.put(UX_NAMES[index], UX_DESCRIPTIONS[index]);
+                }
+            }
+            // Concurrent callers may build the same map, the first one to be stored is kept
+            PERMISSION_LANGUAGES.compareAndSet(bitmask, null,
+                    Collections.unmodifiableMap(builtPermissionLanguage));
+            permissionLanguage = PERMISSION_LANGUAGES.get(bitmask);
+        }
+        return permissionLanguage;
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Immutable error of the FDX extension APIs, with its response bodies serialized once when it is created.
+ * <p>
+ * Writing an error response only copies the serialized bytes to the response stream, so producing an error costs no
+ * object construction or serialization. The JSON form of the payload, used when the error is embedded in another
+ * response, is its error data object. Only the serialized forms are kept, so a shared payload cannot be modified.
+ * </p>
+ */
+public final class FDXErrorPayload implements JSONString {
+
+    private static final byte[] RESPONSE_ID_PREFIX =
+            ("{\"" + FDXCommonConstants.RESPONSE_ID + "\":\"").getBytes(StandardCharsets.UTF_8);
+
+    private final int statusCode;
+    private final String dataJson;
+    private final StreamingOutput failedResponseEntity;
+    private final StreamingOutput errorResponseEntity;
+    private final byte[] mappedResponseSuffix;
+
+    FDXErrorPayload(int statusCode, JSONObject data) {
+        this.statusCode = statusCode;
+        this.dataJson = data.toString();
+
+        byte[] failedResponse = ("{\"" + FDXCommonConstants.STATUS + "\":\"ERROR\",\"" +
+                FDXCommonConstants.ERROR_CODE + "\":" + statusCode + ",\"" + FDXCommonConstants.DATA + "\":" +
+                dataJson + "}").getBytes(StandardCharsets.UTF_8);
+        byte[] errorResponse = ("{\"" + FDXCommonConstants.STATUS + "\":\"ERROR\",\"" + FDXCommonConstants.DATA +
+                "\":" + dataJson + "}").getBytes(StandardCharsets.UTF_8);
+        this.failedResponseEntity = outputStream -> outputStream.write(failedResponse);
+        this.errorResponseEntity = outputStream -> outputStream.write(errorResponse);
+        this.mappedResponseSuffix = ("\"" + FDXCommonConstants.ERROR_CODE + "\":" + statusCode + ",\"" +
+                FDXCommonConstants.DATA + "\":" + dataJson + "}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns a new copy of the error data object, which the caller may modify.
+     *
+     * @return The error data.
+     */
+    public JSONObject getData() {
+        return new JSONObject(dataJson);
+    }
+
+    /**
+     * Returns the entity writing the error as a failed response, sent with the OK status.
+     *
+     * @return The failed response entity.
+     */
+    public StreamingOutput toFailedResponseEntity() {
+        return failedResponseEntity;
+    }
+
+    /**
+     * Returns the entity writing the error as an error response, sent with the status of the error.
+     *
+     * @return The error response entity.
+     */
+    public StreamingOutput toErrorResponseEntity() {
+        return errorResponseEntity;
+    }
+
+    /**
+     * Returns the entity writing the error as the response of an error mapping request.
+     *
+     * @param responseId The ID of the response, or null if the request has no ID.
+     * @return The error mapping response entity.
+     */
+    public StreamingOutput toMappedResponseEntity(String responseId) {
+        if (responseId == null) {
+            return outputStream -> {
+                outputStream.write('{');
+                outputStream.write(mappedResponseSuffix);
+            };
+        }
+        byte[] quotedResponseId = JsonStringEncoder.getInstance().quoteAsUTF8(responseId);
+        return outputStream -> {
+            outputStream.write(RESPONSE_ID_PREFIX);
+            outputStream.write(quotedResponseId);
+            outputStream.write('"');
+            outputStream.write(',');
+            outputStream.write(mappedResponseSuffix);
+        };
+    }
+
+    @Override
+    public String toJSONString() {
+        return dataJson;
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONObject;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the error payloads of the FDX extension APIs, keyed by status code, error code and description.
+ * <p>
+ * Each error is built and serialized on its first use and shared afterwards, so errors raised repeatedly, as during
+ * a backend outage, are produced without any serialization. The registry holds at most the configured number of
+ * errors. Errors with descriptions derived from the request, such as parser messages, are built for each use with
+ * {@link #create(int, String, String)} and never registered, so that callers cannot fill the registry.
+ * </p>
+ * <p>
+ * Accelerator errors are mapped to the FDX errors configured in
+ * {@link ConfigurableProperties#ACCELERATOR_ERROR_MAPPINGS}, compiled once. The descriptions of accelerator errors
+ * are sent with the request, so mapped errors are built for each use and never registered.
+ * </p>
+ */
+public class FDXErrorPayloads {
+
+    private static final ConcurrentMap<Key, FDXErrorPayload> PAYLOADS = new ConcurrentHashMap<>();
+    private static final Map<String, MappedError> ERROR_MAPPINGS =
+            compileErrorMappings(ConfigurableProperties.ACCELERATOR_ERROR_MAPPINGS);
+    private static final MappedError DEFAULT_MAPPED_ERROR = new MappedError(500, FDXCommonConstants.SERVER_ERROR_MSG);
+
+    // Shapes of the error data objects
+    private static final int ERROR_DESCRIPTION_SHAPE = 0;
+    private static final int MESSAGE_SHAPE = 1;
+    private static final int MAPPED_ERROR_SHAPE = 2;
+
+    /**
+     * Returns the error with the given status code, error message and description. Its data object holds the error
+     * message and description.
+     *
+     * @param statusCode       The HTTP status code of the error.
+     * @param errorMessage     The error message, such as invalid_request.
+     * @param errorDescription The description of the error.
+     * @return The error payload.
+     */
+    public static FDXErrorPayload get(int statusCode, String errorMessage, String errorDescription) {
+        return get(new Key(ERROR_DESCRIPTION_SHAPE, statusCode, errorMessage, errorDescription));
+    }
+
+    /**
+     * Builds an error with the given status code, error message and description without registering it, for
+     * descriptions derived from the request. Its data object holds the error message and description.
+     *
+     * @param statusCode       The HTTP status code of the error.
+     * @param errorMessage     The error message, such as invalid_request.
+     * @param errorDescription The description of the error.
+     * @return The error payload.
+     */
+    public static FDXErrorPayload create(int statusCode, String errorMessage, String errorDescription) {
+        return build(new Key(ERROR_DESCRIPTION_SHAPE, statusCode, errorMessage, errorDescription));
+    }
+
+    /**
+     * Returns the error with the given status code and message. Its data object holds the message as its data, the
+     * format of the consent retrieval errors.
+     *
+     * @param statusCode The HTTP status code of the error.
+     * @param message    The error message.
+     * @return The error payload.
+     */
+    public static FDXErrorPayload getMessage(int statusCode, String message) {
+        return get(new Key(MESSAGE_SHAPE, statusCode, null, message));
+    }
+
+    /**
+     * Builds the FDX error mapped from the given accelerator error without registering it. Its data object holds the
+     * custom error code and description.
+     *
+     * @param acceleratorErrorCode The error code of the accelerator, the HTTP status code of the error.
+     * @param description          The description of the error.
+     * @return The error payload.
+     */
+    public static FDXErrorPayload createMapped(String acceleratorErrorCode, String description) {
+        MappedError mappedError = acceleratorErrorCode == null ? DEFAULT_MAPPED_ERROR :
+                ERROR_MAPPINGS.getOrDefault(acceleratorErrorCode.trim(), DEFAULT_MAPPED_ERROR);
+        return build(new Key(MAPPED_ERROR_SHAPE, mappedError.statusCode, mappedError.errorCode, description));
+    }
+
+    /**
+     * Returns the number of errors held by the registry.
+     *
+     * @return The number of errors.
+     */
+    public static int size() {
+        return PAYLOADS.size();
+    }
+
+    /**
+     * Removes all the errors held by the registry.
+     */
+    public static void invalidateAll() {
+        PAYLOADS.clear();
+    }
+
+    private static FDXErrorPayload get(Key key) {
+        FDXErrorPayload payload = PAYLOADS.get(key);
+        if (payload != null) {
+            return payload;
+        }
+        if (PAYLOADS.size() >= ConfigurableProperties.ERROR_PAYLOAD_REGISTRY_MAX_ENTRIES) {
+            return build(key);
+        }
+        return PAYLOADS.computeIfAbsent(key, FDXErrorPayloads::build);
+    }
+
+    private static FDXErrorPayload build(Key key) {
+        JSONObject data = new JSONObject();
+        switch (key.shape) {
+            case MESSAGE_SHAPE:
+                data.put(FDXCommonConstants.DATA, key.description);
+                break;
+            case MAPPED_ERROR_SHAPE:
+                data.put(FDXCommonConstants.CUSTOM_ERROR_CODE, key.errorCode);
+                data.put(FDXCommonConstants.CUSTOM_ERROR_DESCRIPTION, key.description);
+                break;
+            default:
+                data.put(FDXCommonConstants.ERROR_MESSAGE, key.errorCode);
+                data.put(FDXCommonConstants.ERROR_DESCRIPTION, key.description);
+                break;
+        }
+        return new FDXErrorPayload(key.statusCode, data);
+    }
+
+    /**
+     * Compiles the given accelerator error mappings.
+     *
+     * @param errorMappings The comma separated mappings, each of the form acceleratorCode=statusCode:errorCode.
+     * @return The FDX error of each accelerator error code.
+     * @throws IllegalArgumentException If a mapping is not in the expected form.
+     */
+    static Map<String, MappedError> compileErrorMappings(String errorMappings) {
+
+        Map<String, MappedError> mappings = new HashMap<>();
+        for (String mapping : errorMappings.split(",")) {
+            int separatorIndex = mapping.indexOf('=');
+            int codeSeparatorIndex = mapping.indexOf(':', separatorIndex + 1);
+            if (separatorIndex <= 0 || codeSeparatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid accelerator error mapping: " + mapping);
+            }
+            try {
+                mappings.put(mapping.substring(0, separatorIndex).trim(), new MappedError(
+                        Integer.parseInt(mapping.substring(separatorIndex + 1, codeSeparatorIndex).trim()),
+                        mapping.substring(codeSeparatorIndex + 1).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid accelerator error mapping: " + mapping, e);
+            }
+        }
+        return Collections.unmodifiableMap(mappings);
+    }
+
+    /**
+     * FDX error an accelerator error is mapped to.
+     */
+    static final class MappedError {
+        private final int statusCode;
+        private final String errorCode;
+
+        private MappedError(int statusCode, String errorCode) {
+            this.statusCode = statusCode;
+            this.errorCode = errorCode;
+        }
+    }
+
+    /**
+     * Key of the registry.
+     */
+    private static final class Key {
+        private final int shape;
+        private final int statusCode;
+        private final String errorCode;
+        private final String description;
+
+        private Key(int shape, int statusCode, String errorCode, String description) {
+            this.shape = shape;
+            this.statusCode = statusCode;
+            this.errorCode = errorCode;
+            this.description = description;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return shape == key.shape && statusCode == key.statusCode && Objects.equals(errorCode, key.errorCode) &&
+                    Objects.equals(description, key.description);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shape, statusCode, errorCode, description);
+        }
+    }
+}
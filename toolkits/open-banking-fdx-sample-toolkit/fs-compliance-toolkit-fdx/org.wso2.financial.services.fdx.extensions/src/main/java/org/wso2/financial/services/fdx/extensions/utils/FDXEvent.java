@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONString;
+
+/**
+ * Event held by the event store of a client.
+ * <p>
+ * The payload is kept as serialized JSON, so it is written to the polling responses as-is without being serialized
+ * again for every poll.
+ * </p>
+ */
+public final class FDXEvent implements JSONString {
+
+    private final long sequence;
+    private final String payload;
+
+    public FDXEvent(long sequence, String payload) {
+        this.sequence = sequence;
+        this.payload = payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    @Override
+    public String toJSONString() {
+        return payload;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class to create and poll the events of the event store.
+ * <p>
+ * Events are identified by their sequence number within the events of the client. A poll acknowledges the events
+ * listed in its ack and setErrs members and returns the following unacknowledged events, up to the requested maximum.
+ * Acknowledgements are cumulative, an acknowledged sequence number also acknowledging the earlier events.
+ * </p>
+ */
+public class FDXEventPollingUtils {
+
+    /**
+     * Stores the given event for the client it is created for.
+     *
+     * @param eventData The event creation data, holding the client ID of the event.
+     * @return The sequence number of the event.
+     * @throws ConsentException If the event data is invalid or the event store is full.
+     */
+    public static long createEvent(Object eventData) throws ConsentException {
+
+        Map<?, ?> eventDataMap = toMap(eventData, "Event data");
+        return FDXEventStore.append(getClientId(eventDataMap), new JSONObject(eventDataMap).toString());
+    }
+
+    /**
+     * Validates the given event polling data and acknowledges the events listed in it.
+     *
+     * @param eventPollingData The event polling data sent by the third party.
+     * @throws ConsentException If the event polling data is invalid.
+     */
+    public static void validatePolling(Object eventPollingData) throws ConsentException {
+
+        Map<?, ?> pollingDataMap = toMap(eventPollingData, "Event polling data");
+        getMaxEvents(pollingDataMap);
+        acknowledge(getClientId(pollingDataMap), pollingDataMap);
+    }
+
+    /**
+     * Acknowledges the events listed in the given event polling data and returns the following events of the client.
+     *
+     * @param eventPollingData The event polling data sent by the third party.
+     * @return The event polling response, holding the events by their sequence number and whether more events are
+     *         available.
+     * @throws ConsentException If the event polling data is invalid.
+     */
+    public static JSONObject poll(Object eventPollingData) throws ConsentException {
+
+        Map<?, ?> pollingDataMap = toMap(eventPollingData, "Event polling data");
+        int maxEvents = getMaxEvents(pollingDataMap);
+        FDXEventRingBuffer eventBuffer = acknowledge(getClientId(pollingDataMap), pollingDataMap);
+
+        List<FDXEvent> events = new ArrayList<>(Math.min(maxEvents, 16));
+        boolean moreAvailable = eventBuffer != null && eventBuffer.poll(maxEvents, events);
+
+        JSONObject sets = new JSONObject();
+        for (FDXEvent event : events) {
+            sets.put(Long.toString(event.getSequence()), event);
+        }
+        JSONObject pollingResponse = new JSONObject();
+        pollingResponse.put(FDXCommonConstants.SETS, sets);
+        pollingResponse.put(FDXCommonConstants.MORE_AVAILABLE, moreAvailable);
+        return pollingResponse;
+    }
+
+    private static FDXEventRingBuffer acknowledge(String clientId, Map<?, ?> pollingDataMap) throws ConsentException {
+
+        long acknowledgedSequence = Math.max(getLastSequence(pollingDataMap.get(FDXCommonConstants.ACK)),
+                getLastSequence(pollingDataMap.get(FDXCommonConstants.SET_ERRORS)));
+        FDXEventRingBuffer eventBuffer = FDXEventStore.get(clientId);
+        // Events of a dropped buffer were acknowledged or given up, so acknowledging them again is accepted
+        if (acknowledgedSequence > 0 && (eventBuffer == null ? !FDXEventStore.isDropped(acknowledgedSequence) :
+                !eventBuffer.acknowledge(acknowledgedSequence))) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST,
+                    "Acknowledged event " + acknowledgedSequence + " is unknown");
+        }
+        return eventBuffer;
+    }
+
+    /**
+     * Returns the highest sequence number of the given acknowledgements. The ack member lists sequence numbers while
+     * the setErrs member maps them to the errors of the events, both being accepted in either form.
+     */
+    private static long getLastSequence(Object acknowledgements) throws ConsentException {
+
+        if (acknowledgements == null) {
+            return 0;
+        }
+        Collection<?> sequences;
+        if (acknowledgements instanceof Map) {
+            sequences = ((Map<?, ?>) acknowledgements).keySet();
+        } else if (acknowledgements instanceof Collection) {
+            sequences = (Collection<?>) acknowledgements;
+        } else {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid event acknowledgements");
+        }
+
+        long lastSequence = 0;
+        for (Object sequence : sequences) {
+            try {
+                lastSequence = Math.max(lastSequence, sequence instanceof Number ? ((Number) sequence).longValue()
+                        : Long.parseLong(String.valueOf(sequence)));
+            } catch (NumberFormatException e) {
+                throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid acknowledged event " + sequence);
+            }
+        }
+        return lastSequence;
+    }
+
+    private static int getMaxEvents(Map<?, ?> pollingDataMap) throws ConsentException {
+
+        Object maxEvents = pollingDataMap.get(FDXCommonConstants.MAX_EVENTS);
+        if (maxEvents == null) {
+            return ConfigurableProperties.EVENT_POLLING_MAX_EVENTS;
+        }
+        if (!(maxEvents instanceof Number) || ((Number) maxEvents).intValue() < 0) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid maximum number of events");
+        }
+        return Math.min(((Number) maxEvents).intValue(), ConfigurableProperties.EVENT_POLLING_MAX_EVENTS);
+    }
+
+    private static String getClientId(Map<?, ?> dataMap) throws ConsentException {
+
+        Object clientId = dataMap.get(FDXCommonConstants.CLIENT_ID);
+        if (!(clientId instanceof String) || ((String) clientId).isEmpty()) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Client ID is missing");
+        }
+        return (String) clientId;
+    }
+
+    private static Map<?, ?> toMap(Object data, String name) throws ConsentException {
+
+        if (!(data instanceof Map)) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, name + " is missing");
+        }
+        return (Map<?, ?>) data;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed size ring buffer holding the events of a client.
+ * <p>
+ * Each event is assigned the next sequence number of the buffer, starting from 1 unless another first sequence number
+ * is given, and is stored in the slot given by
+ * its sequence number. Appends only claim a sequence number and publish the event to its slot, so they do not block
+ * each other or the pollers. Acknowledgements are cumulative: acknowledging a sequence number acknowledges every
+ * earlier event, so the state of a subscriber is a single number. A poll reads the slots following the last
+ * acknowledged event, so its cost depends only on the number of events it returns. Once the buffer is full, the
+ * oldest events are overwritten whether they are acknowledged or not, and the overwritten unacknowledged events are
+ * counted as dropped.
+ * </p>
+ */
+public final class FDXEventRingBuffer {
+
+    private final AtomicReferenceArray<FDXEvent> slots;
+    private final int mask;
+    private final AtomicLong nextSequence;
+    private final AtomicLong acknowledgedSequence;
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile long lastAccessNanos = System.nanoTime();
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param capacity The maximum number of events held by the buffer, rounded up to a power of 2.
+     */
+    public FDXEventRingBuffer(int capacity) {
+        this(capacity, 1);
+    }
+
+    /**
+     * Creates a ring buffer assigning sequence numbers from the given number. Earlier sequence numbers are treated
+     * as acknowledged.
+     *
+     * @param capacity      The maximum number of events held by the buffer, rounded up to a power of 2.
+     * @param firstSequence The sequence number of the first event of the buffer.
+     */
+    public FDXEventRingBuffer(int capacity, long firstSequence) {
+        int slotCount = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.mask = slotCount - 1;
+        this.nextSequence = new AtomicLong(firstSequence);
+        this.acknowledgedSequence = new AtomicLong(firstSequence - 1);
+    }
+
+    /**
+     * Appends an event to the buffer.
+     *
+     * @param payload The serialized JSON payload of the event.
+     * @return The sequence number of the event.
+     */
+    public long append(String payload) {
+
+        lastAccessNanos = System.nanoTime();
+        long sequence = nextSequence.getAndIncrement();
+        FDXEvent event = new FDXEvent(sequence, payload);
+        int slot = (int) (sequence & mask);
+        FDXEvent current;
+        do {
+            current = slots.get(slot);
+            // A concurrent append of a later lap has already taken the slot
+            if (current != null && current.getSequence() > sequence) {
+                droppedCount.increment();
+                return sequence;
+            }
+        } while (!slots.compareAndSet(slot, current, event));
+
+        if (current != null && current.getSequence() > acknowledgedSequence.get()) {
+            droppedCount.increment();
+        }
+        return sequence;
+    }
+
+    /**
+     * Acknowledges the event of the given sequence number and every earlier event. Sequence numbers which are not
+     * yet assigned are ignored.
+     *
+     * @param sequence The sequence number of the last event processed by the client.
+     * @return True if the sequence number is valid for the buffer.
+     */
+    public boolean acknowledge(long sequence) {
+        lastAccessNanos = System.nanoTime();
+        if (sequence < 1 || sequence >= nextSequence.get()) {
+            return false;
+        }
+        acknowledgedSequence.accumulateAndGet(sequence, Math::max);
+        return true;
+    }
+
+    /**
+     * Reads the unacknowledged events of the buffer, oldest first. The events are kept until they are acknowledged.
+     *
+     * @param maxEvents The maximum number of events to read.
+     * @param events    The list the events are added to.
+     * @return True if more unacknowledged events are available than were read.
+     */
+    public boolean poll(int maxEvents, List<FDXEvent> events) {
+
+        lastAccessNanos = System.nanoTime();
+        long end = nextSequence.get();
+        long from = Math.max(acknowledgedSequence.get() + 1, end - slots.length());
+        long to = Math.min(end, from + maxEvents);
+        for (long sequence = from; sequence < to; sequence++) {
+            FDXEvent event = slots.get((int) (sequence & mask));
+            if (event == null || event.getSequence() < sequence) {
+                // The event is not yet published by its append, later events are returned by the next poll
+                return true;
+            }
+            if (event.getSequence() == sequence) {
+                events.add(event);
+            }
+        }
+        return to < end;
+    }
+
+    public long getAcknowledgedSequence() {
+        return acknowledgedSequence.get();
+    }
+
+    public long getLastSequence() {
+        return nextSequence.get() - 1;
+    }
+
+    /**
+     * Checks whether every event of the buffer is acknowledged, so that dropping the buffer loses no event.
+     *
+     * @return True if no event is waiting to be acknowledged.
+     */
+    public boolean isFullyAcknowledged() {
+        return acknowledgedSequence.get() >= nextSequence.get() - 1;
+    }
+
+    /**
+     * Checks whether the buffer was not appended to, polled or acknowledged within the given time.
+     *
+     * @param nowNanos  The current time as given by {@link System#nanoTime()}.
+     * @param idleNanos The time after which the buffer is idle.
+     * @return True if the buffer is idle.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastAccessNanos >= idleNanos;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+}
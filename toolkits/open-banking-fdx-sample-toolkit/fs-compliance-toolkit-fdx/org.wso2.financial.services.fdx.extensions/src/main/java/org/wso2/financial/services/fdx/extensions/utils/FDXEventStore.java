@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process store of the events created for each client, to be delivered through event polling.
+ * <p>
+ * Each client is given its own ring buffer of the configured capacity, so the memory held for a client is bounded
+ * regardless of how often it polls. The number of clients is bounded as well. Once the store holds the maximum number
+ * of clients, the buffers holding no unacknowledged events and the buffers of clients idle for the configured time
+ * are dropped to make room for new clients. Sequence numbers of a client keep increasing when its buffer is created
+ * again, so acknowledgements of dropped events are never mistaken for new events.
+ * </p>
+ */
+public class FDXEventStore {
+
+    private static final ConcurrentMap<String, FDXEventRingBuffer> EVENT_BUFFERS = new ConcurrentHashMap<>();
+    // Highest sequence number of the dropped buffers, the buffers created afterwards starting after it
+    private static final AtomicLong DROPPED_SEQUENCE = new AtomicLong();
+
+    /**
+     * Appends an event for the given client.
+     *
+     * @param clientId The client ID of the third party the event is created for.
+     * @param payload  The serialized JSON payload of the event.
+     * @return The sequence number of the event.
+     * @throws ConsentException If the store holds the maximum number of clients and none of them can be dropped.
+     */
+    public static long append(String clientId, String payload) throws ConsentException {
+
+        return append(clientId, payload, ConfigurableProperties.EVENT_STORE_MAX_CLIENTS,
+                ConfigurableProperties.EVENT_STORE_CLIENT_IDLE_MILLIS);
+    }
+
+    static long append(String clientId, String payload, int maxClients, long clientIdleMillis)
+            throws ConsentException {
+
+        while (true) {
+            FDXEventRingBuffer eventBuffer = EVENT_BUFFERS.get(clientId);
+            if (eventBuffer == null) {
+                if (EVENT_BUFFERS.size() >= maxClients) {
+                    dropBuffers(clientIdleMillis);
+                    if (EVENT_BUFFERS.size() >= maxClients) {
+                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
+                                "Event store has reached the maximum number of clients");
+                    }
+                }
+                eventBuffer = EVENT_BUFFERS.computeIfAbsent(clientId, key -> new FDXEventRingBuffer(
+                        ConfigurableProperties.EVENT_STORE_CAPACITY_PER_CLIENT, DROPPED_SEQUENCE.get() + 1));
+            }
+            long sequence = eventBuffer.append(payload);
+            // The buffer may have been dropped while the event was appended, the event is appended again
+            if (EVENT_BUFFERS.get(clientId) == eventBuffer) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Returns the events of the given client.
+     *
+     * @param clientId The client ID of the third party.
+     * @return The event buffer of the client, or null if no events were created for the client.
+     */
+    public static FDXEventRingBuffer get(String clientId) {
+        return EVENT_BUFFERS.get(clientId);
+    }
+
+    /**
+     * Checks whether the given sequence number may belong to an event of a dropped buffer.
+     *
+     * @param sequence The sequence number.
+     * @return True if the sequence number is not later than the events of the dropped buffers.
+     */
+    public static boolean isDropped(long sequence) {
+        return sequence <= DROPPED_SEQUENCE.get();
+    }
+
+    /**
+     * Returns the number of clients holding events in the store.
+     *
+     * @return The number of clients.
+     */
+    public static int getClientCount() {
+        return EVENT_BUFFERS.size();
+    }
+
+    /**
+     * Removes the events of all the clients.
+     */
+    public static void invalidateAll() {
+        EVENT_BUFFERS.clear();
+        DROPPED_SEQUENCE.set(0);
+    }
+
+    /**
+     * Drops the buffers holding no unacknowledged events and the buffers idle for the given time.
+     */
+    private static void dropBuffers(long clientIdleMillis) {
+
+        long nowNanos = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(clientIdleMillis);
+        Iterator<Map.Entry<String, FDXEventRingBuffer>> iterator = EVENT_BUFFERS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, FDXEventRingBuffer> entry = iterator.next();
+            FDXEventRingBuffer eventBuffer = entry.getValue();
+            if ((eventBuffer.isFullyAcknowledged() || eventBuffer.isIdle(nowNanos, idleNanos)) &&
+                    EVENT_BUFFERS.remove(entry.getKey(), eventBuffer)) {
+                DROPPED_SEQUENCE.accumulateAndGet(eventBuffer.getLastSequence(), Math::max);
+            }
+        }
+    }
+}
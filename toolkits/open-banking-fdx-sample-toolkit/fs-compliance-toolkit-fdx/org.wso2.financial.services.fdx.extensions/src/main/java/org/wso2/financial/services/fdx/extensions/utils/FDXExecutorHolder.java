@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder class for the bounded executor used by the FDX extensions to run backend calls in parallel with the
+ * request processing.
+ * <p>
+ * The number of worker threads and queued tasks are bounded. When both are exhausted the task is run on the calling
+ * thread, so an overloaded server falls back to sequential processing instead of rejecting requests. The executor is
+ * shut down by {@link #shutdown()} when the web application is undeployed.
+ * </p>
+ */
+public class FDXExecutorHolder {
+
+    private static final Log log = LogFactory.getLog(FDXExecutorHolder.class);
+    private static final String THREAD_NAME_PREFIX = "fdx-extensions-worker-";
+    private static volatile FDXExecutorHolder instance;
+    private final ThreadPoolExecutor executor;
+
+    private FDXExecutorHolder() {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        this.executor = new ThreadPoolExecutor(ConfigurableProperties.EXECUTOR_POOL_SIZE,
+                ConfigurableProperties.EXECUTOR_POOL_SIZE,
+                ConfigurableProperties.EXECUTOR_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ConfigurableProperties.EXECUTOR_QUEUE_CAPACITY),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static FDXExecutorHolder getInstance() {
+        if (instance == null) {
+            synchronized (FDXExecutorHolder.class) {
+                if (instance == null) {
+                    instance = new FDXExecutorHolder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the executor. Tasks which are already running are allowed to complete.
+     */
+    public static void shutdown() {
+        synchronized (FDXExecutorHolder.class) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                try {
+                    if (!instance.executor.awaitTermination(ConfigurableProperties.HTTP_SOCKET_TIMEOUT_MILLIS,
+                            TimeUnit.MILLISECONDS)) {
+                        instance.executor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    log.error("Interrupted while waiting for the FDX extensions executor to terminate", e);
+                    instance.executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+                instance = null;
+            }
+        }
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue of the executor.
+     *
+     * @return The number of queued tasks.
+     */
+    public int getQueuedTaskCount() {
+        return this.executor.getQueue().size();
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded in-memory cache with a time to live for each entry.
+ * <p>
+ * Entries are weighed when they are added and the least recently used entries are evicted once the total weight
+ * exceeds the configured maximum. Expired entries are dropped when they are read. Hit, miss and eviction counts are
+ * kept so that the effectiveness of the cache can be monitored.
+ * </p>
+ *
+ * @param <K> The type of the cache keys.
+ * @param <V> The type of the cached values.
+ */
+public class FDXExpiringCache<K, V> {
+
+    private static final Log log = LogFactory.getLog(FDXExpiringCache.class);
+
+    private final String name;
+    private final long timeToLiveNanos;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private long totalWeight;
+
+    /**
+     * Creates a cache.
+     *
+     * @param name             The name of the cache, used in logs.
+     * @param timeToLiveMillis The time in milliseconds an entry stays valid after it is added.
+     * @param maxWeight        The maximum total weight of the entries held by the cache.
+     * @param weigher          The function used to compute the weight of a value.
+     */
+    public FDXExpiringCache(String name, long timeToLiveMillis, long maxWeight, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the value cached against the given key.
+     *
+     * @param key The cache key.
+     * @return The cached value, or null if the key is not cached or the entry has expired.
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                removeEntry(key);
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Adds a value to the cache, replacing any value cached against the same key.
+     *
+     * @param key   The cache key.
+     * @param value The value to cache.
+     */
+    public void put(K key, V value) {
+        long weight = Math.max(1, weigher.applyAsLong(value));
+        if (weight > maxWeight) {
+            if (log.isDebugEnabled()) {
+                log.debug("Skipped caching an entry in " + name + " since its weight exceeds the cache limit");
+            }
+            return;
+        }
+        synchronized (entries) {
+            removeEntry(key);
+            entries.put(key, new CacheEntry<>(value, weight, System.nanoTime() + timeToLiveNanos));
+            totalWeight += weight;
+
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> eldest = iterator.next();
+                totalWeight -= eldest.getValue().weight;
+                iterator.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Removes the value cached against the given key.
+     *
+     * @param key The cache key.
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            removeEntry(key);
+        }
+    }
+
+    /**
+     * Removes all the values whose keys match the given predicate.
+     *
+     * @param keyPredicate The predicate to match the keys to be removed.
+     */
+    public void invalidateIf(Predicate<K> keyPredicate) {
+        synchronized (entries) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                if (keyPredicate.test(entry.getKey())) {
+                    totalWeight -= entry.getValue().weight;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all the values from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getWeight() {
+        synchronized (entries) {
+            return totalWeight;
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + " {size: " + size() + ", weight: " + getWeight() + ", hits: " + getHitCount() +
+                ", misses: " + getMissCount() + ", evictions: " + getEvictionCount() + "}";
+    }
+
+    private void removeEntry(K key) {
+        CacheEntry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    /**
+     * Value held by the cache together with its weight and expiry time.
+     */
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long weight;
+        private final long expiresAtNanos;
+
+        private CacheEntry(V value, long weight, long expiresAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Sink of the content of an uploaded file, computing its size and SHA-256 hash as the content is written.
+ * <p>
+ * The content itself is not kept, so the memory used does not depend on the size of the file. Content beyond the
+ * maximum size is only counted, so that an oversized file is rejected once the request is read.
+ * </p>
+ */
+public class FDXFileContentDigest extends OutputStream {
+
+    private final MessageDigest messageDigest;
+    private final long maxSize;
+    private long size;
+
+    /**
+     * Creates a file content digest.
+     *
+     * @param maxSize The maximum size of the file in bytes.
+     */
+    public FDXFileContentDigest(long maxSize) {
+        try {
+            this.messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void write(int b) {
+        if (++size <= maxSize) {
+            messageDigest.update((byte) b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (size + len <= maxSize) {
+            messageDigest.update(b, off, len);
+        } else if (size < maxSize) {
+            messageDigest.update(b, off, (int) (maxSize - size));
+        }
+        size += len;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isMaxSizeExceeded() {
+        return size > maxSize;
+    }
+
+    /**
+     * Returns the Base64 encoded SHA-256 hash of the content. The digest is reset once the hash is computed.
+     *
+     * @return The hash of the content.
+     */
+    public String getHash() {
+        return Base64.getEncoder().encodeToString(messageDigest.digest());
+    }
+}
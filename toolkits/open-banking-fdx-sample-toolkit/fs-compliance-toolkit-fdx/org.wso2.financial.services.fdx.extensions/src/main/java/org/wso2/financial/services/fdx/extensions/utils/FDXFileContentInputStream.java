@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Input stream of a JSON request which diverts the fileContent string values of the request to a separate sink.
+ * <p>
+ * JSON parsers hold each string value in memory, so a file uploaded as a string value would be held in memory as a
+ * whole. This stream scans the bytes of the request as they are read and replaces every fileContent string value
+ * with an empty string. The unescaped UTF-8 content of the value at the given nesting depth is written to the sink,
+ * while the values at other depths, such as the content of a previously stored file, are discarded. The request can
+ * therefore be parsed as usual while the file content is processed as a stream.
+ * </p>
+ */
+public class FDXFileContentInputStream extends FilterInputStream {
+
+    private static final byte[] FILE_CONTENT = FDXCommonConstants.FILE_CONTENT.getBytes(StandardCharsets.UTF_8);
+    private static final int UNICODE_REPLACEMENT_CHARACTER = 0xFFFD;
+
+    private static final int OUTSIDE = 0;
+    private static final int IN_STRING = 1;
+    private static final int AFTER_FILE_CONTENT_NAME = 2;
+    private static final int BEFORE_FILE_CONTENT_VALUE = 3;
+    private static final int IN_FILE_CONTENT_VALUE = 4;
+
+    private final int fileContentDepth;
+    private final OutputStream fileContentSink;
+    private int state = OUTSIDE;
+    private int depth;
+    private boolean fileContentFound;
+
+    // Scanning state of a string, the number of leading bytes matching the fileContent name or -1 on a mismatch
+    private boolean escaped;
+    private int nameMatchLength;
+
+    // Unescaping state of a diverted value
+    private OutputStream valueSink;
+    private int unicodeDigits = -1;
+    private int unicodeValue;
+    private int highSurrogate;
+
+    /**
+     * Creates a stream diverting the fileContent values of the given request.
+     *
+     * @param in               The stream of the JSON request.
+     * @param fileContentDepth The nesting depth of the object holding the fileContent value to write to the sink,
+     *                         the root object being at depth 1.
+     * @param fileContentSink  The sink of the file content.
+     */
+    public FDXFileContentInputStream(InputStream in, int fileContentDepth, OutputStream fileContentSink) {
+        super(in);
+        this.fileContentDepth = fileContentDepth;
+        this.fileContentSink = fileContentSink;
+    }
+
+    /**
+     * Returns whether a fileContent value was written to the sink.
+     *
+     * @return True if the request had a fileContent value at the expected depth.
+     */
+    public boolean isFileContentFound() {
+        return fileContentFound;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+
+        if (len == 0) {
+            return 0;
+        }
+        int count;
+        int kept = 0;
+        // Diverted bytes are removed in place, read again until a byte is left to return
+        while (kept == 0 && (count = in.read(b, off, len)) > 0) {
+            kept = filter(b, off, count);
+        }
+        return kept == 0 ? -1 : kept;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        byte[] b = new byte[(int) Math.min(n, 8192)];
+        int count;
+        while (skipped < n && (count = read(b, 0, (int) Math.min(n - skipped, b.length))) > 0) {
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark is not supported");
+    }
+
+    /**
+     * Scans the given bytes of the request, removing the bytes of the diverted values in place.
+     *
+     * @return The number of bytes kept.
+     */
+    private int filter(byte[] b, int off, int len) throws IOException {
+
+        int end = off + len;
+        int kept = off;
+        int i = off;
+        while (i < end) {
+            if (state == IN_FILE_CONTENT_VALUE) {
+                i = divert(b, i, end);
+                if (state == IN_FILE_CONTENT_VALUE) {
+                    continue;
+                }
+                // Keep the closing quote, leaving an empty string in place of the value
+                b[kept++] = '"';
+                i++;
+                continue;
+            }
+            byte c = b[i++];
+            b[kept++] = c;
+            switch (state) {
+                case IN_STRING:
+                    scanString(c);
+                    break;
+                case AFTER_FILE_CONTENT_NAME:
+                    if (c == ':') {
+                        state = BEFORE_FILE_CONTENT_VALUE;
+                    } else if (!isWhitespace(c)) {
+                        state = OUTSIDE;
+                        scanStructure(c);
+                    }
+                    break;
+                case BEFORE_FILE_CONTENT_VALUE:
+                    if (c == '"') {
+                        startValue();
+                    } else if (!isWhitespace(c)) {
+                        state = OUTSIDE;
+                        scanStructure(c);
+                    }
+                    break;
+                default:
+                    scanStructure(c);
+                    break;
+            }
+        }
+        return kept - off;
+    }
+
+    private void scanStructure(byte c) {
+        if (c == '"') {
+            state = IN_STRING;
+            escaped = false;
+            nameMatchLength = 0;
+        } else if (c == '{' || c == '[') {
+            depth++;
+        } else if (c == '}' || c == ']') {
+            depth--;
+        }
+    }
+
+    private void scanString(byte c) {
+        if (escaped) {
+            escaped = false;
+            nameMatchLength = -1;
+        } else if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            state = nameMatchLength == FILE_CONTENT.length ? AFTER_FILE_CONTENT_NAME : OUTSIDE;
+        } else if (nameMatchLength >= 0) {
+            nameMatchLength = nameMatchLength < FILE_CONTENT.length && FILE_CONTENT[nameMatchLength] == c ?
+                    nameMatchLength + 1 : -1;
+        }
+    }
+
+    private void startValue() {
+        state = IN_FILE_CONTENT_VALUE;
+        escaped = false;
+        unicodeDigits = -1;
+        highSurrogate = 0;
+        if (depth == fileContentDepth && !fileContentFound) {
+            fileContentFound = true;
+            valueSink = fileContentSink;
+        } else {
+            valueSink = null;
+        }
+    }
+
+    /**
+     * Writes the unescaped bytes of the diverted value to its sink, up to the closing quote of the value.
+     *
+     * @return The index of the closing quote, or the end index if the value continues in the next bytes.
+     */
+    private int divert(byte[] b, int start, int end) throws IOException {
+
+        int i = start;
+        while (i < end) {
+            if (!escaped && unicodeDigits < 0) {
+                // Write the run of unescaped bytes at once
+                int runStart = i;
+                while (i < end && b[i] != '"' && b[i] != '\\') {
+                    i++;
+                }
+                if (i > runStart) {
+                    flushHighSurrogate();
+                    writeValue(b, runStart, i - runStart);
+                }
+                if (i == end) {
+                    break;
+                }
+                if (b[i] == '"') {
+                    flushHighSurrogate();
+                    state = OUTSIDE;
+                    return i;
+                }
+                escaped = true;
+                i++;
+                continue;
+            }
+            byte c = b[i++];
+            if (unicodeDigits >= 0) {
+                int digit = Character.digit(c, 16);
+                if (digit < 0) {
+                    throw new JsonParseException(null, "Invalid unicode escape in the file content");
+                }
+                unicodeValue = (unicodeValue << 4) | digit;
+                if (++unicodeDigits == 4) {
+                    unicodeDigits = -1;
+                    writeUnicodeEscape(unicodeValue);
+                }
+                continue;
+            }
+            escaped = false;
+            if (c == 'u') {
+                unicodeDigits = 0;
+                unicodeValue = 0;
+                continue;
+            }
+            flushHighSurrogate();
+            writeValue(unescape(c));
+        }
+        return i;
+    }
+
+    private static int unescape(byte c) throws JsonParseException {
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            default:
+                throw new JsonParseException(null, "Invalid escape in the file content");
+        }
+    }
+
+    private void writeUnicodeEscape(int value) throws IOException {
+        if (Character.isHighSurrogate((char) value)) {
+            flushHighSurrogate();
+            highSurrogate = value;
+        } else if (Character.isLowSurrogate((char) value)) {
+            int codePoint = highSurrogate != 0 ? Character.toCodePoint((char) highSurrogate, (char) value)
+                    : UNICODE_REPLACEMENT_CHARACTER;
+            highSurrogate = 0;
+            writeCodePoint(codePoint);
+        } else {
+            flushHighSurrogate();
+            writeCodePoint(value);
+        }
+    }
+
+    private void flushHighSurrogate() throws IOException {
+        if (highSurrogate != 0) {
+            // A high surrogate not followed by a low surrogate
+            highSurrogate = 0;
+            writeCodePoint(UNICODE_REPLACEMENT_CHARACTER);
+        }
+    }
+
+    private void writeCodePoint(int codePoint) throws IOException {
+        if (codePoint < 0x80) {
+            writeValue(codePoint);
+        } else if (codePoint < 0x800) {
+            writeValue(0xC0 | (codePoint >> 6));
+            writeValue(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            writeValue(0xE0 | (codePoint >> 12));
+            writeValue(0x80 | ((codePoint >> 6) & 0x3F));
+            writeValue(0x80 | (codePoint & 0x3F));
+        } else {
+            writeValue(0xF0 | (codePoint >> 18));
+            writeValue(0x80 | ((codePoint >> 12) & 0x3F));
+            writeValue(0x80 | ((codePoint >> 6) & 0x3F));
+            writeValue(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void writeValue(int b) throws IOException {
+        if (valueSink != null) {
+            valueSink.write(b);
+        }
+    }
+
+    private void writeValue(byte[] b, int off, int len) throws IOException {
+        if (valueSink != null) {
+            valueSink.write(b, off, len);
+        }
+    }
+
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+}
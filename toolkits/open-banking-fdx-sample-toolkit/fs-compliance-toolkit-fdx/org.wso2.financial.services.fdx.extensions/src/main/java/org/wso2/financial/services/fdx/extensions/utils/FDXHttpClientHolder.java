@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContexts;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Holder class for the pooled HTTP client used by the FDX extensions.
+ * <p>
+ * A single client is created per web application and reused for every backend call, so connections are kept
+ * alive between requests instead of being opened for each consent screen render. The client is closed by
+ * {@link #shutdown()} when the web application is undeployed.
+ * </p>
+ * <p>
+ * HTTPS connections are secured with the same TLS configuration as the accelerator HTTP client, namely the server
+ * trust store and the hostname verifier selected with the {@code httpclient.hostnameVerifier} system property.
+ * </p>
+ */
+public class FDXHttpClientHolder {
+
+    private static final Log log = LogFactory.getLog(FDXHttpClientHolder.class);
+    private static final String TRUST_STORE_LOCATION = "javax.net.ssl.trustStore";
+    private static final String TRUST_STORE_PASSWORD = "javax.net.ssl.trustStorePassword";
+    private static final String TRUST_STORE_TYPE = "javax.net.ssl.trustStoreType";
+    private static final String HOSTNAME_VERIFIER = "httpclient.hostnameVerifier";
+    private static final String ALLOW_ALL = "AllowAll";
+    private static final String STRICT = "Strict";
+    private static volatile FDXHttpClientHolder instance;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    private FDXHttpClientHolder() {
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(getSSLContext(),
+                        getHostnameVerifier(System.getProperty(HOSTNAME_VERIFIER))))
+                .build();
+
+        this.connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        this.connectionManager.setMaxTotal(ConfigurableProperties.HTTP_POOL_MAX_TOTAL);
+        this.connectionManager.setDefaultMaxPerRoute(ConfigurableProperties.HTTP_POOL_MAX_PER_ROUTE);
+        this.connectionManager.setValidateAfterInactivity(
+                ConfigurableProperties.HTTP_VALIDATE_AFTER_INACTIVITY_MILLIS);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(ConfigurableProperties.HTTP_CONNECT_TIMEOUT_MILLIS)
+                .setSocketTimeout(ConfigurableProperties.HTTP_SOCKET_TIMEOUT_MILLIS)
+                .setConnectionRequestTimeout(ConfigurableProperties.HTTP_POOL_LEASE_TIMEOUT_MILLIS)
+                .build();
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(getKeepAliveStrategy())
+                .evictExpiredConnections()
+                .evictIdleConnections(ConfigurableProperties.HTTP_IDLE_CONNECTION_EVICT_MILLIS,
+                        TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public static FDXHttpClientHolder getInstance() {
+        if (instance == null) {
+            synchronized (FDXHttpClientHolder.class) {
+                if (instance == null) {
+                    instance = new FDXHttpClientHolder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Closes the pooled client and releases all the connections held by it.
+     */
+    public static void shutdown() {
+        synchronized (FDXHttpClientHolder.class) {
+            if (instance != null) {
+                try {
+                    instance.httpClient.close();
+                } catch (IOException e) {
+                    log.error("Error occurred while closing the pooled HTTP client", e);
+                }
+                instance = null;
+            }
+        }
+    }
+
+    public CloseableHttpClient getHttpClient() {
+        return this.httpClient;
+    }
+
+    /**
+     * Returns the current usage of the connection pool.
+     *
+     * @return The leased, pending, available and maximum connection counts of the pool.
+     */
+    public PoolStats getPoolStats() {
+        return this.connectionManager.getTotalStats();
+    }
+
+    /**
+     * Returns the SSL context trusting the certificates of the server trust store.
+     *
+     * @return The SSL context.
+     */
+    private static SSLContext getSSLContext() {
+        String trustStoreLocation = System.getProperty(TRUST_STORE_LOCATION);
+        if (trustStoreLocation == null) {
+            return SSLContexts.createSystemDefault();
+        }
+        try (InputStream trustStoreStream = Files.newInputStream(Paths.get(trustStoreLocation))) {
+            KeyStore trustStore = KeyStore.getInstance(
+                    System.getProperty(TRUST_STORE_TYPE, KeyStore.getDefaultType()));
+            String trustStorePassword = System.getProperty(TRUST_STORE_PASSWORD);
+            trustStore.load(trustStoreStream, trustStorePassword == null ? null : trustStorePassword.toCharArray());
+            return SSLContexts.custom().loadTrustMaterial(trustStore, null).build();
+        } catch (IOException | GeneralSecurityException e) {
+            log.error("Error occurred while loading the trust store, falling back to the default SSL context", e);
+            return SSLContexts.createSystemDefault();
+        }
+    }
+
+    /**
+     * Returns the hostname verifier for the given option, matching the options of the accelerator HTTP client.
+     *
+     * @param hostnameVerifierOption The value of the hostname verifier system property.
+     * @return The hostname verifier.
+     */
+    @SuppressWarnings("deprecation")
+    static HostnameVerifier getHostnameVerifier(String hostnameVerifierOption) {
+        if (ALLOW_ALL.equalsIgnoreCase(hostnameVerifierOption)) {
+            return NoopHostnameVerifier.INSTANCE;
+        } else if (STRICT.equalsIgnoreCase(hostnameVerifierOption)) {
+            return SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+        }
+        return SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER;
+    }
+
+    /**
+     * Returns a keep-alive strategy that honours the Keep-Alive header sent by the backend and falls back to the
+     * configured duration when the backend does not send one.
+     *
+     * @return The keep-alive strategy.
+     */
+    private static ConnectionKeepAliveStrategy getKeepAliveStrategy() {
+        return (response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : ConfigurableProperties.HTTP_KEEP_ALIVE_MILLIS;
+        };
+    }
+}
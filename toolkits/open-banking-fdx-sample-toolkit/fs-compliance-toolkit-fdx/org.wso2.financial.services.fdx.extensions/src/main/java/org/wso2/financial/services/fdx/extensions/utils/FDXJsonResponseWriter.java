@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+import java.io.IOException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes the response beans of the FDX extension APIs directly to the response stream.
+ * <p>
+ * A single object mapper is shared by all the APIs and a writer is prepared once for each response type, so the
+ * serializers of a response are resolved only on its first use. The produced JSON has the same shape as
+ * {@code new JSONObject(bean).toString()}: null properties are omitted, enums are written by name, date-time values
+ * are written using their string form and org.json values are written as-is.
+ * </p>
+ */
+public class FDXJsonResponseWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = createObjectMapper();
+    private static final ConcurrentMap<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a response entity that writes the given bean to the response stream as JSON.
+     *
+     * @param responseBody The response bean.
+     * @return The streaming response entity.
+     */
+    public static StreamingOutput toEntity(Object responseBody) {
+        ObjectWriter writer = WRITERS.computeIfAbsent(responseBody.getClass(), OBJECT_MAPPER::writerFor);
+        return outputStream -> writer.writeValue(outputStream, responseBody);
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        SimpleModule module = new SimpleModule("FDXJsonResponseModule");
+        module.addSerializer(JSONObject.class, new JSONObjectSerializer());
+        module.addSerializer(JSONArray.class, new JSONArraySerializer());
+        module.addSerializer(JSONString.class, new JSONStringSerializer());
+        module.addSerializer(TemporalAccessor.class, ToStringSerializer.instance);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(module);
+        objectMapper.setDefaultPropertyInclusion(
+                JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL));
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        // The stream is owned by the container, which closes it once the response is written
+        objectMapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return objectMapper;
+    }
+
+    /**
+     * Writes a value held by an org.json object or array in the same way as org.json does.
+     *
+     * @param value     The value to write.
+     * @param generator The generator to write to.
+     * @throws IOException If an error occurs while writing the value.
+     */
+    private static void writeJSONValue(Object value, JsonGenerator generator) throws IOException {
+        if (value == null || JSONObject.NULL.equals(value)) {
+            generator.writeNull();
+        } else if (value instanceof JSONObject) {
+            writeJSONObject((JSONObject) value, generator);
+        } else if (value instanceof JSONArray) {
+            writeJSONArray((JSONArray) value, generator);
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Number) {
+            generator.writeNumber(JSONObject.numberToString((Number) value));
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Enum) {
+            generator.writeString(((Enum<?>) value).name());
+        } else if (value instanceof JSONString) {
+            generator.writeRawValue(((JSONString) value).toJSONString());
+        } else if (value instanceof Map) {
+            writeJSONObject(new JSONObject((Map<?, ?>) value), generator);
+        } else if (value instanceof Collection) {
+            writeJSONArray(new JSONArray((Collection<?>) value), generator);
+        } else if (value.getClass().isArray()) {
+            writeJSONArray(new JSONArray(value), generator);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static void writeJSONObject(JSONObject jsonObject, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        for (String key : jsonObject.keySet()) {
+            generator.writeFieldName(key);
+            writeJSONValue(jsonObject.opt(key), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeJSONArray(JSONArray jsonArray, JsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (int i = 0; i < jsonArray.length(); i++) {
+            writeJSONValue(jsonArray.opt(i), generator);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Serializer for org.json objects.
+     */
+    private static final class JSONObjectSerializer extends StdSerializer<JSONObject> {
+
+        private static final long serialVersionUID = 1L;
+
+        private JSONObjectSerializer() {
+            super(JSONObject.class);
+        }
+
+        @Override
+        public void serialize(JSONObject value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            writeJSONObject(value, generator);
+        }
+    }
+
+    /**
+     * Serializer for org.json arrays.
+     */
+    private static final class JSONArraySerializer extends StdSerializer<JSONArray> {
+
+        private static final long serialVersionUID = 1L;
+
+        private JSONArraySerializer() {
+            super(JSONArray.class);
+        }
+
+        @Override
+        public void serialize(JSONArray value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            writeJSONArray(value, generator);
+        }
+    }
+
+    /**
+     * Serializer for values holding their own JSON form, written as-is.
+     */
+    private static final class JSONStringSerializer extends StdSerializer<JSONString> {
+
+        private static final long serialVersionUID = 1L;
+
+        private JSONStringSerializer() {
+            super(JSONString.class);
+        }
+
+        @Override
+        public void serialize(JSONString value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeRawValue(value.toJSONString());
+        }
+    }
+}
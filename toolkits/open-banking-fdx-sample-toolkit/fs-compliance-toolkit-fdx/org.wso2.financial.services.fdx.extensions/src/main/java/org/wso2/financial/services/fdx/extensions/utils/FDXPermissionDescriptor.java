@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Permission granted for the accounts of a consent, encoded as a bitmask of the FDX data clusters.
+ * <p>
+ * The permission is translated to the {@code &} separated data cluster string stored by the accelerator for each
+ * account resource. Descriptors of known data clusters are shared, so the permission string of a set of data
+ * clusters is built once and referenced by every account resource of every consent granting that set. The string
+ * lists the data clusters in declaration order and is parsed back to the same descriptor with a lookup, without
+ * splitting it again. Permissions naming data clusters that are not known keep the string they were built from, so
+ * that no data cluster is lost.
+ * </p>
+ * <p>
+ * Permission strings stored before the descriptor was introduced list the data clusters in the order of the consent
+ * request and may repeat them. They are parsed to the same bitmask as the declaration ordered string of their data
+ * clusters, keeping the stored string as it is.
+ * </p>
+ */
+public final class FDXPermissionDescriptor {
+
+    private static final String SEPARATOR = "&";
+    private static final AtomicReferenceArray<FDXPermissionDescriptor> DESCRIPTORS =
+            new AtomicReferenceArray<>(1 << FDXDataClusterTable.getDataClusterCount());
+    // Shared descriptors by their permission string, bounded by the number of sets of data clusters
+    private static final ConcurrentMap<String, FDXPermissionDescriptor> DESCRIPTORS_BY_PERMISSION =
+            new ConcurrentHashMap<>();
+
+    private final int bitmask;
+    private final String permission;
+
+    private FDXPermissionDescriptor(int bitmask, String permission) {
+        this.bitmask = bitmask;
+        this.permission = permission;
+    }
+
+    /**
+     * Returns the shared descriptor of the data clusters in the given bitmask.
+     *
+     * @param bitmask The bitmask of the data clusters.
+     * @return The shared permission descriptor.
+     */
+    public static FDXPermissionDescriptor of(int bitmask) {
+        FDXPermissionDescriptor descriptor = DESCRIPTORS.get(bitmask);
+        if (descriptor == null) {
+            StringBuilder permission = new StringBuilder();
+            for (int index = 0; index < FDXDataClusterTable.getDataClusterCount(); index++) {
+                if ((bitmask & (1 << index)) != 0) {
+                    permission.append(FDXDataClusterTable.getDataCluster(index)).append(SEPARATOR);
+                }
+            }
+            // Concurrent callers may build the same descriptor, the first one to be stored is kept
+            DESCRIPTORS.compareAndSet(bitmask, null, new FDXPermissionDescriptor(bitmask, permission.toString()));
+            descriptor = DESCRIPTORS.get(bitmask);
+            DESCRIPTORS_BY_PERMISSION.putIfAbsent(descriptor.permission, descriptor);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Returns the descriptor of the given data clusters.
+     *
+     * @param dataClusters The names of the data clusters.
+     * @return The shared permission descriptor, or a descriptor keeping the given data clusters if any of them is
+     * not known.
+     */
+    public static FDXPermissionDescriptor of(Iterable<String> dataClusters) {
+        int bitmask = 0;
+        boolean unknownDataCluster = false;
+        for (String dataCluster : dataClusters) {
+            int bit = FDXDataClusterTable.getBit(dataCluster);
+            bitmask |= bit;
+            unknownDataCluster |= bit == 0;
+        }
+        if (!unknownDataCluster) {
+            return of(bitmask);
+        }
+
+        StringBuilder permission = new StringBuilder();
+        for (String dataCluster : dataClusters) {
+            permission.append(dataCluster).append(SEPARATOR);
+        }
+        return new FDXPermissionDescriptor(bitmask, permission.toString());
+    }
+
+    /**
+     * Parses the given permission string.
+     *
+     * @param permission The {@code &} separated data clusters.
+     * @return The descriptor of the permission.
+     */
+    public static FDXPermissionDescriptor parse(String permission) {
+        FDXPermissionDescriptor sharedDescriptor = DESCRIPTORS_BY_PERMISSION.get(permission);
+        if (sharedDescriptor != null) {
+            return sharedDescriptor;
+        }
+        if (permission.isEmpty()) {
+            return of(0);
+        }
+        FDXPermissionDescriptor descriptor = of(Arrays.asList(permission.split(SEPARATOR)));
+        return descriptor.permission.equals(permission) ? descriptor :
+                new FDXPermissionDescriptor(descriptor.bitmask, permission);
+    }
+
+    public int getBitmask() {
+        return bitmask;
+    }
+
+    public String getPermission() {
+        return permission;
+    }
+
+    @Override
+    public String toString() {
+        return permission;
+    }
+}
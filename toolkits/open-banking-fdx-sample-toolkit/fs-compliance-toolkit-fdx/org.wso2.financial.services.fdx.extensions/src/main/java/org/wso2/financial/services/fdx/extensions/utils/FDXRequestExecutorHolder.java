@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder class for the executor running the requests of the FDX extensions APIs.
+ * <p>
+ * Requests are suspended on the container thread and processed on this executor, so container threads are not held
+ * for the backend round trips. Virtual threads are used when the runtime supports them, otherwise a fixed pool of
+ * platform threads. In both cases the number of pending requests is bounded, and requests beyond the bound are
+ * rejected instead of growing the thread count or the queue. The executor is shut down by {@link #shutdown()} when
+ * the web application is undeployed.
+ * </p>
+ */
+public class FDXRequestExecutorHolder {
+
+    private static final Log log = LogFactory.getLog(FDXRequestExecutorHolder.class);
+    private static final String THREAD_NAME_PREFIX = "fdx-extensions-request-";
+    private static volatile FDXRequestExecutorHolder instance;
+    private final ExecutorService executor;
+    private final Semaphore pendingRequests;
+    private final boolean virtualThreads;
+
+    private FDXRequestExecutorHolder() {
+
+        ExecutorService virtualThreadExecutor = ConfigurableProperties.REQUEST_EXECUTOR_VIRTUAL_THREADS_ENABLED ?
+                createVirtualThreadExecutor() : null;
+        if (virtualThreadExecutor != null) {
+            this.executor = virtualThreadExecutor;
+            this.virtualThreads = true;
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            // The queue is bounded by the pending request limit
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    ConfigurableProperties.REQUEST_EXECUTOR_POOL_SIZE,
+                    ConfigurableProperties.REQUEST_EXECUTOR_POOL_SIZE,
+                    ConfigurableProperties.EXECUTOR_KEEP_ALIVE_MILLIS, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), threadFactory);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            this.executor = threadPoolExecutor;
+            this.virtualThreads = false;
+        }
+        this.pendingRequests = new Semaphore(ConfigurableProperties.REQUEST_EXECUTOR_MAX_PENDING_REQUESTS);
+        log.debug("Created the FDX extensions request executor using " +
+                (virtualThreads ? "virtual threads" : "platform threads"));
+    }
+
+    public static FDXRequestExecutorHolder getInstance() {
+        if (instance == null) {
+            synchronized (FDXRequestExecutorHolder.class) {
+                if (instance == null) {
+                    instance = new FDXRequestExecutorHolder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Stops the executor. Requests which are already running are allowed to complete.
+     */
+    public static void shutdown() {
+        synchronized (FDXRequestExecutorHolder.class) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                try {
+                    if (!instance.executor.awaitTermination(ConfigurableProperties.REQUEST_TIMEOUT_MILLIS,
+                            TimeUnit.MILLISECONDS)) {
+                        instance.executor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    log.error("Interrupted while waiting for the FDX extensions request executor to terminate", e);
+                    instance.executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Runs the given request on the executor.
+     *
+     * @param request The request to be run.
+     * @throws RejectedExecutionException If the pending request limit is reached or the executor is shut down.
+     */
+    public void execute(Runnable request) {
+        if (!pendingRequests.tryAcquire()) {
+            throw new RejectedExecutionException("Pending request limit of the FDX extensions is reached");
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    request.run();
+                } finally {
+                    pendingRequests.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingRequests.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for or being processed by the executor.
+     *
+     * @return The number of pending requests.
+     */
+    public int getPendingRequestCount() {
+        return ConfigurableProperties.REQUEST_EXECUTOR_MAX_PENDING_REQUESTS - pendingRequests.availablePermits();
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per task, if the runtime supports virtual threads. The executor
+     * is looked up reflectively as the extensions are compiled for runtimes without virtual threads.
+     *
+     * @return The virtual thread executor, or null if the runtime does not support virtual threads.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Virtual threads are not supported by the runtime, using platform threads. " +
+                        e.getMessage());
+            }
+            return null;
+        }
+    }
+}
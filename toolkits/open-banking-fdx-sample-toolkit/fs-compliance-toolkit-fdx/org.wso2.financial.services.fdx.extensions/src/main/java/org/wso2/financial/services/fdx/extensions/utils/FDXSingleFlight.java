@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent loads of the same key into a single load.
+ * <p>
+ * The first caller for a key performs the load while concurrent callers for the same key wait for it and receive the
+ * same result, or the same failure. The key is released as soon as the load completes, so later callers trigger a new
+ * load. The number of coalesced calls is counted so that the effectiveness of the coalescing can be monitored.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the loaded values.
+ */
+public class FDXSingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Load performed for a key.
+     *
+     * @param <V> The type of the loaded value.
+     * @param <E> The type of the exception thrown by the load.
+     */
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    /**
+     * Creates a single flight group.
+     *
+     * @param name The name of the group, used in logs.
+     */
+    public FDXSingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Loads the value of the given key, or waits for the load already in flight for the key.
+     *
+     * @param key           The key to load. Loads of a null key are never coalesced.
+     * @param loader        The load to perform if no load is in flight for the key.
+     * @param exceptionType The type of the exception thrown by the load.
+     * @param <E>           The type of the exception thrown by the load.
+     * @return The loaded value.
+     * @throws E If the load fails.
+     */
+    public <E extends Exception> V execute(K key, Loader<V, E> loader, Class<E> exceptionType) throws E {
+
+        if (key == null) {
+            loadCount.increment();
+            return loader.load();
+        }
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            coalescedCount.increment();
+            return await(inFlightLoad, exceptionType);
+        }
+
+        loadCount.increment();
+        try {
+            V value = loader.load();
+            load.complete(value);
+            return value;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlightLoads.size();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + " {inFlight: " + getInFlightCount() + ", loads: " + getLoadCount() + ", coalesced: " +
+                getCoalescedCount() + "}";
+    }
+
+    private static <V, E extends Exception> V await(CompletableFuture<V> inFlightLoad, Class<E> exceptionType)
+            throws E {
+        try {
+            return inFlightLoad.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (exceptionType.isInstance(cause)) {
+                throw exceptionType.cast(cause);
+            }
+            throw new IllegalStateException("Unexpected failure of the coalesced load", cause);
+        }
+    }
+}
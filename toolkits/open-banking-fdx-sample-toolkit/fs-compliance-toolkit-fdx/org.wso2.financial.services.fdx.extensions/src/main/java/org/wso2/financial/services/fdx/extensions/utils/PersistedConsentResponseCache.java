@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsent;
+
+import java.util.Objects;
+
+/**
+ * Idempotency store of the persist authorized consent requests, keyed by the request ID together with the consent
+ * and the user the request persists.
+ * <p>
+ * Identity Server retries a persist request with the same request ID when the previous attempt timed out. The response
+ * of a successfully persisted consent is kept for the configured time to live, so that a retried request is answered
+ * with it instead of building and storing the authorization resources again. A retry arriving while the original
+ * request is still being persisted waits for it and receives the same response. Failed requests are not kept, so
+ * their retries are processed again. A request reusing the ID of another consent or user is not a retry, and is
+ * persisted on its own.
+ * </p>
+ */
+public class PersistedConsentResponseCache {
+
+    private static final Log log = LogFactory.getLog(PersistedConsentResponseCache.class);
+    private static final FDXExpiringCache<RequestKey, Object> COMPLETED_RESPONSES =
+            new FDXExpiringCache<>("PersistedConsentResponseCache",
+                    ConfigurableProperties.PERSIST_IDEMPOTENCY_TTL_MILLIS,
+                    ConfigurableProperties.PERSIST_IDEMPOTENCY_MAX_ENTRIES,
+                    response -> 1L);
+    private static final FDXSingleFlight<RequestKey, Object> IN_FLIGHT_REQUESTS =
+            new FDXSingleFlight<>("PersistAuthorizedConsent");
+
+    /**
+     * Persists the consent of the given request, unless a request with the same ID, consent and user is already
+     * persisted or is being persisted.
+     *
+     * @param requestId The ID of the persist request. Requests without an ID are always persisted.
+     * @param consentId The ID of the consent persisted by the request.
+     * @param userId    The ID of the user authorizing the consent, qualified with the tenant domain.
+     * @param persister Persists the consent and builds the response of the request.
+     * @return The response of the request.
+     * @throws ConsentException If the consent cannot be persisted.
+     */
+    public static Object persist(String requestId, String consentId, String userId,
+                                 FDXSingleFlight.Loader<Object, ConsentException> persister) throws ConsentException {
+
+        if (!ConfigurableProperties.PERSIST_IDEMPOTENCY_ENABLED || requestId == null) {
+            return persister.load();
+        }
+        RequestKey requestKey = new RequestKey(requestId, consentId, userId);
+        Object completedResponse = COMPLETED_RESPONSES.get(requestKey);
+        if (completedResponse != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Returning the persisted response of the repeated request " + requestId);
+            }
+            return completedResponse;
+        }
+        return IN_FLIGHT_REQUESTS.execute(requestKey, () -> {
+            // The request may have completed between the lookup and joining the in-flight requests
+            Object response = COMPLETED_RESPONSES.get(requestKey);
+            if (response != null) {
+                return response;
+            }
+            response = persister.load();
+            if (response instanceof SuccessResponsePersistAuthorizedConsent) {
+                COMPLETED_RESPONSES.put(requestKey, response);
+            }
+            return response;
+        }, ConsentException.class);
+    }
+
+    /**
+     * Removes the responses of all the persisted requests.
+     */
+    public static void invalidateAll() {
+        COMPLETED_RESPONSES.invalidateAll();
+    }
+
+    /**
+     * Returns the underlying cache to read its size and hit, miss and eviction counts.
+     *
+     * @return The underlying cache.
+     */
+    public static FDXExpiringCache<?, ?> getStatistics() {
+        return COMPLETED_RESPONSES;
+    }
+
+    /**
+     * Returns the in-flight requests to read the number of coalesced retries.
+     *
+     * @return The in-flight requests.
+     */
+    public static FDXSingleFlight<?, ?> getInFlightRequests() {
+        return IN_FLIGHT_REQUESTS;
+    }
+
+    private static final class RequestKey {
+        private final String requestId;
+        private final String consentId;
+        private final String userId;
+
+        private RequestKey(String requestId, String consentId, String userId) {
+            this.requestId = requestId;
+            this.consentId = consentId;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RequestKey requestKey = (RequestKey) o;
+            return requestId.equals(requestKey.requestId) && Objects.equals(consentId, requestKey.consentId) &&
+                    Objects.equals(userId, requestKey.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requestId, consentId, userId);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Guards the calls made to the sharable accounts backend with a bulkhead and a circuit breaker.
+ * <p>
+ * The bulkhead caps the number of concurrent backend calls so that a slow backend cannot hold every container thread.
+ * The circuit breaker fails calls fast while the backend keeps failing and probes it again once the open duration has
+ * elapsed. Calls rejected by either of them, and calls that fail to reach the backend, are reported with a
+ * {@link FDXBackendUnavailableException} so that the caller can fall back to a degraded response.
+ * </p>
+ */
+public class SharableAccountsBackendGuard {
+
+    private static final Log log = LogFactory.getLog(SharableAccountsBackendGuard.class);
+
+    private static final FDXCircuitBreaker CIRCUIT_BREAKER = new FDXCircuitBreaker("SharableAccountsBackend",
+            ConfigurableProperties.ACCOUNTS_BACKEND_FAILURE_THRESHOLD,
+            ConfigurableProperties.ACCOUNTS_BACKEND_OPEN_STATE_MILLIS,
+            ConfigurableProperties.ACCOUNTS_BACKEND_HALF_OPEN_MAX_CALLS);
+    private static final Semaphore BULKHEAD =
+            new Semaphore(ConfigurableProperties.ACCOUNTS_BACKEND_MAX_CONCURRENT_CALLS);
+    private static final LongAdder BULKHEAD_REJECTED_COUNT = new LongAdder();
+    private static final LongAdder FALLBACK_COUNT = new LongAdder();
+
+    /**
+     * Call made to the backend.
+     *
+     * @param <T> The type of the result of the call.
+     */
+    public interface BackendCall<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Makes the given backend call if both the bulkhead and the circuit breaker permit it.
+     *
+     * @param backendCall The backend call.
+     * @param <T>         The type of the result of the call.
+     * @return The result of the call.
+     * @throws FDXBackendUnavailableException If the call is rejected or fails to reach the backend.
+     */
+    public static <T> T execute(BackendCall<T> backendCall) throws FDXBackendUnavailableException {
+
+        if (!acquireBulkhead()) {
+            BULKHEAD_REJECTED_COUNT.increment();
+            throw new FDXBackendUnavailableException("Maximum concurrent calls to the accounts backend reached");
+        }
+        try {
+            if (!CIRCUIT_BREAKER.tryAcquirePermission()) {
+                throw new FDXBackendUnavailableException("Circuit to the accounts backend is open");
+            }
+            T result;
+            try {
+                result = backendCall.call();
+            } catch (IOException e) {
+                CIRCUIT_BREAKER.onFailure();
+                throw new FDXBackendUnavailableException("Error occurred while calling the accounts backend", e);
+            } catch (RuntimeException | Error e) {
+                // The backend was reached, the failure is in processing its response
+                CIRCUIT_BREAKER.onSuccess();
+                throw e;
+            }
+            CIRCUIT_BREAKER.onSuccess();
+            return result;
+        } finally {
+            BULKHEAD.release();
+        }
+    }
+
+    /**
+     * Records a degraded response served because the backend was unavailable.
+     */
+    public static void recordFallback() {
+        FALLBACK_COUNT.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("Served a degraded accounts response. " + getStatistics());
+        }
+    }
+
+    /**
+     * Closes the circuit to the backend.
+     */
+    public static void reset() {
+        CIRCUIT_BREAKER.reset();
+    }
+
+    public static FDXCircuitBreaker getCircuitBreaker() {
+        return CIRCUIT_BREAKER;
+    }
+
+    public static long getBulkheadRejectedCount() {
+        return BULKHEAD_REJECTED_COUNT.sum();
+    }
+
+    public static long getFallbackCount() {
+        return FALLBACK_COUNT.sum();
+    }
+
+    /**
+     * Returns a summary of the circuit breaker state and the rejection and fallback counts.
+     *
+     * @return The summary.
+     */
+    public static String getStatistics() {
+        return CIRCUIT_BREAKER + ", bulkheadRejected: " + getBulkheadRejectedCount() + ", availableCalls: " +
+                BULKHEAD.availablePermits() + ", fallbacks: " + getFallbackCount();
+    }
+
+    private static boolean acquireBulkhead() {
+        try {
+            return BULKHEAD.tryAcquire(ConfigurableProperties.ACCOUNTS_BACKEND_MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
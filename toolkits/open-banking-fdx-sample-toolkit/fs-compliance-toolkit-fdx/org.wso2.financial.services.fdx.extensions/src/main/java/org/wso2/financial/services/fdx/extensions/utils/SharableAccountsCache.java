@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of the sharable accounts retrieved from the bank backend for each user.
+ * <p>
+ * Repeated consent screen renders for the same user within the configured time to live are served from this cache
+ * instead of calling the backend again. Accounts are cached separately for each filter they were loaded with.
+ * Entries are weighed by the number of accounts they hold. The last known
+ * accounts of each user are kept for a longer period, to be served while the backend is unavailable. The cached
+ * accounts of a user are invalidated once the user has authorized a consent, so the next consent screen of the user
+ * loads the accounts from the backend.
+ * </p>
+ */
+public class SharableAccountsCache {
+
+    private static final FDXExpiringCache<CacheKey, List<SharableAccount>> ACCOUNTS_CACHE =
+            new FDXExpiringCache<>("SharableAccountsCache",
+                    ConfigurableProperties.ACCOUNTS_CACHE_TTL_MILLIS,
+                    ConfigurableProperties.ACCOUNTS_CACHE_MAX_WEIGHT,
+                    accounts -> accounts.size() + 1L);
+    private static final FDXExpiringCache<CacheKey, List<SharableAccount>> LAST_KNOWN_ACCOUNTS =
+            new FDXExpiringCache<>("LastKnownSharableAccounts",
+                    ConfigurableProperties.ACCOUNTS_LAST_KNOWN_TTL_MILLIS,
+                    ConfigurableProperties.ACCOUNTS_CACHE_MAX_WEIGHT,
+                    accounts -> accounts.size() + 1L);
+
+    /**
+     * Returns the cached accounts of the given user.
+     *
+     * @param userId         The user ID.
+     * @param accountsFilter The filter the accounts were loaded with, or null if every account was loaded.
+     * @return The cached accounts, or null if the accounts of the user are not cached.
+     */
+    public static List<SharableAccount> get(String userId, SharableAccountsFilter accountsFilter) {
+        if (!ConfigurableProperties.ACCOUNTS_CACHE_ENABLED || userId == null) {
+            return null;
+        }
+        return ACCOUNTS_CACHE.get(new CacheKey(userId, accountsFilter));
+    }
+
+    /**
+     * Caches the accounts of the given user.
+     *
+     * @param userId         The user ID.
+     * @param accountsFilter The filter the accounts were loaded with, or null if every account was loaded.
+     * @param accounts       The accounts retrieved for the user.
+     */
+    public static void put(String userId, SharableAccountsFilter accountsFilter, List<SharableAccount> accounts) {
+        if (ConfigurableProperties.ACCOUNTS_CACHE_ENABLED && userId != null) {
+            CacheKey cacheKey = new CacheKey(userId, accountsFilter);
+            ACCOUNTS_CACHE.put(cacheKey, accounts);
+            LAST_KNOWN_ACCOUNTS.put(cacheKey, accounts);
+        }
+    }
+
+    /**
+     * Returns the last known accounts of the given user, even if they are no longer fresh enough to be served from
+     * the cache.
+     *
+     * @param userId         The user ID.
+     * @param accountsFilter The filter the accounts were loaded with, or null if every account was loaded.
+     * @return The last known accounts, or null if no accounts are known for the user.
+     */
+    public static List<SharableAccount> getLastKnown(String userId, SharableAccountsFilter accountsFilter) {
+        if (!ConfigurableProperties.ACCOUNTS_CACHE_ENABLED || userId == null) {
+            return null;
+        }
+        return LAST_KNOWN_ACCOUNTS.get(new CacheKey(userId, accountsFilter));
+    }
+
+    /**
+     * Removes the cached accounts of the given user, for every filter. The last known accounts of the user are kept to
+     * be served while the backend is unavailable. Called when a consent authorized by the user is persisted.
+     *
+     * @param userId The user ID.
+     */
+    public static void invalidate(String userId) {
+        if (userId == null) {
+            return;
+        }
+        ACCOUNTS_CACHE.invalidateIf(key -> key.userId.equals(userId));
+    }
+
+    /**
+     * Removes the cached accounts of all the users.
+     */
+    public static void invalidateAll() {
+        ACCOUNTS_CACHE.invalidateAll();
+        LAST_KNOWN_ACCOUNTS.invalidateAll();
+    }
+
+    /**
+     * Returns the underlying cache to read its size and hit, miss and eviction counts.
+     *
+     * @return The underlying cache.
+     */
+    public static FDXExpiringCache<?, ?> getStatistics() {
+        return ACCOUNTS_CACHE;
+    }
+
+    /**
+     * Key of the cache. The user ID is used as sent by the identity server, which qualifies it with the tenant
+     * domain where needed. It is not parsed, as a username may itself contain an '@'.
+     */
+    private static final class CacheKey {
+        private final String userId;
+        private final SharableAccountsFilter accountsFilter;
+
+        private CacheKey(String userId, SharableAccountsFilter accountsFilter) {
+            this.userId = userId;
+            this.accountsFilter = accountsFilter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return userId.equals(cacheKey.userId) && Objects.equals(accountsFilter, cacheKey.accountsFilter);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, accountsFilter);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequest;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Filter of the sharable accounts loaded for a consent, derived from the resource types named in the consent
+ * request.
+ * <p>
+ * The filter is sent to the sharable accounts endpoint as a query parameter so that the backend only returns the
+ * accounts of the requested resource types. Accounts of other resource types returned by a backend that does not
+ * support the parameter are dropped while the response is streamed.
+ * </p>
+ */
+public final class SharableAccountsFilter {
+
+    private final SortedSet<String> resourceTypes;
+    private final String queryParameterValue;
+
+    private SharableAccountsFilter(SortedSet<String> resourceTypes) {
+        this.resourceTypes = Collections.unmodifiableSortedSet(resourceTypes);
+        this.queryParameterValue = String.join(",", resourceTypes);
+    }
+
+    /**
+     * Derives the filter of the accounts needed for the given request parameters.
+     *
+     * @param requestParameters The bound request parameters.
+     * @return The filter, or null if every account of the user is needed.
+     */
+    public static SharableAccountsFilter fromRequestParameters(ConsentRequestParameters requestParameters) {
+
+        SortedSet<String> resourceTypes = new TreeSet<>();
+        for (ConsentRequest consentRequest : requestParameters.getConsentRequests()) {
+            Map<String, List<String>> resources = consentRequest.getResources();
+            // A consent request without resources is not restricted to any resource type
+            if (resources == null) {
+                return null;
+            }
+            resourceTypes.addAll(resources.keySet());
+        }
+        return resourceTypes.isEmpty() ? null : new SharableAccountsFilter(resourceTypes);
+    }
+
+    /**
+     * Adds the filter to the query parameters of the sharable accounts request.
+     *
+     * @param parameters The query parameters of the request.
+     */
+    public void addTo(Map<String, String> parameters) {
+        parameters.put(FDXCommonConstants.RESOURCE_TYPES_KEY_NAME, queryParameterValue);
+    }
+
+    /**
+     * Checks whether an account of the given resource type is needed. Accounts that do not state their resource type
+     * are always needed.
+     *
+     * @param resourceType The resource type of the account.
+     * @return Whether the account is needed.
+     */
+    public boolean accepts(String resourceType) {
+        return resourceType == null || resourceTypes.contains(resourceType);
+    }
+
+    public Set<String> getResourceTypes() {
+        return resourceTypes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return queryParameterValue.equals(((SharableAccountsFilter) o).queryParameterValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return queryParameterValue.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return queryParameterValue;
+    }
+}
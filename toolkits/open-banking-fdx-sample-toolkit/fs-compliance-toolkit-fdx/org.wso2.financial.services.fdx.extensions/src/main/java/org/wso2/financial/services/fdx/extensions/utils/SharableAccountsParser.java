@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.json.JSONException;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for the payload returned by the sharable accounts endpoint.
+ * <p>
+ * The payload is read token by token from the response stream and only the account ID and account type of each
+ * account are kept, so the whole payload is never buffered in memory. Any other field sent by the backend is
+ * skipped, and accounts of resource types outside the requested filter are dropped as they are read.
+ * </p>
+ */
+public class SharableAccountsParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Reads the accounts from the given stream.
+     *
+     * @param inputStream The stream of the accounts payload.
+     * @return The accounts in the payload, or null if the payload is empty.
+     * @throws JSONException If the payload is not in the expected format.
+     * @throws IOException   If an error occurs while reading the stream.
+     */
+    public static List<SharableAccount> parseAccounts(InputStream inputStream) throws IOException {
+        return parseAccounts(inputStream, null);
+    }
+
+    /**
+     * Reads the accounts matching the given filter from the given stream.
+     *
+     * @param inputStream    The stream of the accounts payload.
+     * @param accountsFilter The filter of the accounts to keep, or null to keep every account.
+     * @return The accounts in the payload matching the filter, or null if the payload is empty.
+     * @throws JSONException If the payload is not in the expected format.
+     * @throws IOException   If an error occurs while reading the stream.
+     */
+    public static List<SharableAccount> parseAccounts(InputStream inputStream, SharableAccountsFilter accountsFilter)
+            throws IOException {
+
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JSONException("A JSONObject text must begin with '{'");
+            }
+
+            List<SharableAccount> accounts = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (FDXCommonConstants.DATA.equals(fieldName)) {
+                    if (valueToken != JsonToken.START_ARRAY) {
+                        throw new JSONException("JSONObject[\"" + FDXCommonConstants.DATA + "\"] is not a JSONArray.");
+                    }
+                    accounts = readAccounts(parser, accountsFilter);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (accounts == null) {
+                throw new JSONException("JSONObject[\"" + FDXCommonConstants.DATA + "\"] not found.");
+            }
+            return accounts;
+        } catch (JsonProcessingException e) {
+            throw new JSONException(e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the account objects of the data array. The parser is expected to be positioned at the start of the
+     * array.
+     *
+     * @param parser         The parser positioned at the start of the data array.
+     * @param accountsFilter The filter of the accounts to keep, or null to keep every account.
+     * @return The accounts in the array matching the filter.
+     * @throws IOException If an error occurs while reading the stream.
+     */
+    private static List<SharableAccount> readAccounts(JsonParser parser, SharableAccountsFilter accountsFilter)
+            throws IOException {
+
+        List<SharableAccount> accounts = new ArrayList<>();
+        for (int index = 0; parser.nextToken() != JsonToken.END_ARRAY; index++) {
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+                throw new JSONException("JSONArray[" + index + "] is not a JSONObject.");
+            }
+
+            String accountId = null;
+            String accountType = null;
+            String resourceType = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                String value = valueToken.isScalarValue() ? parser.getValueAsString() : null;
+                parser.skipChildren();
+
+                if (FDXCommonConstants.ACCOUNT_ID.equals(fieldName)) {
+                    accountId = value;
+                } else if (FDXCommonConstants.ACCOUNT_TYPE.equals(fieldName)) {
+                    accountType = value;
+                } else if (FDXCommonConstants.RESOURCE_TYPE.equals(fieldName)) {
+                    resourceType = value;
+                }
+            }
+
+            if (accountsFilter != null && !accountsFilter.accepts(resourceType)) {
+                continue;
+            }
+            if (accountId == null) {
+                throw new JSONException("JSONObject[\"" + FDXCommonConstants.ACCOUNT_ID + "\"] not found.");
+            }
+            if (accountType == null) {
+                throw new JSONException("JSONObject[\"" + FDXCommonConstants.ACCOUNT_TYPE + "\"] not found.");
+            }
+            accounts.add(new SharableAccount(accountId, accountType));
+        }
+        return accounts;
+    }
+}
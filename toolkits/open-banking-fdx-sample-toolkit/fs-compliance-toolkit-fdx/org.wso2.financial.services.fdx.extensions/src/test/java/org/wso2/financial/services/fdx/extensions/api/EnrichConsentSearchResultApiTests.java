@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.api;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.Response;
+
+public class EnrichConsentSearchResultApiTests {
+    private EnrichConsentSearchResultApi api;
+
+    @BeforeMethod
+    public void setUp() {
+        api = new EnrichConsentSearchResultApi();
+    }
+
+    @Test
+    void testEnrichConsentSearchResultPostSuccess() {
+        String consent = "{\"id\": \"consent%d\", \"status\": \"Authorised\", \"authorizations\": [{\"resources\": [" +
+                "{\"accountId\": \"1234567890\", \"permission\": \"ACCOUNT_BASIC&TRANSACTIONS&\"}]}]}";
+        String requestBody = "{\"data\": {\"searchType\": \"BULK_SERACH\", \"enrichmentParams\": {}, " +
+                "\"searchResult\": {\"data\": [" + String.format(consent, 1) + ", " + String.format(consent, 2) +
+                "], \"metadata\": {\"count\": 2}}}, \"requestId\": \"mockRequestId\"}";
+
+        Response response = api.enrichConsentSearchResultPost(toStream(requestBody));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("responseId"), "mockRequestId");
+        JSONObject searchResult = responseBody.getJSONObject("data").getJSONObject("searchResult");
+        Assert.assertEquals(searchResult.getJSONObject("metadata").getInt("count"), 2);
+
+        JSONArray consents = searchResult.getJSONArray("data");
+        Assert.assertEquals(consents.length(), 2);
+        JSONObject enrichedConsent = consents.getJSONObject(1);
+        Assert.assertEquals(enrichedConsent.getString("id"), "consent2");
+        Assert.assertEquals(enrichedConsent.getJSONArray("dataClusterNames").toList(),
+                new JSONArray("[\"Account Information - Basic\", \"Transactions\"]").toList());
+        JSONObject resource = enrichedConsent.getJSONArray("authorizations").getJSONObject(0)
+                .getJSONArray("resources").getJSONObject(0);
+        Assert.assertEquals(resource.getString("accountId"), "1234567890");
+        Assert.assertEquals(resource.getString("accountIdToDisplay"), "******7890");
+    }
+
+    @Test
+    void testEnrichConsentSearchResultPostWithoutSearchResult() {
+        Response response = api.enrichConsentSearchResultPost(toStream(
+                "{\"requestId\": \"mockRequestId\", \"data\": {\"searchType\": \"BULK_SERACH\"}}"));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorDescription"),
+                "Search result is missing");
+    }
+
+    @Test
+    void testEnrichConsentSearchResultPostWithMalformedRequest() {
+        Response response = api.enrichConsentSearchResultPost(toStream("{\"requestId\": "));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    private static InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.api;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.EventCreationRequest;
+import org.wso2.financial.services.fdx.extensions.model.EventCreationRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.EventPollingRequest;
+import org.wso2.financial.services.fdx.extensions.model.EventPollingRequestBody;
+import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
+import org.wso2.financial.services.fdx.extensions.utils.FDXEventStore;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+
+public class EnrichEventPollingResponseApiTests {
+    private EnrichEventPollingResponseApi api;
+
+    @BeforeMethod
+    public void setUp() {
+        api = new EnrichEventPollingResponseApi();
+        FDXEventStore.invalidateAll();
+        ValidateEventCreationApi eventCreationApi = new ValidateEventCreationApi();
+        for (int i = 1; i <= 3; i++) {
+            Map<String, Object> eventData = new HashMap<>();
+            eventData.put(FDXCommonConstants.CLIENT_ID, "mockClientId");
+            eventData.put("eventNumber", i);
+            Response response = eventCreationApi.validateEventCreationPost(new EventCreationRequestBody()
+                    .requestId("mockRequestId")
+                    .data(new EventCreationRequest().eventData(eventData)));
+            Assert.assertEquals(FDXTestUtils.readEntity(response).getString("status"), "SUCCESS");
+        }
+    }
+
+    @Test
+    void testEnrichEventPollingResponsePostReturnsEvents() {
+        Response response = api.enrichEventPollingResponsePost(getRequestBody(2, null));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "SUCCESS");
+        JSONObject pollingResponse = responseBody.getJSONObject("data").getJSONObject("eventPollingResponse");
+        JSONObject sets = pollingResponse.getJSONObject(FDXCommonConstants.SETS);
+        Assert.assertEquals(sets.length(), 2);
+        Assert.assertEquals(sets.getJSONObject("2").getInt("eventNumber"), 2);
+        Assert.assertTrue(pollingResponse.getBoolean(FDXCommonConstants.MORE_AVAILABLE));
+    }
+
+    @Test
+    void testEnrichEventPollingResponsePostSkipsAcknowledgedEvents() {
+        Response response = api.enrichEventPollingResponsePost(getRequestBody(null, Arrays.asList("1", "2")));
+
+        JSONObject pollingResponse = FDXTestUtils.readEntity(response).getJSONObject("data")
+                .getJSONObject("eventPollingResponse");
+        Assert.assertEquals(pollingResponse.getJSONObject(FDXCommonConstants.SETS).keySet(),
+                Collections.singleton("3"));
+        Assert.assertFalse(pollingResponse.getBoolean(FDXCommonConstants.MORE_AVAILABLE));
+    }
+
+    @Test
+    void testValidateEventPollingPostWithUnknownAcknowledgement() {
+        Response response = new ValidateEventPollingApi()
+                .validateEventPollingPost(getRequestBody(null, Collections.singletonList("4")));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 400);
+    }
+
+    @Test
+    void testEnrichEventPollingResponsePostWithoutClientId() {
+        Response response = api.enrichEventPollingResponsePost(new EventPollingRequestBody()
+                .requestId("mockRequestId")
+                .data(new EventPollingRequest().eventPollingData(Collections.emptyMap())));
+
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorMessage"),
+                FDXCommonConstants.INVALID_REQUEST_MSG);
+    }
+
+    private static EventPollingRequestBody getRequestBody(Integer maxEvents, Object ack) {
+        Map<String, Object> pollingData = new HashMap<>();
+        pollingData.put(FDXCommonConstants.CLIENT_ID, "mockClientId");
+        if (maxEvents != null) {
+            pollingData.put(FDXCommonConstants.MAX_EVENTS, maxEvents);
+        }
+        if (ack != null) {
+            pollingData.put(FDXCommonConstants.ACK, ack);
+        }
+        return new EventPollingRequestBody()
+                .requestId("mockRequestId")
+                .data(new EventPollingRequest().eventPollingData(pollingData));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.api;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.ErrorMapperData;
+import org.wso2.financial.services.fdx.extensions.model.ErrorMapperRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.ModelError;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayloads;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+
+import javax.ws.rs.core.Response;
+
+public class MapAcceleratorErrorResponseApiTests {
+    private final MapAcceleratorErrorResponseApi api = new MapAcceleratorErrorResponseApi();
+
+    @Test
+    void testMapAcceleratorErrorResponsePostSuccess() {
+        int registeredErrors = FDXErrorPayloads.size();
+        Response response = api.mapAcceleratorErrorResponsePost(new ErrorMapperRequestBody()
+                .requestId("mockRequestId")
+                .data(new ErrorMapperData().error(new ModelError()
+                        .code("403")
+                        .description("Consent is not authorised")
+                        .operation("consent_retrieve"))));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("responseId"), "mockRequestId");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 403);
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("customErrorCode"), "forbidden");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("customErrorDescription"),
+                "Consent is not authorised");
+        // Errors with descriptions sent with the request are not registered
+        Assert.assertEquals(FDXErrorPayloads.size(), registeredErrors);
+    }
+
+    @Test
+    void testMapAcceleratorErrorResponsePostWithoutError() {
+        Response response = api.mapAcceleratorErrorResponsePost(new ErrorMapperRequestBody()
+                .requestId("mockRequestId")
+                .data(new ErrorMapperData()));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+        Assert.assertEquals(FDXTestUtils.readEntity(response).getString("status"), "ERROR");
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.financial.services.fdx.extensions.api;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -27,13 +28,25 @@ import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.AuthErrorCode;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
 import org.wso2.financial.services.fdx.extensions.model.FailedResponseInConsent;
+import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsent;
 import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsentRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsent;
+import org.wso2.financial.services.fdx.extensions.model.UserGrantedData;
 import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
 import org.wso2.financial.services.fdx.extensions.utils.FDXConsentPersistUtils;
-
+import org.wso2.financial.services.fdx.extensions.utils.FDXExecutorHolder;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+import org.wso2.financial.services.fdx.extensions.utils.PersistedConsentResponseCache;
+import org.wso2.financial.services.fdx.extensions.utils.SharableAccountsCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.ws.rs.core.Response;
 
@@ -43,6 +56,7 @@ public class PersistAuthorizedConsentApiTests {
     @BeforeMethod
     public void setUp() {
         api = new PersistAuthorizedConsentApi();
+        PersistedConsentResponseCache.invalidateAll();
     }
 
     @Test
@@ -68,11 +82,72 @@ public class PersistAuthorizedConsentApiTests {
 
             // Assert the response
             Assert.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-            JSONObject responseBody = new JSONObject(response.getEntity().toString());
+            JSONObject responseBody = FDXTestUtils.readEntity(response);
             Assert.assertEquals(responseBody.getString("status"), "SUCCESS");
         }
     }
 
+    @Test
+    void testPersistAuthorizedConsentPostInvalidatesCachedAccounts() {
+        Map<String, Object> persistResponse = new HashMap<>();
+        persistResponse.put(FDXCommonConstants.STATUS,
+                SuccessResponsePersistAuthorizedConsent.StatusEnum.SUCCESS);
+        persistResponse.put(FDXCommonConstants.TYPE, "mockType");
+        persistResponse.put(FDXCommonConstants.FDX_CONSENT_STATUS, "mockStatus");
+
+        List<SharableAccount> accounts = Collections.singletonList(new SharableAccount("1234", "CHECKING"));
+        SharableAccountsCache.put("mockUser", null, accounts);
+        SharableAccountsCache.put("otherUser", null, accounts);
+        PersistAuthorizedConsentRequestBody requestBody = new PersistAuthorizedConsentRequestBody()
+                .requestId("invalidatingRequestId")
+                .data(new PersistAuthorizedConsent()
+                        .consentId("mockConsentId")
+                        .userGrantedData(new UserGrantedData().userId("mockUser")));
+
+        try (MockedStatic<FDXConsentPersistUtils> mockedUtils = Mockito.mockStatic(FDXConsentPersistUtils.class)) {
+            mockedUtils.when(() -> FDXConsentPersistUtils.persistConsent(requestBody))
+                    .thenReturn(persistResponse);
+
+            Response response = api.persistAuthorizedConsentPost(requestBody);
+
+            Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+            Assert.assertNull(SharableAccountsCache.get("mockUser", null));
+            Assert.assertEquals(SharableAccountsCache.getLastKnown("mockUser", null), accounts);
+            Assert.assertEquals(SharableAccountsCache.get("otherUser", null), accounts);
+        } finally {
+            SharableAccountsCache.invalidateAll();
+        }
+    }
+
+    @Test
+    void testPersistAuthorizedConsentPostRetryReturnsPersistedResponse() {
+        Map<String, Object> persistResponse = new HashMap<>();
+        persistResponse.put(FDXCommonConstants.STATUS,
+                SuccessResponsePersistAuthorizedConsent.StatusEnum.SUCCESS);
+        persistResponse.put(FDXCommonConstants.TYPE, "mockType");
+        persistResponse.put(FDXCommonConstants.FDX_CONSENT_STATUS, "mockStatus");
+
+        PersistAuthorizedConsentRequestBody requestBody = Mockito.mock(PersistAuthorizedConsentRequestBody.class);
+        Mockito.when(requestBody.getRequestId()).thenReturn("retriedRequestId");
+        PersistAuthorizedConsentRequestBody retriedRequestBody =
+                Mockito.mock(PersistAuthorizedConsentRequestBody.class);
+        Mockito.when(retriedRequestBody.getRequestId()).thenReturn("retriedRequestId");
+
+        try (MockedStatic<FDXConsentPersistUtils> mockedUtils = Mockito.mockStatic(FDXConsentPersistUtils.class)) {
+            mockedUtils.when(() -> FDXConsentPersistUtils.persistConsent(Mockito.any()))
+                    .thenReturn(persistResponse);
+
+            Response response = api.persistAuthorizedConsentPost(requestBody);
+            Response retriedResponse = api.persistAuthorizedConsentPost(retriedRequestBody);
+
+            // The retried request is answered with the persisted response without persisting the consent again
+            Assert.assertEquals(retriedResponse.getStatus(), Response.Status.OK.getStatusCode());
+            Assert.assertEquals(FDXTestUtils.readEntity(retriedResponse).toString(),
+                    FDXTestUtils.readEntity(response).toString());
+            mockedUtils.verify(() -> FDXConsentPersistUtils.persistConsent(Mockito.any()), Mockito.times(1));
+        }
+    }
+
     @Test
     void testPersistAuthorizedConsentPostFailure() {
         Map<String, Object> persistResponse = new HashMap<>();
@@ -93,7 +168,7 @@ public class PersistAuthorizedConsentApiTests {
 
             // Assert the response
             Assert.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-            JSONObject responseBody = new JSONObject(response.getEntity().toString());
+            JSONObject responseBody = FDXTestUtils.readEntity(response);
             Assert.assertEquals(responseBody.getString("status"), "ERROR");
         }
     }
@@ -114,9 +189,66 @@ public class PersistAuthorizedConsentApiTests {
 
             // Assert the response
             Assert.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
-            JSONObject responseBody = new JSONObject(response.getEntity().toString());
+            JSONObject responseBody = FDXTestUtils.readEntity(response);
             Assert.assertEquals(responseBody.getString("status"), "ERROR");
         }
     }
-}
 
+    @Test
+    void testPersistAuthorizedConsentBatchPostWithPartialFailure() {
+        Map<String, Object> persistResponse = new HashMap<>();
+        persistResponse.put(FDXCommonConstants.STATUS,
+                SuccessResponsePersistAuthorizedConsent.StatusEnum.SUCCESS);
+        persistResponse.put(FDXCommonConstants.TYPE, "mockType");
+        persistResponse.put(FDXCommonConstants.FDX_CONSENT_STATUS, "mockStatus");
+
+        List<PersistAuthorizedConsentRequestBody> requestBodies = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            PersistAuthorizedConsentRequestBody requestBody = Mockito.mock(PersistAuthorizedConsentRequestBody.class);
+            Mockito.when(requestBody.getRequestId()).thenReturn("request" + i);
+            requestBodies.add(requestBody);
+        }
+
+        // Process the batch on the test thread so that the static mock applies to every consent
+        FDXExecutorHolder executorHolder = Mockito.mock(FDXExecutorHolder.class);
+        Mockito.when(executorHolder.getExecutor()).thenReturn(Runnable::run);
+        try (MockedStatic<FDXExecutorHolder> mockedExecutorHolder = Mockito.mockStatic(FDXExecutorHolder.class);
+             MockedStatic<FDXConsentPersistUtils> mockedUtils = Mockito.mockStatic(FDXConsentPersistUtils.class)) {
+            mockedExecutorHolder.when(FDXExecutorHolder::getInstance).thenReturn(executorHolder);
+            mockedUtils.when(() -> FDXConsentPersistUtils.persistConsent(Mockito.any()))
+                    .thenReturn(persistResponse);
+            mockedUtils.when(() -> FDXConsentPersistUtils.persistConsent(requestBodies.get(1)))
+                    .thenThrow(new ConsentException(ResponseStatus.BAD_REQUEST, "Account IDs not available"));
+            mockedUtils.when(() -> FDXConsentPersistUtils.persistConsent(requestBodies.get(4)))
+                    .thenThrow(new IllegalStateException("Unexpected"));
+
+            Response response = api.persistAuthorizedConsentBatchPost(requestBodies);
+
+            Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+            JSONArray results = FDXTestUtils.readEntityArray(response);
+            Assert.assertEquals(results.length(), 6);
+            for (int i : Arrays.asList(0, 2, 3, 5)) {
+                Assert.assertEquals(results.getJSONObject(i).getString("status"), "SUCCESS");
+                Assert.assertEquals(results.getJSONObject(i).getString("responseId"), "request" + i);
+            }
+            Assert.assertEquals(results.getJSONObject(1).getString("status"), "ERROR");
+            Assert.assertEquals(results.getJSONObject(1).getInt("errorCode"), 400);
+            Assert.assertEquals(results.getJSONObject(1).getJSONObject("data").getString("errorDescription"),
+                    "Account IDs not available");
+            Assert.assertEquals(results.getJSONObject(4).getString("status"), "ERROR");
+            Assert.assertEquals(results.getJSONObject(4).getInt("errorCode"), 500);
+        }
+    }
+
+    @Test
+    void testPersistAuthorizedConsentBatchPostExceedingLimit() {
+        PersistAuthorizedConsentRequestBody requestBody = Mockito.mock(PersistAuthorizedConsentRequestBody.class);
+
+        Response response = api.persistAuthorizedConsentBatchPost(Collections.nCopies(
+                ConfigurableProperties.PERSIST_BATCH_MAX_SIZE + 1, requestBody));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+    }
+}
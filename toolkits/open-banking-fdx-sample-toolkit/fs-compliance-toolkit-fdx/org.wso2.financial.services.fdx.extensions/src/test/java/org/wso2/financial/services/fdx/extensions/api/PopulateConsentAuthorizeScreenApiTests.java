@@ -30,6 +30,8 @@ import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorize
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreen;
 import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
 import org.wso2.financial.services.fdx.extensions.utils.FDXConsentRetrievalUtils;
+import org.wso2.financial.services.fdx.extensions.utils.FDXErrorPayloads;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
 
 import javax.ws.rs.core.Response;
 
@@ -68,7 +70,7 @@ public class PopulateConsentAuthorizeScreenApiTests {
 
             // Assert the apiResponse
             Assert.assertEquals(Response.Status.OK.getStatusCode(), apiResponse.getStatus());
-            JSONObject responseBody = new JSONObject(apiResponse.getEntity().toString());
+            JSONObject responseBody = FDXTestUtils.readEntity(apiResponse);
             Assert.assertEquals(responseBody.getString("status"), "SUCCESS");
             JSONObject responseData = responseBody.getJSONObject("data");
             Assert.assertEquals(responseData.getString("consentData"), "mockConsentData");
@@ -96,7 +98,7 @@ public class PopulateConsentAuthorizeScreenApiTests {
 
             // Assert the response
             Assert.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-            JSONObject responseBody = new JSONObject(response.getEntity().toString());
+            JSONObject responseBody = FDXTestUtils.readEntity(response);
             Assert.assertEquals(responseBody.getString("status"), "ERROR");
         }
     }
@@ -112,11 +114,14 @@ public class PopulateConsentAuthorizeScreenApiTests {
             PopulateConsentAuthorizeScreenRequestBody requestBody =
                     Mockito.mock(PopulateConsentAuthorizeScreenRequestBody.class);
 
-            try {
-                api.populateConsentAuthorizeScreenPost(requestBody);
-            } catch (JSONException e) {
-                Assert.assertEquals(e.getMessage(), "Mock JSON error");
-            }
+            int registeredErrors = FDXErrorPayloads.size();
+            Response response = api.populateConsentAuthorizeScreenPost(requestBody);
+
+            Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+            Assert.assertEquals(FDXTestUtils.readEntity(response).getJSONObject("data")
+                    .getString("errorDescription"), "Mock JSON error");
+            // Parser messages are not registered as shared errors
+            Assert.assertEquals(FDXErrorPayloads.size(), registeredErrors);
         }
     }
 }
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.api;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.EnrichFileUploadResponseRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.RequestForEnrichFileUploadResponse;
+import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
+import org.wso2.financial.services.fdx.extensions.utils.FDXConsentFileUtils;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import javax.ws.rs.core.Response;
+
+public class PreProcessConsentFileUploadApiTests {
+    private static final String FILE_CONTENT = "<Document><Statement>1234</Statement></Document>";
+
+    private PreProcessConsentFileUploadApi api;
+
+    @BeforeMethod
+    public void setUp() {
+        api = new PreProcessConsentFileUploadApi();
+        FDXConsentFileUtils.invalidateAll();
+    }
+
+    @Test
+    void testPreProcessConsentFileUploadPostSuccess() throws Exception {
+        String fileHash = Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+                .digest(FILE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        Response response = api.preProcessConsentFileUploadPost(getRequest(fileHash, FILE_CONTENT));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "SUCCESS");
+        Assert.assertEquals(responseBody.getString("responseId"), "mockRequestId");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("consentStatus"),
+                ConfigurableProperties.FILE_UPLOAD_CONSENT_STATUS);
+
+        // The size and hash of the validated file are returned once the file is stored
+        Response enrichResponse = new EnrichConsentFileResponseApi().enrichConsentFileResponsePost(
+                new EnrichFileUploadResponseRequestBody()
+                        .requestId("mockRequestId")
+                        .data(new RequestForEnrichFileUploadResponse()
+                                .consentId("mockConsentId")
+                                .fileUploadCreatedTime("1700000000")));
+        JSONObject fileUploadResponse = FDXTestUtils.readEntity(enrichResponse).getJSONObject("data")
+                .getJSONObject("modifiedResponse");
+        Assert.assertEquals(fileUploadResponse.getString(FDXCommonConstants.CONSENT_ID), "mockConsentId");
+        Assert.assertEquals(fileUploadResponse.getLong(FDXCommonConstants.FILE_SIZE), FILE_CONTENT.length());
+        Assert.assertEquals(fileUploadResponse.getString(FDXCommonConstants.FILE_HASH), fileHash);
+    }
+
+    @Test
+    void testPreProcessConsentFileUploadPostWithHashMismatch() {
+        Response response = api.preProcessConsentFileUploadPost(getRequest("aW52YWxpZA==", FILE_CONTENT));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 400);
+    }
+
+    @Test
+    void testPreProcessConsentFileUploadPostWithoutFileContent() {
+        Response response = api.preProcessConsentFileUploadPost(getRequest(null, ""));
+
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorDescription"),
+                "File content is missing");
+    }
+
+    @Test
+    void testPreProcessConsentFileUploadPostWithMalformedRequest() {
+        Response response = api.preProcessConsentFileUploadPost(
+                toStream("{\"data\": {\"fileContent\": \"\\x\"}}"));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    private static InputStream getRequest(String fileHash, String fileContent) {
+        JSONObject attributes = new JSONObject();
+        if (fileHash != null) {
+            attributes.put(FDXCommonConstants.FILE_HASH, fileHash);
+        }
+        JSONObject data = new JSONObject()
+                .put("consentId", "mockConsentId")
+                .put("consentResource", new JSONObject().put("id", "mockConsentId").put("attributes", attributes))
+                .put("fileContent", fileContent);
+        return toStream(new JSONObject().put("requestId", "mockRequestId").put("data", data).toString());
+    }
+
+    private static InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
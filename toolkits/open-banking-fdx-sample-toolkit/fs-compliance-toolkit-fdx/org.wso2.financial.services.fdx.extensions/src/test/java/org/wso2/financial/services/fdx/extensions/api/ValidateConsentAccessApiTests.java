@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.api;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.StoredAuthorization;
+import org.wso2.financial.services.fdx.extensions.model.StoredDetailedConsentResourceData;
+import org.wso2.financial.services.fdx.extensions.model.StoredResource;
+import org.wso2.financial.services.fdx.extensions.model.ValidateConsentAccessData;
+import org.wso2.financial.services.fdx.extensions.model.ValidateConsentAccessRequestBody;
+import org.wso2.financial.services.fdx.extensions.utils.FDXCommonConstants;
+import org.wso2.financial.services.fdx.extensions.utils.FDXTestUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+
+public class ValidateConsentAccessApiTests {
+    private ValidateConsentAccessApi api;
+
+    @BeforeMethod
+    public void setUp() {
+        api = new ValidateConsentAccessApi();
+    }
+
+    @Test
+    void testValidateConsentAccessPostSuccess() {
+        Response response = api.validateConsentAccessPost(getRequestBody(
+                "Authorised", "/fdx/v6/accounts/1234/transactions"));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "SUCCESS");
+        Assert.assertEquals(responseBody.getString("responseId"), "mockRequestId");
+    }
+
+    @Test
+    void testValidateConsentAccessPostWithAccountNotAuthorised() {
+        Response response = api.validateConsentAccessPost(getRequestBody(
+                "Authorised", "/fdx/v6/accounts/9999/transactions"));
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 403);
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorMessage"),
+                FDXCommonConstants.INVALID_PERMISSIONS_MSG);
+    }
+
+    @Test
+    void testValidateConsentAccessPostWithConsentNotAuthorised() {
+        Response response = api.validateConsentAccessPost(getRequestBody(
+                "Revoked", "/fdx/v6/accounts/1234/transactions"));
+
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 401);
+    }
+
+    @Test
+    void testValidateConsentAccessPostWithConsentExpired() {
+        ValidateConsentAccessRequestBody requestBody = getRequestBody(
+                "Authorised", "/fdx/v6/accounts/1234/transactions");
+        requestBody.getData().getConsentResource().setValidityTime((int) (System.currentTimeMillis() / 1000) - 1);
+
+        Response response = api.validateConsentAccessPost(requestBody);
+
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getInt("errorCode"), 401);
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorMessage"),
+                FDXCommonConstants.INVALID_CONSENT_MSG);
+    }
+
+    @Test
+    void testValidateConsentAccessPostWithoutRequestedResource() {
+        ValidateConsentAccessRequestBody requestBody = getRequestBody("Authorised", "/accounts");
+        requestBody.getData().setDataRequestPayload(Collections.emptyMap());
+
+        Response response = api.validateConsentAccessPost(requestBody);
+
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(response);
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+    }
+
+    private static ValidateConsentAccessRequestBody getRequestBody(String consentStatus, String resourcePath) {
+        StoredResource resource = new StoredResource()
+                .permission("ACCOUNT_BASIC&TRANSACTIONS&")
+                .status(FDXCommonConstants.FDX_CONSENT_AUTHORISED);
+        resource.setAccountId("1234");
+        StoredDetailedConsentResourceData consentResource = new StoredDetailedConsentResourceData()
+                .id("mockConsentId")
+                .status(consentStatus)
+                .addAuthorizationsItem(new StoredAuthorization()
+                        .status(FDXCommonConstants.FDX_CONSENT_AUTHORISED)
+                        .addResourcesItem(resource));
+
+        Map<String, Object> resourceParams = new HashMap<>();
+        resourceParams.put(FDXCommonConstants.RESOURCE, resourcePath);
+        Map<String, Object> dataRequestPayload = new HashMap<>();
+        dataRequestPayload.put(FDXCommonConstants.RESOURCE_PARAMS, resourceParams);
+
+        return new ValidateConsentAccessRequestBody()
+                .requestId("mockRequestId")
+                .data(new ValidateConsentAccessData()
+                        .consentId("mockConsentId")
+                        .consentResource(consentResource)
+                        .dataRequestPayload(dataRequestPayload));
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequest;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class ConsentRequestParametersBinderTests {
+
+    @Test
+    public void testBindRequestParameters() {
+        Map<String, Object> persistentRequest = getConsentRequest("PERSISTENT", "30",
+                Arrays.asList("TRANSACTIONS", "BALANCE"));
+        Map<String, Object> oneTimeRequest = getConsentRequest("ONE_TIME", "30",
+                Collections.singletonList("ACCOUNT_BASIC"));
+
+        ConsentRequestParameters parameters = ConsentRequestParametersBinder.bind(
+                getRequestParameters(persistentRequest, oneTimeRequest));
+
+        Assert.assertTrue(parameters.isAuthorizationDetailsAvailable());
+        Assert.assertEquals(parameters.getRedirectUri(), "https://callback");
+        Assert.assertEquals(parameters.getConsentRequests().size(), 2);
+
+        ConsentRequest consentRequest = parameters.getConsentRequests().get(0);
+        Assert.assertEquals(consentRequest.getDurationPeriod(), 30);
+        Assert.assertEquals(consentRequest.getResources().get("ACCOUNT"), Arrays.asList("TRANSACTIONS", "BALANCE"));
+        Assert.assertEquals(parameters.getConsentRequests().get(1).getDurationPeriod(), 0);
+
+        // Unknown data clusters are not part of the bitmask
+        Assert.assertEquals(parameters.getDataClusterBitmask(),
+                FDXDataClusterTable.toBitmask(Arrays.asList("TRANSACTIONS", "ACCOUNT_BASIC")));
+        // The authorization details were not enriched
+        Assert.assertNull(parameters.getPermissionLanguage());
+        Assert.assertNull(consentRequest.getExpiryDateTime());
+    }
+
+    @Test
+    public void testBindEnrichedRequestParameters() {
+        Map<String, List<String>> permissionLanguage = Collections.singletonMap("Transactions",
+                Collections.singletonList("Historical and current transactions"));
+        Map<String, Object> authorizationDetail = new HashMap<>();
+        authorizationDetail.put("consentRequest", getConsentRequest("PERSISTENT", "30",
+                Collections.singletonList("TRANSACTIONS")));
+        // The identity server also knows data clusters the consent extensions do not know
+        authorizationDetail.put("dataClusterBitmask", FDXDataClusterTable.getBit("TRANSACTIONS") | (1 << 30));
+        authorizationDetail.put("dataRequested", permissionLanguage);
+        authorizationDetail.put("expiresAt", "2026-11-17T00:00:00Z");
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("authorization_details", Collections.singletonList(authorizationDetail));
+        requestParams.put("redirect_uri", "https://callback");
+
+        ConsentRequestParameters parameters = ConsentRequestParametersBinder.bind(requestParams);
+
+        Assert.assertEquals(parameters.getDataClusterBitmask(), FDXDataClusterTable.getBit("TRANSACTIONS"));
+        Assert.assertEquals(parameters.getPermissionLanguage(), permissionLanguage);
+        Assert.assertEquals(parameters.getConsentRequests().get(0).getExpiryDateTime(), "2026-11-17T00:00:00Z");
+    }
+
+    @Test
+    public void testBindWithoutAuthorizationDetails() {
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("redirect_uri", "https://callback");
+
+        Assert.assertFalse(ConsentRequestParametersBinder.bind(requestParams).isAuthorizationDetailsAvailable());
+        Assert.assertFalse(ConsentRequestParametersBinder.bind(null).isAuthorizationDetailsAvailable());
+    }
+
+    @Test(expectedExceptions = JSONException.class)
+    public void testBindWithoutRedirectUri() {
+        Map<String, Object> requestParams = getRequestParameters(getConsentRequest("PERSISTENT", "30",
+                Collections.singletonList("TRANSACTIONS")));
+        requestParams.remove("redirect_uri");
+
+        ConsentRequestParametersBinder.bind(requestParams);
+    }
+
+    @Test(expectedExceptions = JSONException.class)
+    public void testBindWithInvalidDataClusters() {
+        ConsentRequestParametersBinder.bind(getRequestParameters(getConsentRequest("PERSISTENT", "30",
+                Collections.singletonList(1))));
+    }
+
+    private static Map<String, Object> getConsentRequest(String durationType, String durationPeriod,
+                                                         Object dataClusters) {
+        Map<String, Object> resourceItem = new HashMap<>();
+        resourceItem.put("resourceType", "ACCOUNT");
+        resourceItem.put("dataClusters", dataClusters);
+
+        Map<String, Object> consentRequest = new HashMap<>();
+        consentRequest.put("durationType", durationType);
+        consentRequest.put("durationPeriod", durationPeriod);
+        consentRequest.put("resources", Collections.singletonList(resourceItem));
+        return consentRequest;
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> getRequestParameters(Map<String, Object>... consentRequests) {
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("authorization_details", Arrays.stream(consentRequests)
+                .map(consentRequest -> Collections.singletonMap("consentRequest", consentRequest))
+                .collect(Collectors.toList()));
+        requestParams.put("redirect_uri", "https://callback");
+        return requestParams;
+    }
+}
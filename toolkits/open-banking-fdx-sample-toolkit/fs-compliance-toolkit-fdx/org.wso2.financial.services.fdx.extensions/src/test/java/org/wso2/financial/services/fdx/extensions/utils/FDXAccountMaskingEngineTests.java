@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class FDXAccountMaskingEngineTests {
+
+    @Test
+    public void testDefaultPolicyMasksByLength() {
+        FDXAccountMaskingEngine maskingEngine = FDXAccountMaskingEngine.compile("DEFAULT=4", '*');
+
+        Assert.assertEquals(maskingEngine.mask(null, "1"), "1");
+        Assert.assertEquals(maskingEngine.mask(null, "12"), "*2");
+        Assert.assertEquals(maskingEngine.mask(null, "123"), "**3");
+        Assert.assertEquals(maskingEngine.mask(null, "1234"), "**34");
+        Assert.assertEquals(maskingEngine.mask(null, "123456789"), "*****6789");
+    }
+
+    @Test
+    public void testAccountTypePolicies() {
+        FDXAccountMaskingEngine maskingEngine =
+                FDXAccountMaskingEngine.compile("DEFAULT=4, LOAN=2, INVESTMENT=NONE, CREDIT_CARD=0", '#');
+        List<SharableAccount> accounts = Arrays.asList(
+                new SharableAccount("123456789", "CHECKING"),
+                new SharableAccount("123456789", "LOAN"),
+                new SharableAccount("123456789", "INVESTMENT"),
+                new SharableAccount("1234", "CREDIT_CARD"),
+                new SharableAccount("123456789012345678901234567890123456789", "SAVINGS"));
+
+        List<SharableAccount> maskedAccounts = maskingEngine.maskAccounts(accounts);
+
+        Assert.assertEquals(maskedAccounts.get(0).getAccountIdToDisplay(), "#####6789");
+        Assert.assertEquals(maskedAccounts.get(1).getAccountIdToDisplay(), "#######89");
+        Assert.assertEquals(maskedAccounts.get(2).getAccountIdToDisplay(), "123456789");
+        Assert.assertEquals(maskedAccounts.get(3).getAccountIdToDisplay(), "####");
+        // Account IDs longer than the initial buffer are masked too
+        Assert.assertEquals(maskedAccounts.get(4).getAccountIdToDisplay(), "###################################6789");
+        Assert.assertEquals(maskedAccounts.get(4).getAccountId(), "123456789012345678901234567890123456789");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidRule() {
+        FDXAccountMaskingEngine.compile("DEFAULT=4, LOAN", '*');
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNegativeVisibleCharacters() {
+        FDXAccountMaskingEngine.compile("LOAN=-1", '*');
+    }
+}
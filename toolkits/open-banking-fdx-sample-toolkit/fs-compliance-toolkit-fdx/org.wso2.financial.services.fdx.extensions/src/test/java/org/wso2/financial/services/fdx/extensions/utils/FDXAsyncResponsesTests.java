@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.TimeoutHandler;
+import javax.ws.rs.core.Response;
+
+public class FDXAsyncResponsesTests {
+
+    @Test
+    public void testResumeWithHandlerResponse() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        Response response = Response.ok().build();
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder = mockRequestExecutor(false)) {
+            FDXAsyncResponses.resume(asyncResponse, () -> response);
+        }
+
+        Mockito.verify(asyncResponse).resume(response);
+    }
+
+    @Test
+    public void testResumeWithGivenTimeout() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder = mockRequestExecutor(false)) {
+            FDXAsyncResponses.resume(asyncResponse, () -> Response.ok().build(), 60000);
+        }
+
+        Mockito.verify(asyncResponse).setTimeout(60000, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testResumeWithHandlerFailure() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        IllegalStateException failure = new IllegalStateException("failure");
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder = mockRequestExecutor(false)) {
+            FDXAsyncResponses.resume(asyncResponse, () -> {
+                throw failure;
+            });
+        }
+
+        Mockito.verify(asyncResponse).resume(failure);
+    }
+
+    @Test
+    public void testResumeWithServiceUnavailableWhenRejected() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder = mockRequestExecutor(true)) {
+            FDXAsyncResponses.resume(asyncResponse, () -> Response.ok().build());
+        }
+
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(responseCaptor.capture());
+        Assert.assertEquals(responseCaptor.getValue().getStatus(), Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+        JSONObject responseBody = FDXTestUtils.readEntity(responseCaptor.getValue());
+        Assert.assertEquals(responseBody.getString("status"), "ERROR");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorMessage"), "server_error");
+        Assert.assertEquals(responseBody.getJSONObject("data").getString("errorDescription"),
+                "Server is temporarily overloaded");
+    }
+
+    @Test
+    public void testTimedOutRequestIsSkipped() {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        AtomicBoolean handled = new AtomicBoolean();
+        FDXRequestExecutorHolder executorHolder = Mockito.mock(FDXRequestExecutorHolder.class);
+        ArgumentCaptor<Runnable> requestCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder =
+                     Mockito.mockStatic(FDXRequestExecutorHolder.class)) {
+            mockedHolder.when(FDXRequestExecutorHolder::getInstance).thenReturn(executorHolder);
+            FDXAsyncResponses.resume(asyncResponse, () -> {
+                handled.set(true);
+                return Response.ok().build();
+            });
+        }
+        Mockito.verify(executorHolder).execute(requestCaptor.capture());
+
+        // The request times out while waiting for the executor
+        getTimeoutHandler(asyncResponse).handleTimeout(asyncResponse);
+        requestCaptor.getValue().run();
+
+        Assert.assertFalse(handled.get());
+        ArgumentCaptor<Response> responseCaptor = ArgumentCaptor.forClass(Response.class);
+        Mockito.verify(asyncResponse).resume(responseCaptor.capture());
+        Assert.assertEquals(responseCaptor.getValue().getStatus(), Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+    }
+
+    @Test
+    public void testTimedOutRequestIsInterrupted() throws Exception {
+        AsyncResponse asyncResponse = Mockito.mock(AsyncResponse.class);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean interruptCleared = new AtomicBoolean();
+
+        try (MockedStatic<FDXRequestExecutorHolder> mockedHolder = mockRequestExecutor(false)) {
+            FDXRequestExecutorHolder executorHolder = FDXRequestExecutorHolder.getInstance();
+            Mockito.doAnswer(invocation -> {
+                Runnable request = invocation.getArgument(0, Runnable.class);
+                Thread thread = new Thread(() -> {
+                    request.run();
+                    interruptCleared.set(!Thread.currentThread().isInterrupted());
+                });
+                thread.start();
+                started.await(10, TimeUnit.SECONDS);
+                getTimeoutHandler(asyncResponse).handleTimeout(asyncResponse);
+                thread.join(10000);
+                return null;
+            }).when(executorHolder).execute(Mockito.any(Runnable.class));
+
+            FDXAsyncResponses.resume(asyncResponse, () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10000);
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                return Response.ok().build();
+            });
+        }
+
+        Assert.assertTrue(interrupted.get());
+        Assert.assertTrue(interruptCleared.get());
+    }
+
+    private static TimeoutHandler getTimeoutHandler(AsyncResponse asyncResponse) {
+        ArgumentCaptor<TimeoutHandler> timeoutHandlerCaptor = ArgumentCaptor.forClass(TimeoutHandler.class);
+        Mockito.verify(asyncResponse).setTimeoutHandler(timeoutHandlerCaptor.capture());
+        return timeoutHandlerCaptor.getValue();
+    }
+
+    private static MockedStatic<FDXRequestExecutorHolder> mockRequestExecutor(boolean reject) {
+        FDXRequestExecutorHolder executorHolder = Mockito.mock(FDXRequestExecutorHolder.class);
+        if (reject) {
+            Mockito.doThrow(new RejectedExecutionException("rejected")).when(executorHolder)
+                    .execute(Mockito.any(Runnable.class));
+        } else {
+            Mockito.doAnswer(invocation -> {
+                invocation.getArgument(0, Runnable.class).run();
+                return null;
+            }).when(executorHolder).execute(Mockito.any(Runnable.class));
+        }
+        MockedStatic<FDXRequestExecutorHolder> mockedHolder = Mockito.mockStatic(FDXRequestExecutorHolder.class);
+        mockedHolder.when(FDXRequestExecutorHolder::getInstance).thenReturn(executorHolder);
+        return mockedHolder;
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FDXBatchProcessorTests {
+
+    @Test
+    public void testResultsKeepItemOrder() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(i);
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<String> results = FDXBatchProcessor.process(items, item -> {
+            threads.add(Thread.currentThread().getName());
+            return "item" + item;
+        }, 4);
+
+        Assert.assertEquals(results.size(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(results.get(i), "item" + i);
+        }
+        // The calling thread takes part in the processing and at most the requested number of threads are used
+        Assert.assertTrue(threads.contains(Thread.currentThread().getName()));
+        Assert.assertTrue(threads.size() <= 4);
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        Assert.assertTrue(FDXBatchProcessor.process(Collections.emptyList(), item -> item, 4).isEmpty());
+    }
+
+    @Test
+    public void testItemsNotProcessedInTimeGetTimeoutResult() {
+        List<String> results = FDXBatchProcessor.process(Arrays.asList("item0", "item1", "item2"), item -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return item + "-processed";
+        }, 1, 50, item -> item + "-timedOut");
+
+        // The item processed past the timeout keeps its result, the items not started are timed out
+        Assert.assertEquals(results, Arrays.asList("item0-processed", "item1-timedOut", "item2-timedOut"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testFailureOfProcessorIsPropagated() {
+        FDXBatchProcessor.process(Collections.nCopies(8, "item"), item -> {
+            if (!Thread.currentThread().getName().startsWith("fdx-extensions-worker")) {
+                return item;
+            }
+            throw new IllegalStateException("Processing failed");
+        }, 4);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FDXCircuitBreakerTests {
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+        FDXCircuitBreaker circuitBreaker = new FDXCircuitBreaker("test", 2, 60000, 1);
+
+        recordFailure(circuitBreaker);
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.CLOSED);
+        recordFailure(circuitBreaker);
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.OPEN);
+
+        // Calls fail fast while the circuit is open
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+        Assert.assertEquals(circuitBreaker.getRejectedCount(), 1);
+        Assert.assertEquals(circuitBreaker.getTransitionCount(FDXCircuitBreaker.State.OPEN), 1);
+    }
+
+    @Test
+    public void testSuccessResetsFailureCount() {
+        FDXCircuitBreaker circuitBreaker = new FDXCircuitBreaker("test", 2, 60000, 1);
+
+        recordFailure(circuitBreaker);
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess();
+        recordFailure(circuitBreaker);
+
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testSuccessfulProbeClosesCircuit() {
+        FDXCircuitBreaker circuitBreaker = new FDXCircuitBreaker("test", 1, 0, 1);
+        recordFailure(circuitBreaker);
+
+        // Only one probe is allowed while the circuit is half open
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.HALF_OPEN);
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onSuccess();
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.CLOSED);
+        Assert.assertEquals(circuitBreaker.getTransitionCount(FDXCircuitBreaker.State.CLOSED), 1);
+    }
+
+    @Test
+    public void testFailedProbeReopensCircuit() {
+        FDXCircuitBreaker circuitBreaker = new FDXCircuitBreaker("test", 1, 0, 1);
+        recordFailure(circuitBreaker);
+
+        recordFailure(circuitBreaker);
+
+        Assert.assertEquals(circuitBreaker.getState(), FDXCircuitBreaker.State.OPEN);
+        Assert.assertEquals(circuitBreaker.getTransitionCount(FDXCircuitBreaker.State.OPEN), 2);
+        Assert.assertEquals(circuitBreaker.getTransitionCount(FDXCircuitBreaker.State.HALF_OPEN), 1);
+    }
+
+    private static void recordFailure(FDXCircuitBreaker circuitBreaker) {
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+    }
+}
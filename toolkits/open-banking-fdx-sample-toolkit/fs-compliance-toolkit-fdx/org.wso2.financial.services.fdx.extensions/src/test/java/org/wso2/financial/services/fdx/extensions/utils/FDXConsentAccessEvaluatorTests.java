@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.StoredAuthorization;
+import org.wso2.financial.services.fdx.extensions.model.StoredDetailedConsentResourceData;
+import org.wso2.financial.services.fdx.extensions.model.StoredResource;
+import org.wso2.financial.services.fdx.extensions.model.ValidateConsentAccessData;
+import org.wso2.financial.services.fdx.extensions.utils.FDXConsentAccessEvaluator.Decision;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class FDXConsentAccessEvaluatorTests {
+
+    private static final FDXConsentAccessRules RULES = FDXConsentAccessRules.getInstance();
+
+    @Test
+    public void testAccessToAuthorisedAccounts() {
+        FDXConsentAccessEvaluator evaluator = FDXConsentAccessEvaluator.compile(getConsentResource(
+                "Authorised", "ACCOUNT_BASIC&TRANSACTIONS&", "1234", "5678"));
+
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/accounts"), Decision.PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/accounts/1234/transactions?limit=10"),
+                Decision.PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/accounts/5678/transactions/"), Decision.PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/accounts/9999/transactions"),
+                Decision.ACCOUNT_NOT_PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/accounts/12345/transactions"),
+                Decision.ACCOUNT_NOT_PERMITTED);
+        Assert.assertEquals(evaluator.getAccountCount(), 2);
+    }
+
+    @Test
+    public void testAccessToDataClustersNotGranted() {
+        FDXConsentAccessEvaluator evaluator = FDXConsentAccessEvaluator.compile(getConsentResource(
+                "Authorised", "ACCOUNT_BASIC&", "1234"));
+
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/accounts/1234/statements"),
+                Decision.RESOURCE_NOT_PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/customers/current"), Decision.RESOURCE_NOT_PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/fdx/v6/unknown"), Decision.RESOURCE_NOT_PERMITTED);
+    }
+
+    @Test
+    public void testAccessWithConsentNotAuthorised() {
+        StoredDetailedConsentResourceData consentResource = getConsentResource(
+                "Revoked", "ACCOUNT_BASIC&", "1234");
+
+        Assert.assertEquals(FDXConsentAccessEvaluator.compile(consentResource).evaluate(RULES, "/accounts"),
+                Decision.CONSENT_NOT_AUTHORISED);
+    }
+
+    @Test
+    public void testAccessWithConsentExpired() {
+        int now = (int) (System.currentTimeMillis() / 1000);
+        StoredDetailedConsentResourceData consentResource = getConsentResource(
+                "Authorised", "ACCOUNT_BASIC&", "1234");
+
+        consentResource.setValidityTime(now + 3600);
+        Assert.assertEquals(FDXConsentAccessEvaluator.compile(consentResource).evaluate(RULES, "/accounts"),
+                Decision.PERMITTED);
+
+        consentResource.setValidityTime(now - 1);
+        Assert.assertEquals(FDXConsentAccessEvaluator.compile(consentResource).evaluate(RULES, "/accounts"),
+                Decision.CONSENT_EXPIRED);
+
+        consentResource.setValidityTime(0);
+        Assert.assertEquals(FDXConsentAccessEvaluator.compile(consentResource).evaluate(RULES, "/accounts"),
+                Decision.PERMITTED);
+    }
+
+    @Test
+    public void testRevokedResourcesAreNotAuthorised() {
+        StoredDetailedConsentResourceData consentResource = getConsentResource(
+                "Authorised", "TRANSACTIONS&", "1234", "5678");
+        consentResource.getAuthorizations().get(0).getResources().get(1).setStatus("Revoked");
+
+        FDXConsentAccessEvaluator evaluator = FDXConsentAccessEvaluator.compile(consentResource);
+
+        Assert.assertEquals(evaluator.evaluate(RULES, "/accounts/1234/transactions"), Decision.PERMITTED);
+        Assert.assertEquals(evaluator.evaluate(RULES, "/accounts/5678/transactions"),
+                Decision.ACCOUNT_NOT_PERMITTED);
+    }
+
+    @Test
+    public void testConsentChangesTakeEffectOnNextRequest() throws Exception {
+        StoredDetailedConsentResourceData consentResource = getConsentResource(
+                "Authorised", "ACCOUNT_BASIC&", "1234");
+        ValidateConsentAccessData validationData = getValidationData(consentResource, "/accounts");
+        Assert.assertEquals(FDXConsentAccessValidator.validate(validationData), Decision.PERMITTED);
+
+        consentResource.setStatus("Revoked");
+        Assert.assertEquals(FDXConsentAccessValidator.validate(validationData), Decision.CONSENT_NOT_AUTHORISED);
+    }
+
+    @Test
+    public void testDeactivatedAccountMappingTakesEffectOnNextRequest() throws Exception {
+        StoredDetailedConsentResourceData consentResource = getConsentResource(
+                "Authorised", "TRANSACTIONS&", "1234", "5678");
+        consentResource.setUpdatedTime(100);
+        ValidateConsentAccessData validationData = getValidationData(consentResource, "/accounts/5678/transactions");
+        Assert.assertEquals(FDXConsentAccessValidator.validate(validationData), Decision.PERMITTED);
+
+        // The status and the updated time of the consent are kept when an account mapping is deactivated
+        consentResource.getAuthorizations().get(0).getResources().get(1).setStatus("inactive");
+
+        Assert.assertEquals(FDXConsentAccessValidator.validate(validationData), Decision.ACCOUNT_NOT_PERMITTED);
+        Assert.assertEquals(FDXConsentAccessValidator.validate(
+                getValidationData(consentResource, "/accounts/1234/transactions")), Decision.PERMITTED);
+    }
+
+    @Test
+    public void testRulesMatchWholeSegments() {
+        FDXConsentAccessRules rules = FDXConsentAccessRules.compile(
+                "/accounts=ACCOUNT_BASIC, /accounts/{accountId}/transactions=TRANSACTIONS&ACCOUNT_BASIC");
+
+        int rule = rules.match("/fdx/v6/accounts/1234/transactions");
+        Assert.assertEquals(rules.getRequiredBitmask(rule), FDXDataClusterTable.getBit("ACCOUNT_BASIC") |
+                FDXDataClusterTable.getBit("TRANSACTIONS"));
+        long accountIdPosition = rules.getAccountIdPosition(rule, "/fdx/v6/accounts/1234/transactions");
+        Assert.assertEquals("/fdx/v6/accounts/1234/transactions".substring((int) (accountIdPosition >>> 32),
+                (int) accountIdPosition), "1234");
+
+        Assert.assertEquals(rules.match("/subaccounts"), FDXConsentAccessRules.NO_RULE);
+        Assert.assertEquals(rules.match("/accounts//transactions"), FDXConsentAccessRules.NO_RULE);
+        Assert.assertEquals(rules.getAccountIdPosition(rules.match("/accounts"), "/accounts"),
+                FDXConsentAccessRules.NO_ACCOUNT_ID);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testRulesWithUnknownDataCluster() {
+        FDXConsentAccessRules.compile("/accounts=UNKNOWN");
+    }
+
+    private static ValidateConsentAccessData getValidationData(StoredDetailedConsentResourceData consentResource,
+                                                               String resourcePath) {
+        Map<String, Object> resourceParams = new HashMap<>();
+        resourceParams.put(FDXCommonConstants.RESOURCE, resourcePath);
+        Map<String, Object> dataRequestPayload = new HashMap<>();
+        dataRequestPayload.put(FDXCommonConstants.RESOURCE_PARAMS, resourceParams);
+        return new ValidateConsentAccessData()
+                .consentId(consentResource.getId())
+                .consentResource(consentResource)
+                .dataRequestPayload(dataRequestPayload);
+    }
+
+    static StoredDetailedConsentResourceData getConsentResource(String status, String permission,
+                                                                String... accountIds) {
+        StoredAuthorization authorization = new StoredAuthorization()
+                .status(FDXCommonConstants.FDX_CONSENT_AUTHORISED)
+                .type(FDXCommonConstants.FDX_TYPE);
+        for (String accountId : accountIds) {
+            StoredResource resource = new StoredResource()
+                    .permission(permission)
+                    .status(FDXCommonConstants.FDX_CONSENT_AUTHORISED);
+            resource.setAccountId(accountId);
+            authorization.addResourcesItem(resource);
+        }
+        return new StoredDetailedConsentResourceData()
+                .id("consent")
+                .status(status)
+                .addAuthorizationsItem(authorization);
+    }
+}
@@ -24,11 +24,15 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.fdx.extensions.model.Authorization;
 import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsent;
 import org.wso2.financial.services.fdx.extensions.model.PersistAuthorizedConsentRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.Resource;
 import org.wso2.financial.services.fdx.extensions.model.UserGrantedData;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -86,6 +90,35 @@ public class FDXConsentPersistUtilsTests {
         Assert.assertNotNull(persistResponse.get("authorizationResources"));
     }
 
+    @Test
+    public void testPersistFDXConsentSharesPermissionAcrossAccounts() {
+        Map<String, Object> firstResponse = FDXConsentPersistUtils.persistConsent(
+                getRequestBody(new JSONArray().put("1234567890").put("0987654321")));
+        Map<String, Object> secondResponse = FDXConsentPersistUtils.persistConsent(
+                getRequestBody(new JSONArray().put("1111111111")));
+
+        List<Resource> firstResources = getResources(firstResponse);
+        List<Resource> secondResources = getResources(secondResponse);
+        Assert.assertEquals(firstResources.size(), 2);
+        Assert.assertEquals(firstResources.get(0).getPermission(), "ACCOUNT_BASIC&TRANSACTIONS&");
+        // Every account resource of every consent references the same permission string
+        Assert.assertSame(firstResources.get(0).getPermission(), firstResources.get(1).getPermission());
+        Assert.assertSame(firstResources.get(0).getPermission(), secondResources.get(0).getPermission());
+    }
+
+    @Test
+    public void testPersistFDXConsentUsesEnrichedDataClusters() {
+        int enrichedBitmask = FDXDataClusterTable.toBitmask(Arrays.asList("TRANSACTIONS", "ACCOUNT_BASIC",
+                "STATEMENTS"));
+
+        Map<String, Object> persistResponse = FDXConsentPersistUtils.persistConsent(getRequestBody(
+                new JSONArray().put("1234567890"), new JSONObject().put("dataClusterBitmask", enrichedBitmask)));
+
+        // The data clusters resolved when the authorization detail was enriched are persisted
+        Assert.assertEquals(getResources(persistResponse).get(0).getPermission(),
+                "ACCOUNT_BASIC&TRANSACTIONS&STATEMENTS&");
+    }
+
     @Test
     public void testPersistFDXConsentWithOneTimeConsent() {
         // Arrange
@@ -273,4 +306,39 @@ public class FDXConsentPersistUtilsTests {
         // If no exception, fail the test
         Assert.fail("Expected ConsentException due to empty authorizationDetails");
     }
+
+    private static PersistAuthorizedConsentRequestBody getRequestBody(JSONArray accountIds) {
+        return getRequestBody(accountIds, new JSONObject());
+    }
+
+    private static PersistAuthorizedConsentRequestBody getRequestBody(JSONArray accountIds,
+                                                                      JSONObject authorizationDetail) {
+        JSONObject authorizedResources = new JSONObject();
+        authorizedResources.put("accountIds", accountIds);
+        authorizedResources.put("cookies", new JSONObject().put("commonAuthId", "common-auth-id-123"));
+
+        JSONObject consentRequest = new JSONObject();
+        consentRequest.put("durationType", "RECURRING");
+        consentRequest.put("durationPeriod", 30);
+        JSONArray dataClusters = new JSONArray().put("TRANSACTIONS").put("ACCOUNT_BASIC");
+        consentRequest.put("resources", new JSONArray().put(new JSONObject().put("dataClusters", dataClusters)));
+        JSONObject requestParameters = new JSONObject().put("authorization_details",
+                new JSONArray().put(authorizationDetail.put("consentRequest", consentRequest)));
+
+        UserGrantedData userGrantedData = new UserGrantedData();
+        userGrantedData.setAuthorizedResources(authorizedResources.toMap());
+        userGrantedData.setRequestParameters(requestParameters.toMap());
+        userGrantedData.setUserId("user-123");
+        PersistAuthorizedConsent consentData = new PersistAuthorizedConsent();
+        consentData.setUserGrantedData(userGrantedData);
+        PersistAuthorizedConsentRequestBody requestBody = new PersistAuthorizedConsentRequestBody();
+        requestBody.setData(consentData);
+        return requestBody;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Resource> getResources(Map<String, Object> persistResponse) {
+        List<Authorization> authorizations = (List<Authorization>) persistResponse.get("authorizationResources");
+        return authorizations.get(0).getResources();
+    }
 }
@@ -26,15 +26,18 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
-import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
 import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
 import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorizeScreenData;
 import org.wso2.financial.services.fdx.extensions.model.PopulateConsentAuthorizeScreenRequestBody;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
 import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreen;
 
 import java.io.ByteArrayInputStream;
@@ -59,6 +62,7 @@ public class FDXConsentRetrievalUtilsTests {
     private PopulateConsentAuthorizeScreenRequestBody requestBody;
     private PopulateConsentAuthorizeScreenData requestData;
     private JSONObject retrievalResponse;
+    private MockedStatic<FDXExecutorHolder> executorHolderMockedStatic;
 
     @BeforeMethod
     void setUp() {
@@ -67,6 +71,19 @@ public class FDXConsentRetrievalUtilsTests {
         retrievalResponse = new JSONObject();
 
         when(requestBody.getData()).thenReturn(requestData);
+        SharableAccountsCache.invalidateAll();
+        SharableAccountsBackendGuard.reset();
+
+        // Run the account lookup on the test thread so that the static mocks of each test apply to it
+        FDXExecutorHolder executorHolder = mock(FDXExecutorHolder.class);
+        when(executorHolder.getExecutor()).thenReturn(Runnable::run);
+        executorHolderMockedStatic = Mockito.mockStatic(FDXExecutorHolder.class);
+        executorHolderMockedStatic.when(FDXExecutorHolder::getInstance).thenReturn(executorHolder);
+    }
+
+    @AfterMethod
+    void tearDown() {
+        executorHolderMockedStatic.close();
     }
 
     @Test
@@ -114,9 +131,11 @@ public class FDXConsentRetrievalUtilsTests {
         Mockito.when(mockStatusLine.getStatusCode()).thenReturn(200); // simulate not found
         Mockito.when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
 
-        // Inject the mock into your utility if possible (assumes HTTPClientUtils is mockable)
-        try (MockedStatic<HTTPClientUtils> mockStatic = Mockito.mockStatic(HTTPClientUtils.class)) {
-            mockStatic.when(HTTPClientUtils::getHttpsClient).thenReturn(mockClient);
+        // Inject the mock client through the pooled client holder
+        FDXHttpClientHolder mockClientHolder = Mockito.mock(FDXHttpClientHolder.class);
+        Mockito.when(mockClientHolder.getHttpClient()).thenReturn(mockClient);
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = Mockito.mockStatic(FDXHttpClientHolder.class)) {
+            mockStatic.when(FDXHttpClientHolder::getInstance).thenReturn(mockClientHolder);
 
             // Mock HttpEntity
             HttpEntity mockEntity = Mockito.mock(HttpEntity.class);
@@ -136,6 +155,84 @@ public class FDXConsentRetrievalUtilsTests {
         }
     }
 
+    @Test
+    void testRetrieveConsentDataWithAccountLookupError() throws IOException {
+        when(requestData.getRequestParameters()).thenReturn(getRequestParameters());
+        when(requestData.getUserId()).thenReturn("user123");
+
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = mockAccountsEndpoint(404)) {
+            retrievalResponse = FDXConsentRetrievalUtils.retrieveConsentData(requestBody);
+        }
+
+        // The error of the account lookup replaces the consent data
+        Assert.assertEquals(retrievalResponse.get("status").toString(), "ERROR");
+        Assert.assertEquals(retrievalResponse.get("responseStatus"), 500);
+        Assert.assertFalse(retrievalResponse.has("consentData"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRetrieveConsentDataUsesEnrichedValues() throws IOException {
+        Map<String, List<String>> permissionLanguage = Collections.singletonMap("Transactions",
+                Collections.singletonList("Historical and current transactions"));
+        Map<String, Object> requestParams = getRequestParameters();
+        Map<String, Object> authorizationDetail =
+                ((List<Map<String, Object>>) requestParams.get("authorization_details")).get(0);
+        authorizationDetail.put("dataClusterBitmask", FDXDataClusterTable.getBit("TRANSACTIONS"));
+        authorizationDetail.put("dataRequested", permissionLanguage);
+        authorizationDetail.put("expiresAt", "2026-11-17T00:00:00Z");
+        when(requestData.getRequestParameters()).thenReturn(requestParams);
+        when(requestData.getUserId()).thenReturn("user123");
+
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = mockAccountsEndpoint(200,
+                "{\"data\" : [{\"account_id\": \"12345\", \"type\": \"saving\"}]}")) {
+            retrievalResponse = FDXConsentRetrievalUtils.retrieveConsentData(requestBody);
+        }
+
+        // The values resolved when the authorization detail was enriched are shown as they are
+        Assert.assertEquals(retrievalResponse.get("status").toString(), "SUCCESS");
+        JSONObject consentData = retrievalResponse.getJSONArray("consentData").getJSONObject(0);
+        Assert.assertEquals(consentData.getJSONArray("authorization_details").getJSONObject(0).get("expiryDate"),
+                "2026-11-17T00:00:00Z");
+        Assert.assertEquals(consentData.getJSONObject("data_requested").toMap(), permissionLanguage);
+    }
+
+    @Test
+    void testRetrieveConsentDataPushesDownResourceTypes() throws IOException {
+        when(requestData.getRequestParameters()).thenReturn(getRequestParameters());
+        when(requestData.getUserId()).thenReturn("user123");
+
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = mockAccountsEndpoint(404)) {
+            FDXConsentRetrievalUtils.retrieveConsentData(requestBody);
+
+            ArgumentCaptor<HttpGet> requestCaptor = ArgumentCaptor.forClass(HttpGet.class);
+            Mockito.verify(FDXHttpClientHolder.getInstance().getHttpClient()).execute(requestCaptor.capture());
+            String query = requestCaptor.getValue().getURI().getQuery();
+            Assert.assertTrue(query.contains("userId=user123"));
+            Assert.assertTrue(query.contains("resourceTypes=ACCOUNT"));
+        }
+    }
+
+    @Test
+    void testRetrieveConsentDataPrefersRequestError() throws IOException {
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("someOtherKey", "value");
+        when(requestData.getRequestParameters()).thenReturn(requestParams);
+        when(requestData.getUserId()).thenReturn("user123");
+
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = mockAccountsEndpoint(404)) {
+            retrievalResponse = FDXConsentRetrievalUtils.retrieveConsentData(requestBody);
+
+            // The invalid request is rejected without calling the accounts backend
+            Mockito.verify(FDXHttpClientHolder.getInstance().getHttpClient(), Mockito.never())
+                    .execute(Mockito.any(HttpGet.class));
+        }
+
+        // The error of the request is returned
+        Assert.assertEquals(retrievalResponse.get("status").toString(), "ERROR");
+        Assert.assertEquals(retrievalResponse.get("responseStatus"), 400);
+    }
+
     @Test
     void testRetrieveConsentDataWithoutAuthorizationDetails() {
         Map<String, Object> requestParams = new HashMap<>();
@@ -156,24 +253,22 @@ public class FDXConsentRetrievalUtilsTests {
         when(requestData.getUserId()).thenReturn("user123");
         when(requestBody.getData()).thenReturn(requestData);
 
-        String mockAccountResponse = new JSONObject()
-                .put("data", new JSONArray().put(new JSONObject()
-                        .put("account_id", "123456789")
-                        .put("type", "CHECKING")))
-                .toString();
+        List<SharableAccount> mockAccountResponse =
+                Collections.singletonList(new SharableAccount("123456789", "CHECKING"));
 
         // Mock the HTTP call
         try (MockedStatic<FDXConsentRetrievalUtils> mockedStatic = Mockito.mockStatic(FDXConsentRetrievalUtils.class)) {
             mockedStatic.when(
                             () -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
                                     Mockito.anyMap(),
-                                    Mockito.anyMap()))
+                                    Mockito.anyMap(), Mockito.any()))
                     .thenReturn(mockAccountResponse);
 
             // Execute
-            mockedStatic.when(() -> FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse))
+            mockedStatic.when(
+                            () -> FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse))
                     .thenCallRealMethod();
-            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse);
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse);
 
             // Assert
             Assert.assertEquals(retrievalResponse.get("status").toString(), "SUCCESS");
@@ -182,6 +277,42 @@ public class FDXConsentRetrievalUtilsTests {
             Assert.assertEquals(consumerData.length(), 1);
             Assert.assertEquals(consumerData.getJSONObject(0).getString("account_id"), "123456789");
             Assert.assertEquals(consumerData.getJSONObject(0).getString("type"), "CHECKING");
+            Assert.assertEquals(consumerData.getJSONObject(0).getString("accountIdToDisplay"), "*****6789");
+        }
+    }
+
+    @Test
+    void testRetrieveAccountDataServedFromCache() throws Exception {
+        when(requestData.getUserId()).thenReturn("user123@carbon.super");
+
+        List<SharableAccount> mockAccountResponse =
+                Collections.singletonList(new SharableAccount("123456789", "CHECKING"));
+
+        try (MockedStatic<FDXConsentRetrievalUtils> mockedStatic = Mockito.mockStatic(FDXConsentRetrievalUtils.class)) {
+            mockedStatic.when(
+                            () -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
+                                    Mockito.anyMap(),
+                                    Mockito.anyMap(), Mockito.any()))
+                    .thenReturn(mockAccountResponse);
+            mockedStatic.when(() -> FDXConsentRetrievalUtils.retrieveAccountData(Mockito.any(), Mockito.any(),
+                            Mockito.any()))
+                    .thenCallRealMethod();
+
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse);
+            JSONObject secondResponse = new JSONObject();
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, secondResponse);
+
+            // Backend is called only for the first render
+            mockedStatic.verify(() -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
+                    Mockito.anyMap(), Mockito.anyMap(), Mockito.any()), Mockito.times(1));
+            Assert.assertEquals(secondResponse.getJSONArray("consumerData").getJSONObject(0)
+                    .getString("account_id"), "123456789");
+
+            // Invalidating the cache forces a backend call on the next render
+            SharableAccountsCache.invalidateAll();
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, new JSONObject());
+            mockedStatic.verify(() -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
+                    Mockito.anyMap(), Mockito.anyMap(), Mockito.any()), Mockito.times(2));
         }
     }
 
@@ -196,13 +327,14 @@ public class FDXConsentRetrievalUtilsTests {
             mockedStatic.when(
                             () -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
                                     Mockito.anyMap(),
-                                    Mockito.anyMap()))
-                    .thenReturn(new JSONObject().put("data", new JSONArray()).toString());
+                                    Mockito.anyMap(), Mockito.any()))
+                    .thenReturn(new ArrayList<>());
 
             // Execute
-            mockedStatic.when(() -> FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse))
+            mockedStatic.when(
+                            () -> FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse))
                     .thenCallRealMethod();
-            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse);
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse);
 
             // Assert
             Assert.assertEquals(retrievalResponse.get("status").toString(), "SUCCESS");
@@ -211,24 +343,46 @@ public class FDXConsentRetrievalUtilsTests {
         }
     }
 
+    @Test
+    void testRetrieveAccountDataWithUnavailableBackend() throws IOException {
+        when(requestData.getUserId()).thenReturn("user123");
+
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = mockAccountsEndpoint(503)) {
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse);
+        }
+
+        // A server error of the backend is reported as a clean failed response
+        Assert.assertEquals(retrievalResponse.get("status").toString(), "ERROR");
+        Assert.assertEquals(retrievalResponse.get("responseStatus"), 500);
+        Assert.assertEquals(retrievalResponse.getJSONObject("data").getString("data"),
+                "Accounts service is temporarily unavailable");
+    }
+
     @Test(expectedExceptions = JSONException.class)
     void testRetrieveAccountDataWithJSONException() throws Exception {
         // Mock input
         when(requestData.getUserId()).thenReturn("user123");
         when(requestBody.getData()).thenReturn(requestData);
 
-        // Mock the HTTP call to return an empty response
-        try (MockedStatic<FDXConsentRetrievalUtils> mockedStatic = Mockito.mockStatic(FDXConsentRetrievalUtils.class)) {
-            mockedStatic.when(
-                            () -> FDXConsentRetrievalUtils.getAccountsFromEndpoint(anyString(),
-                                    Mockito.anyMap(),
-                                    Mockito.anyMap()))
-                    .thenReturn("data");
+        // Mock the HTTP call to return a malformed response
+        CloseableHttpClient mockClient = Mockito.mock(CloseableHttpClient.class);
+        CloseableHttpResponse mockResponse = Mockito.mock(CloseableHttpResponse.class);
+        StatusLine mockStatusLine = Mockito.mock(StatusLine.class);
+        HttpEntity mockEntity = Mockito.mock(HttpEntity.class);
+        Mockito.when(mockStatusLine.getStatusCode()).thenReturn(200);
+        Mockito.when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        Mockito.when(mockResponse.getEntity()).thenReturn(mockEntity);
+        Mockito.when(mockEntity.getContent())
+                .thenReturn(new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8)));
+        Mockito.when(mockClient.execute(Mockito.any(HttpGet.class))).thenReturn(mockResponse);
+
+        FDXHttpClientHolder mockClientHolder = Mockito.mock(FDXHttpClientHolder.class);
+        Mockito.when(mockClientHolder.getHttpClient()).thenReturn(mockClient);
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = Mockito.mockStatic(FDXHttpClientHolder.class)) {
+            mockStatic.when(FDXHttpClientHolder::getInstance).thenReturn(mockClientHolder);
 
             // Execute
-            mockedStatic.when(() -> FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse))
-                    .thenCallRealMethod();
-            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, retrievalResponse);
+            FDXConsentRetrievalUtils.retrieveAccountData(requestBody, null, retrievalResponse);
         }
     }
 
@@ -270,13 +424,15 @@ public class FDXConsentRetrievalUtilsTests {
         Mockito.when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
         Mockito.when(mockClient.execute(Mockito.any(HttpGet.class))).thenReturn(mockResponse);
 
-        // Inject the mock into your utility if possible (assumes HTTPClientUtils is mockable)
-        try (MockedStatic<HTTPClientUtils> mockStatic = Mockito.mockStatic(HTTPClientUtils.class)) {
-            mockStatic.when(HTTPClientUtils::getHttpsClient).thenReturn(mockClient);
+        // Inject the mock client through the pooled client holder
+        FDXHttpClientHolder mockClientHolder = Mockito.mock(FDXHttpClientHolder.class);
+        Mockito.when(mockClientHolder.getHttpClient()).thenReturn(mockClient);
+        try (MockedStatic<FDXHttpClientHolder> mockStatic = Mockito.mockStatic(FDXHttpClientHolder.class)) {
+            mockStatic.when(FDXHttpClientHolder::getInstance).thenReturn(mockClientHolder);
             // Call the method
-            String result =
+            List<SharableAccount> result =
                     FDXConsentRetrievalUtils.getAccountsFromEndpoint(url, Collections.emptyMap(),
-                            Collections.emptyMap());
+                            Collections.emptyMap(), null);
 
             // Assert
             Assert.assertNull(result);
@@ -286,28 +442,27 @@ public class FDXConsentRetrievalUtilsTests {
     @Test
     void testRetrieveDataClusterDataWithMultipleResources() {
         // Prepare the authorization details
-        Map<String, Object> authorizationDetail = new HashMap<>();
-        Map<String, List<String>> resources = new HashMap<>();
-        resources.put("resource1", Arrays.asList("INVESTMENTS", "TRANSACTIONS"));
-        resources.put("resource2", Arrays.asList("TRANSACTIONS", "PAYMENT_SUPPORT"));
-        authorizationDetail.put(FDXCommonConstants.RESOURCES, resources);
-
-        List<Map<String, Object>> authorizationDetails = new ArrayList<>();
-        authorizationDetails.add(authorizationDetail);
-
-        // Prepare one consentData item with the above authDetails
-        Map<String, Object> consentDataItem = new HashMap<>();
-        consentDataItem.put(FDXCommonConstants.AUTHORIZATION_DETAILS, authorizationDetails);
-
-        JSONObject consentDataJson = new JSONObject(consentDataItem);
+        Map<String, Object> resource1 = new HashMap<>();
+        resource1.put("resourceType", "resource1");
+        resource1.put("dataClusters", Arrays.asList("INVESTMENTS", "TRANSACTIONS"));
+        Map<String, Object> resource2 = new HashMap<>();
+        resource2.put("resourceType", "resource2");
+        resource2.put("dataClusters", Arrays.asList("TRANSACTIONS", "PAYMENT_SUPPORT"));
+        Map<String, Object> consentRequest = new HashMap<>();
+        consentRequest.put("resources", Arrays.asList(resource1, resource2));
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("authorization_details",
+                Collections.singletonList(Collections.singletonMap("consentRequest", consentRequest)));
+        requestParams.put("redirect_uri", "https://callback");
+        ConsentRequestParameters requestParameters = ConsentRequestParametersBinder.bind(requestParams);
 
-        // Wrap in retrievalResponse
+        // Prepare one consentData item
         retrievalResponse.put(FDXCommonConstants.STATUS,
                 SuccessResponsePopulateConsentAuthorizeScreen.StatusEnum.SUCCESS);
-        retrievalResponse.put(FDXCommonConstants.CONSENT_DATA, new JSONArray().put(consentDataJson));
+        retrievalResponse.put(FDXCommonConstants.CONSENT_DATA, new JSONArray().put(new JSONObject()));
 
         // Execute
-        FDXConsentRetrievalUtils.retrieveDataClusterData(retrievalResponse);
+        FDXConsentRetrievalUtils.retrieveDataClusterData(requestParameters, retrievalResponse);
 
         // Assert status unchanged
         Assert.assertEquals(
@@ -315,12 +470,13 @@ public class FDXConsentRetrievalUtilsTests {
                 SuccessResponsePopulateConsentAuthorizeScreen.StatusEnum.SUCCESS
         );
 
-        // Assert data requested has been populated
+        // Assert data requested has been populated with the data clusters of every resource
         JSONObject updatedConsentItem = retrievalResponse
                 .getJSONArray(FDXCommonConstants.CONSENT_DATA)
                 .getJSONObject(0);
 
         Assert.assertTrue(updatedConsentItem.has(FDXCommonConstants.DATA_REQUESTED));
+        Assert.assertEquals(updatedConsentItem.getJSONObject(FDXCommonConstants.DATA_REQUESTED).length(), 3);
     }
 
     @Test
@@ -336,4 +492,49 @@ public class FDXConsentRetrievalUtilsTests {
         String masked = FDXConsentRetrievalUtils.getMaskedAccountNumber(accountId);
         Assert.assertEquals(masked, "*****6789");
     }
+
+    private static Map<String, Object> getRequestParameters() {
+        Map<String, Object> consentRequest = new HashMap<>();
+        consentRequest.put("durationType", "PERSISTENT");
+        consentRequest.put("durationPeriod", "30");
+
+        Map<String, Object> resourceItem = new HashMap<>();
+        resourceItem.put("resourceType", "ACCOUNT");
+        resourceItem.put("dataClusters", Arrays.asList("TRANSACTIONS", "BALANCE"));
+        consentRequest.put("resources", Collections.singletonList(resourceItem));
+
+        Map<String, Object> authorizationDetail = new HashMap<>();
+        authorizationDetail.put("consentRequest", consentRequest);
+
+        Map<String, Object> requestParams = new HashMap<>();
+        requestParams.put("authorization_details", Collections.singletonList(authorizationDetail));
+        requestParams.put("redirect_uri", "https://callback");
+        return requestParams;
+    }
+
+    private static MockedStatic<FDXHttpClientHolder> mockAccountsEndpoint(int statusCode) throws IOException {
+        return mockAccountsEndpoint(statusCode, null);
+    }
+
+    private static MockedStatic<FDXHttpClientHolder> mockAccountsEndpoint(int statusCode, String content)
+            throws IOException {
+        CloseableHttpClient mockClient = Mockito.mock(CloseableHttpClient.class);
+        CloseableHttpResponse mockResponse = Mockito.mock(CloseableHttpResponse.class);
+        StatusLine mockStatusLine = Mockito.mock(StatusLine.class);
+        Mockito.when(mockStatusLine.getStatusCode()).thenReturn(statusCode);
+        Mockito.when(mockResponse.getStatusLine()).thenReturn(mockStatusLine);
+        Mockito.when(mockClient.execute(Mockito.any(HttpGet.class))).thenReturn(mockResponse);
+        if (content != null) {
+            HttpEntity mockEntity = Mockito.mock(HttpEntity.class);
+            Mockito.when(mockEntity.getContent())
+                    .thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            Mockito.when(mockResponse.getEntity()).thenReturn(mockEntity);
+        }
+
+        FDXHttpClientHolder mockClientHolder = Mockito.mock(FDXHttpClientHolder.class);
+        Mockito.when(mockClientHolder.getHttpClient()).thenReturn(mockClient);
+        MockedStatic<FDXHttpClientHolder> mockStatic = Mockito.mockStatic(FDXHttpClientHolder.class);
+        mockStatic.when(FDXHttpClientHolder::getInstance).thenReturn(mockClientHolder);
+        return mockStatic;
+    }
 }
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class FDXDataClusterTableTests {
+
+    @Test
+    public void testToBitmaskIgnoresUnknownClusters() {
+        int bitmask = FDXDataClusterTable.toBitmask(Arrays.asList("TRANSACTIONS", "UNKNOWN", "TRANSACTIONS"));
+
+        Assert.assertEquals(bitmask, FDXDataClusterTable.getBit("TRANSACTIONS"));
+        Assert.assertEquals(FDXDataClusterTable.getBit("UNKNOWN"), 0);
+    }
+
+    @Test
+    public void testPermissionLanguageMatchesDataClusters() {
+        int bitmask = FDXDataClusterTable.toBitmask(Arrays.asList("TRANSACTIONS", "ACCOUNT_BASIC"));
+        Map<String, List<String>> permissionLanguage = FDXDataClusterTable.getPermissionLanguage(bitmask);
+
+        // Entries follow the declaration order of the data clusters
+        Assert.assertEquals(new ArrayList<>(permissionLanguage.keySet()),
+                Arrays.asList("Account Information - Basic", "Transactions"));
+        Assert.assertEquals(permissionLanguage.get("Transactions"),
+                FDXCommonConstants.DATA_CLUSTERS.get("TRANSACTIONS").get("Transactions"));
+    }
+
+    @Test
+    public void testPermissionLanguageIsMemoized() {
+        int bitmask = FDXDataClusterTable.toBitmask(Arrays.asList("INVESTMENTS", "PAYMENT_SUPPORT"));
+
+        Assert.assertSame(FDXDataClusterTable.getPermissionLanguage(bitmask),
+                FDXDataClusterTable.getPermissionLanguage(bitmask));
+        Assert.assertTrue(FDXDataClusterTable.getPermissionLanguage(0).isEmpty());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testPermissionLanguageIsImmutable() {
+        FDXDataClusterTable.getPermissionLanguage(FDXDataClusterTable.getBit("TAX")).clear();
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+public class FDXErrorPayloadsTests {
+
+    @Test
+    public void testErrorPayloadsAreShared() {
+        FDXErrorPayload errorPayload = FDXErrorPayloads.get(400, "invalid_request", "Data is missing");
+
+        Assert.assertSame(FDXErrorPayloads.get(400, "invalid_request", "Data is missing"), errorPayload);
+        Assert.assertSame(errorPayload.toErrorResponseEntity(), errorPayload.toErrorResponseEntity());
+        Assert.assertNotSame(FDXErrorPayloads.get(500, "invalid_request", "Data is missing"), errorPayload);
+        // The message shape is a different payload even with the same status and description
+        Assert.assertNotSame(FDXErrorPayloads.getMessage(400, "Data is missing"), errorPayload);
+    }
+
+    @Test
+    public void testErrorPayloadResponses() {
+        FDXErrorPayload errorPayload = FDXErrorPayloads.get(400, "invalid_request", "Data is \"missing\"");
+
+        JSONObject errorResponse = new JSONObject(FDXTestUtils.writeEntity(errorPayload.toErrorResponseEntity()));
+        Assert.assertEquals(errorResponse.getString("status"), "ERROR");
+        Assert.assertEquals(errorResponse.getJSONObject("data").getString("errorMessage"), "invalid_request");
+        Assert.assertEquals(errorResponse.getJSONObject("data").getString("errorDescription"),
+                "Data is \"missing\"");
+
+        JSONObject failedResponse = new JSONObject(FDXTestUtils.writeEntity(errorPayload.toFailedResponseEntity()));
+        Assert.assertEquals(failedResponse.getInt("errorCode"), 400);
+        Assert.assertTrue(failedResponse.getJSONObject("data").similar(errorPayload.getData()));
+    }
+
+    @Test
+    public void testHandleBadRequestsUsesRegisteredPayload() {
+        JSONObject response = new JSONObject();
+        FDXConsentRetrievalUtils.handleBadRequests(response, 500, "Unable to load accounts data");
+
+        Assert.assertSame(response.get(FDXCommonConstants.ERROR_PAYLOAD),
+                FDXErrorPayloads.getMessage(500, "Unable to load accounts data"));
+        JSONObject failedResponse = new JSONObject(FDXTestUtils.writeEntity(
+                ((FDXErrorPayload) response.get(FDXCommonConstants.ERROR_PAYLOAD)).toFailedResponseEntity()));
+        Assert.assertEquals(failedResponse.getJSONObject("data").getString("data"), "Unable to load accounts data");
+    }
+
+    @Test
+    public void testErrorDataCopiesDoNotChangeSharedPayload() {
+        JSONObject response = new JSONObject();
+        FDXConsentRetrievalUtils.handleBadRequests(response, 400, "Consent data is not available");
+        response.getJSONObject(FDXCommonConstants.DATA).put("data", "Modified");
+
+        FDXErrorPayload errorPayload = FDXErrorPayloads.getMessage(400, "Consent data is not available");
+        errorPayload.getData().put("data", "Modified");
+
+        Assert.assertEquals(errorPayload.getData().getString("data"), "Consent data is not available");
+        Assert.assertEquals(errorPayload.toJSONString(), "{\"data\":\"Consent data is not available\"}");
+    }
+
+    @Test
+    public void testMappedErrors() {
+        JSONObject mappedResponse = new JSONObject(FDXTestUtils.writeEntity(
+                FDXErrorPayloads.createMapped(" 401", "Invalid client ID provided.").toMappedResponseEntity("Ec1w\"")));
+
+        Assert.assertEquals(mappedResponse.getString("responseId"), "Ec1w\"");
+        Assert.assertEquals(mappedResponse.getInt("errorCode"), 401);
+        Assert.assertEquals(mappedResponse.getJSONObject("data").getString("customErrorCode"), "unauthorized");
+        Assert.assertEquals(mappedResponse.getJSONObject("data").getString("customErrorDescription"),
+                "Invalid client ID provided.");
+
+        // Unmapped errors are reported as server errors
+        Assert.assertEquals(FDXErrorPayloads.createMapped("999", "Unknown").getStatusCode(), 500);
+        Assert.assertFalse(new JSONObject(FDXTestUtils.writeEntity(FDXErrorPayloads.createMapped("999", "Unknown")
+                .toMappedResponseEntity(null))).has("responseId"));
+    }
+
+    @Test
+    public void testCompileErrorMappings() {
+        Map<String, FDXErrorPayloads.MappedError> mappings =
+                FDXErrorPayloads.compileErrorMappings("400=400:invalid, 401 = 403:forbidden");
+        Assert.assertEquals(mappings.size(), 2);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCompileInvalidErrorMappings() {
+        FDXErrorPayloads.compileErrorMappings("400=invalid");
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FDXEventRingBufferTests {
+
+    @Test
+    public void testPollReturnsUnacknowledgedEventsInBatches() {
+        FDXEventRingBuffer eventBuffer = new FDXEventRingBuffer(8);
+        for (int i = 1; i <= 5; i++) {
+            Assert.assertEquals(eventBuffer.append("{\"id\": " + i + "}"), i);
+        }
+
+        List<FDXEvent> events = new ArrayList<>();
+        Assert.assertTrue(eventBuffer.poll(3, events));
+        Assert.assertEquals(getSequences(events), new long[]{1, 2, 3});
+
+        // Unacknowledged events are returned again
+        events.clear();
+        Assert.assertFalse(eventBuffer.poll(10, events));
+        Assert.assertEquals(getSequences(events), new long[]{1, 2, 3, 4, 5});
+        Assert.assertEquals(events.get(4).toJSONString(), "{\"id\": 5}");
+    }
+
+    @Test
+    public void testAcknowledgementsAreCumulative() {
+        FDXEventRingBuffer eventBuffer = new FDXEventRingBuffer(8);
+        for (int i = 1; i <= 5; i++) {
+            eventBuffer.append("{}");
+        }
+
+        Assert.assertTrue(eventBuffer.acknowledge(3));
+        // An earlier acknowledgement does not move the acknowledged sequence back
+        Assert.assertTrue(eventBuffer.acknowledge(2));
+        Assert.assertFalse(eventBuffer.acknowledge(6));
+        Assert.assertFalse(eventBuffer.acknowledge(0));
+        Assert.assertEquals(eventBuffer.getAcknowledgedSequence(), 3);
+
+        List<FDXEvent> events = new ArrayList<>();
+        Assert.assertFalse(eventBuffer.poll(10, events));
+        Assert.assertEquals(getSequences(events), new long[]{4, 5});
+    }
+
+    @Test
+    public void testFullBufferOverwritesOldestEvents() {
+        FDXEventRingBuffer eventBuffer = new FDXEventRingBuffer(3);
+        Assert.assertEquals(eventBuffer.getCapacity(), 4);
+        for (int i = 1; i <= 4; i++) {
+            eventBuffer.append("{}");
+        }
+        eventBuffer.acknowledge(1);
+        eventBuffer.append("{}");
+        eventBuffer.append("{}");
+
+        List<FDXEvent> events = new ArrayList<>();
+        eventBuffer.poll(10, events);
+        Assert.assertEquals(getSequences(events), new long[]{3, 4, 5, 6});
+        // Event 1 was acknowledged before being overwritten
+        Assert.assertEquals(eventBuffer.getDroppedCount(), 1);
+        Assert.assertEquals(eventBuffer.getLastSequence(), 6);
+    }
+
+    @Test
+    public void testConcurrentAppendsAssignDistinctSequences() throws InterruptedException {
+        FDXEventRingBuffer eventBuffer = new FDXEventRingBuffer(4096);
+        Thread[] appenders = new Thread[4];
+        for (int i = 0; i < appenders.length; i++) {
+            appenders[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    eventBuffer.append("{}");
+                }
+            });
+            appenders[i].start();
+        }
+        for (Thread appender : appenders) {
+            appender.join();
+        }
+
+        List<FDXEvent> events = new ArrayList<>();
+        Assert.assertFalse(eventBuffer.poll(4096, events));
+        Assert.assertEquals(events.size(), 4000);
+        for (int i = 0; i < events.size(); i++) {
+            Assert.assertEquals(events.get(i).getSequence(), i + 1);
+        }
+    }
+
+    private static long[] getSequences(List<FDXEvent> events) {
+        return events.stream().mapToLong(FDXEvent::getSequence).toArray();
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+
+public class FDXEventStoreTests {
+
+    private static final long NOT_IDLE_MILLIS = 3600000;
+
+    @BeforeMethod
+    public void setUp() {
+        FDXEventStore.invalidateAll();
+    }
+
+    @Test
+    public void testFullyAcknowledgedClientIsDroppedForNewClient() throws ConsentException {
+        long firstSequence = FDXEventStore.append("client1", "{}", 2, NOT_IDLE_MILLIS);
+        long lastSequence = FDXEventStore.append("client2", "{}", 2, NOT_IDLE_MILLIS);
+        FDXEventStore.get("client2").acknowledge(lastSequence);
+
+        FDXEventStore.append("client3", "{}", 2, NOT_IDLE_MILLIS);
+
+        Assert.assertNotNull(FDXEventStore.get("client1"));
+        Assert.assertNull(FDXEventStore.get("client2"));
+        Assert.assertNotNull(FDXEventStore.get("client3"));
+
+        // The sequence numbers of the dropped client continue after its dropped events
+        FDXEventStore.get("client1").acknowledge(firstSequence);
+        Assert.assertTrue(FDXEventStore.append("client2", "{}", 2, NOT_IDLE_MILLIS) > lastSequence);
+        Assert.assertNull(FDXEventStore.get("client1"));
+        Assert.assertTrue(FDXEventStore.isDropped(lastSequence));
+    }
+
+    @Test
+    public void testIdleClientIsDroppedForNewClient() throws ConsentException {
+        FDXEventStore.append("client1", "{}", 1, NOT_IDLE_MILLIS);
+
+        FDXEventStore.append("client2", "{}", 1, 0);
+
+        Assert.assertNull(FDXEventStore.get("client1"));
+        Assert.assertNotNull(FDXEventStore.get("client2"));
+    }
+
+    @Test
+    public void testNewClientIsRejectedWhileClientsAreActive() throws ConsentException {
+        long sequence = FDXEventStore.append("client1", "{}", 1, NOT_IDLE_MILLIS);
+
+        try {
+            FDXEventStore.append("client2", "{}", 1, NOT_IDLE_MILLIS);
+            Assert.fail("Expected the new client to be rejected");
+        } catch (ConsentException e) {
+            Assert.assertNotNull(FDXEventStore.get("client1"));
+            Assert.assertEquals(FDXEventStore.getClientCount(), 1);
+        }
+        // Events of known clients are still appended
+        Assert.assertEquals(FDXEventStore.append("client1", "{}", 1, NOT_IDLE_MILLIS), sequence + 1);
+    }
+}
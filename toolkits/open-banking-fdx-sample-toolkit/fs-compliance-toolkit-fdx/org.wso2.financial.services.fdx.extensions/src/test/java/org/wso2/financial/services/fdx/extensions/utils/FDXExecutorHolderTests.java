@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class FDXExecutorHolderTests {
+
+    @AfterMethod
+    public void tearDown() {
+        FDXExecutorHolder.shutdown();
+    }
+
+    @Test
+    public void testExecutorIsReused() {
+        FDXExecutorHolder holder = FDXExecutorHolder.getInstance();
+
+        Assert.assertSame(FDXExecutorHolder.getInstance(), holder);
+        Assert.assertSame(FDXExecutorHolder.getInstance().getExecutor(), holder.getExecutor());
+    }
+
+    @Test
+    public void testTasksRunOnWorkerThreads() throws Exception {
+        String threadName = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(),
+                FDXExecutorHolder.getInstance().getExecutor()).get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue(threadName.startsWith("fdx-extensions-worker-"));
+    }
+
+    @Test
+    public void testShutdownReleasesHolder() {
+        FDXExecutorHolder holder = FDXExecutorHolder.getInstance();
+        FDXExecutorHolder.shutdown();
+
+        Assert.assertNotSame(FDXExecutorHolder.getInstance(), holder);
+    }
+}
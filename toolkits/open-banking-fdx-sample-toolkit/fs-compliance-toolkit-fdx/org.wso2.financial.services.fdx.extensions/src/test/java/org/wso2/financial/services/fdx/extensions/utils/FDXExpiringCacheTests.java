@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class FDXExpiringCacheTests {
+
+    @Test
+    public void testGetCountsHitsAndMisses() {
+        FDXExpiringCache<String, String> cache = new FDXExpiringCache<>("test", 60000, 10, value -> 1);
+        cache.put("key", "value");
+
+        Assert.assertEquals(cache.get("key"), "value");
+        Assert.assertNull(cache.get("unknown"));
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testEntryExpiresAfterTimeToLive() throws InterruptedException {
+        FDXExpiringCache<String, String> cache = new FDXExpiringCache<>("test", 20, 10, value -> 1);
+        cache.put("key", "value");
+        Thread.sleep(40);
+
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedByWeight() {
+        FDXExpiringCache<String, List<String>> cache = new FDXExpiringCache<>("test", 60000, 4, List::size);
+        cache.put("first", Arrays.asList("a", "b"));
+        cache.put("second", Arrays.asList("c", "d"));
+        cache.get("first");
+        cache.put("third", Collections.singletonList("e"));
+
+        Assert.assertNotNull(cache.get("first"));
+        Assert.assertNull(cache.get("second"));
+        Assert.assertNotNull(cache.get("third"));
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+        Assert.assertEquals(cache.getWeight(), 3);
+    }
+
+    @Test
+    public void testEntryHeavierThanLimitIsNotCached() {
+        FDXExpiringCache<String, List<String>> cache = new FDXExpiringCache<>("test", 60000, 1, List::size);
+        cache.put("key", Arrays.asList("a", "b"));
+
+        Assert.assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testInvalidateByPredicate() {
+        FDXExpiringCache<String, String> cache = new FDXExpiringCache<>("test", 60000, 10, value -> 1);
+        cache.put("tenant1/user1", "value1");
+        cache.put("tenant2/user2", "value2");
+        cache.invalidateIf(key -> key.startsWith("tenant1/"));
+
+        Assert.assertNull(cache.get("tenant1/user1"));
+        Assert.assertEquals(cache.get("tenant2/user2"), "value2");
+        Assert.assertEquals(cache.getWeight(), 1);
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class FDXFileContentInputStreamTests {
+
+    @Test
+    public void testFileContentIsDivertedToSink() throws IOException {
+        String request = "{\"requestId\": \"mockRequestId\", \"data\": {\"consentId\": \"mockConsentId\", " +
+                "\"consentResource\": {\"fileContent\": \"stored\"}, \"fileContent\" : \"line1\\nline2 \\\"q\\\" " +
+                "\\u00e9\\ud83d\\ude00\\/\", \"consentResourcePath\": \"fileContent\"}}";
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        FDXFileContentInputStream inputStream = new FDXFileContentInputStream(toStream(request), 2, sink);
+
+        JSONObject filteredRequest = new JSONObject(readFully(inputStream, 7));
+
+        Assert.assertTrue(inputStream.isFileContentFound());
+        Assert.assertEquals(new String(sink.toByteArray(), StandardCharsets.UTF_8),
+                "line1\nline2 \"q\" \u00e9\ud83d\ude00/");
+        JSONObject data = filteredRequest.getJSONObject("data");
+        Assert.assertEquals(data.getString("fileContent"), "");
+        // Values at other depths are replaced but not written to the sink
+        Assert.assertEquals(data.getJSONObject("consentResource").getString("fileContent"), "");
+        // String values equal to the field name are left as they are
+        Assert.assertEquals(data.getString("consentResourcePath"), "fileContent");
+        Assert.assertEquals(data.getString("consentId"), "mockConsentId");
+    }
+
+    @Test
+    public void testRequestWithoutFileContent() throws IOException {
+        String request = "{\"data\": {\"consentId\": \"file\\\"Content\", \"fileContents\": \"value\"}}";
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        FDXFileContentInputStream inputStream = new FDXFileContentInputStream(toStream(request), 2, sink);
+
+        Assert.assertEquals(readFully(inputStream, 1), request);
+        Assert.assertFalse(inputStream.isFileContentFound());
+        Assert.assertEquals(sink.size(), 0);
+    }
+
+    @Test
+    public void testFileContentDigestCountsContentBeyondMaxSize() {
+        FDXFileContentDigest digest = new FDXFileContentDigest(4);
+        digest.write(new byte[]{1, 2, 3}, 0, 3);
+        Assert.assertFalse(digest.isMaxSizeExceeded());
+
+        digest.write(new byte[]{4, 5}, 0, 2);
+        Assert.assertEquals(digest.getSize(), 5);
+        Assert.assertTrue(digest.isMaxSizeExceeded());
+    }
+
+    private static String readFully(InputStream inputStream, int chunkSize) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int count;
+        while ((count = inputStream.read(chunk, 0, chunkSize)) != -1) {
+            outputStream.write(chunk, 0, count);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.pool.PoolStats;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.configurations.ConfigurableProperties;
+
+public class FDXHttpClientHolderTests {
+
+    @AfterMethod
+    public void tearDown() {
+        FDXHttpClientHolder.shutdown();
+    }
+
+    @Test
+    public void testHttpClientIsReused() {
+        FDXHttpClientHolder holder = FDXHttpClientHolder.getInstance();
+
+        Assert.assertSame(FDXHttpClientHolder.getInstance(), holder);
+        Assert.assertSame(FDXHttpClientHolder.getInstance().getHttpClient(), holder.getHttpClient());
+    }
+
+    @Test
+    public void testPoolStatsReflectConfiguredLimits() {
+        PoolStats poolStats = FDXHttpClientHolder.getInstance().getPoolStats();
+
+        Assert.assertEquals(poolStats.getMax(), ConfigurableProperties.HTTP_POOL_MAX_TOTAL);
+        Assert.assertEquals(poolStats.getLeased(), 0);
+    }
+
+    @Test
+    public void testShutdownReleasesHolder() {
+        FDXHttpClientHolder holder = FDXHttpClientHolder.getInstance();
+        FDXHttpClientHolder.shutdown();
+
+        Assert.assertNotSame(FDXHttpClientHolder.getInstance(), holder);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testHostnameVerifierFollowsAcceleratorOptions() {
+        Assert.assertSame(FDXHttpClientHolder.getHostnameVerifier("AllowAll"), NoopHostnameVerifier.INSTANCE);
+        Assert.assertSame(FDXHttpClientHolder.getHostnameVerifier("Strict"),
+                SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER);
+        Assert.assertSame(FDXHttpClientHolder.getHostnameVerifier(null),
+                SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER);
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.Authorization;
+import org.wso2.financial.services.fdx.extensions.model.DetailedConsentResourceDataWithAmendments;
+import org.wso2.financial.services.fdx.extensions.model.FailedResponse;
+import org.wso2.financial.services.fdx.extensions.model.Resource;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsent;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsentData;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreen;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePopulateConsentAuthorizeScreenData;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class FDXJsonResponseWriterTests {
+
+    @Test
+    public void testPopulateConsentAuthorizeScreenResponseShape() {
+        JSONObject consentRequest = new JSONObject()
+                .put(FDXCommonConstants.EXPIRATION_DATE_TIME, OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC))
+                .put(FDXCommonConstants.DURATION_PERIOD, 30L)
+                .put(FDXCommonConstants.RESOURCES,
+                        Collections.singletonMap("ACCOUNT", Arrays.asList("TRANSACTIONS", "BALANCES")));
+        JSONObject consentData = new JSONObject()
+                .put(FDXCommonConstants.AUTHORIZATION_DETAILS, new JSONArray().put(consentRequest))
+                .put(FDXCommonConstants.TYPE, FDXCommonConstants.FDX_TYPE)
+                .put(FDXCommonConstants.DATA_REQUESTED, FDXDataClusterTable.getPermissionLanguage(
+                        FDXDataClusterTable.getBit("TRANSACTIONS")))
+                .put("ratio", 1.0d);
+        JSONArray consumerData = new JSONArray().put(new JSONObject()
+                .put(FDXCommonConstants.ACCOUNT_ID, "12345")
+                .put(FDXCommonConstants.ACCOUNT_ID_DISPLAYABLE, "*2345"));
+
+        SuccessResponsePopulateConsentAuthorizeScreen response = new SuccessResponsePopulateConsentAuthorizeScreen();
+        response.setStatus(SuccessResponsePopulateConsentAuthorizeScreen.StatusEnum.SUCCESS);
+        response.setData(new SuccessResponsePopulateConsentAuthorizeScreenData()
+                .consentData(new JSONArray().put(consentData))
+                .consumerData(consumerData));
+
+        assertSameShape(response);
+    }
+
+    @Test
+    public void testFailedResponseShape() {
+        FailedResponse failedResponse = new FailedResponse();
+        failedResponse.setStatus(FailedResponse.StatusEnum.ERROR);
+        failedResponse.setErrorCode(500);
+        failedResponse.setData(new JSONObject().put(FDXCommonConstants.DATA, "Unable to load accounts data")
+                .put(FDXCommonConstants.STATUS, FailedResponse.StatusEnum.ERROR));
+
+        assertSameShape(failedResponse);
+    }
+
+    @Test
+    public void testPersistAuthorizedConsentResponseShape() {
+        Authorization authorization = new Authorization()
+                .userId("user123")
+                .type("primary_member")
+                .status("approved")
+                .resources(Collections.singletonList(new Resource()
+                        .accountId("12345")
+                        .permission("TRANSACTIONS&")
+                        .status("active")));
+
+        SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
+        response.setResponseId("requestId");
+        response.setStatus(SuccessResponsePersistAuthorizedConsent.StatusEnum.SUCCESS);
+        response.setData(new SuccessResponsePersistAuthorizedConsentData()
+                .consentResource(new DetailedConsentResourceDataWithAmendments()
+                        .type(FDXCommonConstants.FDX_TYPE)
+                        .status(FDXCommonConstants.FDX_CONSENT_AUTHORISED)
+                        .validityTime(0L)
+                        .recurringIndicator(false)
+                        .frequency(0)
+                        .receipt(new JSONObject().put(FDXCommonConstants.AUTHORIZATION_DETAILS, new JSONArray()))
+                        .attributes(Collections.singletonMap(FDXCommonConstants.COMMON_AUTH_ID, "authId"))
+                        .authorizations(Collections.singletonList(authorization))));
+
+        assertSameShape(response);
+    }
+
+    /**
+     * Asserts that the streamed JSON of the given bean matches the JSON produced by org.json for it.
+     */
+    private static void assertSameShape(Object responseBean) {
+        JSONObject expected = new JSONObject(new JSONObject(responseBean).toString());
+        JSONObject actual = new JSONObject(FDXTestUtils.writeEntity(FDXJsonResponseWriter.toEntity(responseBean)));
+
+        Assert.assertTrue(actual.similar(expected), "Expected " + expected + " but was " + actual);
+    }
+}
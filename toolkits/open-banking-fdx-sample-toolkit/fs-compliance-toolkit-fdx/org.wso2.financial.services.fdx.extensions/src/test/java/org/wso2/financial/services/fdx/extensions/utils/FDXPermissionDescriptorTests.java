@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class FDXPermissionDescriptorTests {
+
+    @Test
+    public void testPermissionRoundTripsForEveryBitmask() {
+        for (int bitmask = 0; bitmask < 1 << FDXDataClusterTable.getDataClusterCount(); bitmask++) {
+            FDXPermissionDescriptor descriptor = FDXPermissionDescriptor.of(bitmask);
+
+            Assert.assertEquals(descriptor.getBitmask(), bitmask);
+            Assert.assertSame(FDXPermissionDescriptor.parse(descriptor.getPermission()), descriptor);
+        }
+    }
+
+    @Test
+    public void testDescriptorIsSharedForKnownDataClusters() {
+        FDXPermissionDescriptor descriptor =
+                FDXPermissionDescriptor.of(Arrays.asList("TRANSACTIONS", "ACCOUNT_BASIC", "TRANSACTIONS"));
+
+        Assert.assertSame(descriptor, FDXPermissionDescriptor.of(Arrays.asList("ACCOUNT_BASIC", "TRANSACTIONS")));
+        Assert.assertEquals(descriptor.getPermission(), "ACCOUNT_BASIC&TRANSACTIONS&");
+        Assert.assertEquals(FDXPermissionDescriptor.of(Collections.emptyList()).getPermission(), "");
+    }
+
+    @Test
+    public void testLegacyPermissionsParseToTheSameBitmask() {
+        FDXPermissionDescriptor descriptor = FDXPermissionDescriptor.of(
+                Arrays.asList("ACCOUNT_BASIC", "TRANSACTIONS", "STATEMENTS"));
+
+        // Permissions persisted in the order of the consent request, with repeated data clusters
+        for (String legacyPermission : Arrays.asList("STATEMENTS&TRANSACTIONS&ACCOUNT_BASIC&",
+                "TRANSACTIONS&ACCOUNT_BASIC&STATEMENTS&TRANSACTIONS&", "ACCOUNT_BASIC&STATEMENTS&TRANSACTIONS")) {
+            FDXPermissionDescriptor legacyDescriptor = FDXPermissionDescriptor.parse(legacyPermission);
+
+            Assert.assertEquals(legacyDescriptor.getBitmask(), descriptor.getBitmask());
+            Assert.assertEquals(legacyDescriptor.getPermission(), legacyPermission);
+        }
+    }
+
+    @Test
+    public void testUnknownDataClustersAreKept() {
+        FDXPermissionDescriptor descriptor = FDXPermissionDescriptor.of(Arrays.asList("transactions", "TAX"));
+
+        Assert.assertEquals(descriptor.getPermission(), "transactions&TAX&");
+        Assert.assertEquals(descriptor.getBitmask(), FDXDataClusterTable.getBit("TAX"));
+        Assert.assertEquals(FDXPermissionDescriptor.parse("TAX&ACCOUNT_BASIC&").getPermission(), "TAX&ACCOUNT_BASIC&");
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class FDXRequestExecutorHolderTests {
+
+    @AfterMethod
+    public void tearDown() {
+        FDXRequestExecutorHolder.shutdown();
+    }
+
+    @Test
+    public void testExecutorIsReused() {
+        FDXRequestExecutorHolder holder = FDXRequestExecutorHolder.getInstance();
+
+        Assert.assertSame(FDXRequestExecutorHolder.getInstance(), holder);
+    }
+
+    @Test
+    public void testPendingRequestsAreReleasedOnCompletion() throws InterruptedException {
+        FDXRequestExecutorHolder holder = FDXRequestExecutorHolder.getInstance();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+
+        holder.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(holder.getPendingRequestCount(), 1);
+
+        release.countDown();
+        holder.execute(completed::countDown);
+        Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (holder.getPendingRequestCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(holder.getPendingRequestCount(), 0);
+    }
+
+    @Test
+    public void testShutdownReleasesHolder() {
+        FDXRequestExecutorHolder holder = FDXRequestExecutorHolder.getInstance();
+        FDXRequestExecutorHolder.shutdown();
+
+        Assert.assertNotSame(FDXRequestExecutorHolder.getInstance(), holder);
+    }
+}
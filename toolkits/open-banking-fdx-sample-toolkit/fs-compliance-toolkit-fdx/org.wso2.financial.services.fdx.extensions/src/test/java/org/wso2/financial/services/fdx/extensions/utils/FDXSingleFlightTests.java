@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FDXSingleFlightTests {
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        FDXSingleFlight<String, String> singleFlight = new FDXSingleFlight<>("test");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("user", () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                releaseLoad.await();
+                return "accounts";
+            }, InterruptedException.class));
+            Assert.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("user", () -> {
+                loads.incrementAndGet();
+                return "other";
+            }, RuntimeException.class));
+            waitForCoalescedCount(singleFlight, 1);
+            releaseLoad.countDown();
+
+            Assert.assertEquals(leader.get(5, TimeUnit.SECONDS), "accounts");
+            Assert.assertEquals(follower.get(5, TimeUnit.SECONDS), "accounts");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertEquals(singleFlight.getLoadCount(), 1);
+        Assert.assertEquals(singleFlight.getCoalescedCount(), 1);
+        Assert.assertEquals(singleFlight.getInFlightCount(), 0);
+    }
+
+    @Test
+    public void testFailureIsPropagatedToCoalescedCalls() throws Exception {
+        FDXSingleFlight<String, String> singleFlight = new FDXSingleFlight<>("test");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        IOException failure = new IOException("Backend unavailable");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("user", () -> {
+                loadStarted.countDown();
+                awaitUninterruptibly(releaseLoad);
+                throw failure;
+            }, IOException.class));
+            Assert.assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> follower = executor.submit(() -> singleFlight.execute("user", () -> "other",
+                    IOException.class));
+            waitForCoalescedCount(singleFlight, 1);
+            releaseLoad.countDown();
+
+            assertFailure(leader, failure);
+            assertFailure(follower, failure);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The failed load is released so the next call loads again
+        Assert.assertEquals(singleFlight.getInFlightCount(), 0);
+        Assert.assertEquals(singleFlight.execute("user", () -> "accounts", IOException.class), "accounts");
+        Assert.assertEquals(singleFlight.getLoadCount(), 2);
+    }
+
+    @Test
+    public void testSequentialLoadsAreNotCoalesced() {
+        FDXSingleFlight<String, String> singleFlight = new FDXSingleFlight<>("test");
+
+        Assert.assertEquals(singleFlight.execute("user", () -> "first", RuntimeException.class), "first");
+        Assert.assertEquals(singleFlight.execute("user", () -> "second", RuntimeException.class), "second");
+        Assert.assertEquals(singleFlight.execute(null, () -> "third", RuntimeException.class), "third");
+
+        Assert.assertEquals(singleFlight.getLoadCount(), 3);
+        Assert.assertEquals(singleFlight.getCoalescedCount(), 0);
+    }
+
+    private static void waitForCoalescedCount(FDXSingleFlight<?, ?> singleFlight, long count)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.getCoalescedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Assert.assertEquals(singleFlight.getCoalescedCount(), count);
+    }
+
+    private static void assertFailure(Future<String> future, Exception failure) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the load to fail");
+        } catch (ExecutionException e) {
+            Assert.assertSame(e.getCause(), failure);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
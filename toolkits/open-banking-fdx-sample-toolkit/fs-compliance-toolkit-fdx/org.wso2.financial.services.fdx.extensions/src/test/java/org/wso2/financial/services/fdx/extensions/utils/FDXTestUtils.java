@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Utilities shared by the FDX extension tests.
+ */
+public class FDXTestUtils {
+
+    /**
+     * Writes the streaming entity of the given response and parses it as a JSON object.
+     *
+     * @param response The API response.
+     * @return The response body.
+     */
+    public static JSONObject readEntity(Response response) {
+        return new JSONObject(writeEntity((StreamingOutput) response.getEntity()));
+    }
+
+    /**
+     * Writes the streaming entity of the given response and parses it as a JSON array.
+     *
+     * @param response The API response.
+     * @return The response body.
+     */
+    public static JSONArray readEntityArray(Response response) {
+        return new JSONArray(writeEntity((StreamingOutput) response.getEntity()));
+    }
+
+    /**
+     * Writes the given streaming entity to a string.
+     *
+     * @param entity The streaming entity.
+     * @return The written entity.
+     */
+    public static String writeEntity(StreamingOutput entity) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            entity.write(outputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
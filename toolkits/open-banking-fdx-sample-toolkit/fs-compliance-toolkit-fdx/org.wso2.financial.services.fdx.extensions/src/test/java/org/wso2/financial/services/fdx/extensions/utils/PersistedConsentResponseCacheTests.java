@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
+import org.wso2.financial.services.fdx.extensions.model.FailedResponseInConsent;
+import org.wso2.financial.services.fdx.extensions.model.SuccessResponsePersistAuthorizedConsent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PersistedConsentResponseCacheTests {
+
+    @BeforeMethod
+    public void setUp() {
+        PersistedConsentResponseCache.invalidateAll();
+    }
+
+    @Test
+    public void testRepeatedRequestReturnsPersistedResponse() {
+        SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
+        AtomicInteger persists = new AtomicInteger();
+
+        Object first = PersistedConsentResponseCache.persist("request1", "consent1", "user1@carbon.super", () -> {
+            persists.incrementAndGet();
+            return response;
+        });
+        Object second = PersistedConsentResponseCache.persist("request1", "consent1", "user1@carbon.super", () -> {
+            persists.incrementAndGet();
+            return new SuccessResponsePersistAuthorizedConsent();
+        });
+
+        Assert.assertSame(first, response);
+        Assert.assertSame(second, response);
+        Assert.assertEquals(persists.get(), 1);
+    }
+
+    @Test
+    public void testFailedRequestsAreProcessedAgain() {
+        AtomicInteger persists = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            PersistedConsentResponseCache.persist("request2", "consent1", "user1@carbon.super", () -> {
+                persists.incrementAndGet();
+                return new FailedResponseInConsent();
+            });
+            try {
+                PersistedConsentResponseCache.persist("request3", "consent1", "user1@carbon.super", () -> {
+                    persists.incrementAndGet();
+                    throw new ConsentException(ResponseStatus.BAD_REQUEST, "Account IDs not available");
+                });
+                Assert.fail("Expected the failure of the persist to be thrown");
+            } catch (ConsentException e) {
+                Assert.assertEquals(e.getStatus(), ResponseStatus.BAD_REQUEST);
+            }
+        }
+
+        Assert.assertEquals(persists.get(), 4);
+    }
+
+    @Test
+    public void testRequestIdOfAnotherConsentOrUserIsNotARetry() {
+        SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
+        PersistedConsentResponseCache.persist("request5", "consent1", "user1@carbon.super", () -> response);
+
+        Object otherConsent = PersistedConsentResponseCache.persist("request5", "consent2", "user1@carbon.super",
+                SuccessResponsePersistAuthorizedConsent::new);
+        Object otherUser = PersistedConsentResponseCache.persist("request5", "consent1", "user2@carbon.super",
+                SuccessResponsePersistAuthorizedConsent::new);
+
+        Assert.assertNotSame(otherConsent, response);
+        Assert.assertNotSame(otherUser, response);
+        Assert.assertSame(PersistedConsentResponseCache.persist("request5", "consent1", "user1@carbon.super",
+                SuccessResponsePersistAuthorizedConsent::new), response);
+    }
+
+    @Test
+    public void testRequestsWithoutIdAreAlwaysProcessed() {
+        AtomicInteger persists = new AtomicInteger();
+
+        PersistedConsentResponseCache.persist(null, "consent1", "user1@carbon.super", () -> {
+            persists.incrementAndGet();
+            return new SuccessResponsePersistAuthorizedConsent();
+        });
+        PersistedConsentResponseCache.persist(null, "consent1", "user1@carbon.super", () -> {
+            persists.incrementAndGet();
+            return new SuccessResponsePersistAuthorizedConsent();
+        });
+
+        Assert.assertEquals(persists.get(), 2);
+    }
+
+    @Test
+    public void testRetryWaitsForInFlightRequest() throws Exception {
+        SuccessResponsePersistAuthorizedConsent response = new SuccessResponsePersistAuthorizedConsent();
+        CountDownLatch persistStarted = new CountDownLatch(1);
+        CountDownLatch releasePersist = new CountDownLatch(1);
+        AtomicInteger persists = new AtomicInteger();
+        long coalescedCount = PersistedConsentResponseCache.getInFlightRequests().getCoalescedCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> original = executor.submit(() -> PersistedConsentResponseCache.persist("request4",
+                    "consent1", "user1@carbon.super", () -> {
+                        persists.incrementAndGet();
+                        persistStarted.countDown();
+                        awaitUninterruptibly(releasePersist);
+                        return response;
+                    }));
+            Assert.assertTrue(persistStarted.await(5, TimeUnit.SECONDS));
+
+            Future<Object> retry = executor.submit(() -> PersistedConsentResponseCache.persist("request4",
+                    "consent1", "user1@carbon.super", () -> {
+                        persists.incrementAndGet();
+                        return new SuccessResponsePersistAuthorizedConsent();
+                    }));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (PersistedConsentResponseCache.getInFlightRequests().getCoalescedCount() == coalescedCount &&
+                    System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            releasePersist.countDown();
+
+            Assert.assertSame(original.get(5, TimeUnit.SECONDS), response);
+            Assert.assertSame(retry.get(5, TimeUnit.SECONDS), response);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(persists.get(), 1);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequest;
+import org.wso2.financial.services.fdx.extensions.model.ConsentRequestParameters;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SharableAccountsFilterTests {
+
+    @Test
+    public void testFilterCombinesResourceTypesOfConsentRequests() {
+        ConsentRequestParameters requestParameters = getRequestParameters(
+                getConsentRequest("DOCUMENT", "ACCOUNT"), getConsentRequest("ACCOUNT", "CUSTOMER"));
+
+        SharableAccountsFilter accountsFilter = SharableAccountsFilter.fromRequestParameters(requestParameters);
+
+        Map<String, String> parameters = new HashMap<>();
+        accountsFilter.addTo(parameters);
+        Assert.assertEquals(parameters.get("resourceTypes"), "ACCOUNT,CUSTOMER,DOCUMENT");
+        Assert.assertTrue(accountsFilter.accepts("CUSTOMER"));
+        Assert.assertTrue(accountsFilter.accepts(null));
+        Assert.assertFalse(accountsFilter.accepts("STATEMENT"));
+        Assert.assertEquals(accountsFilter, getFilter("CUSTOMER", "DOCUMENT", "ACCOUNT"));
+    }
+
+    @Test
+    public void testNoFilterForUnrestrictedConsentRequest() {
+        ConsentRequestParameters requestParameters = getRequestParameters(
+                getConsentRequest("ACCOUNT"), new ConsentRequest(30, null, null));
+
+        Assert.assertNull(SharableAccountsFilter.fromRequestParameters(requestParameters));
+        Assert.assertNull(SharableAccountsFilter.fromRequestParameters(getRequestParameters()));
+    }
+
+    static SharableAccountsFilter getFilter(String... resourceTypes) {
+        return SharableAccountsFilter.fromRequestParameters(getRequestParameters(getConsentRequest(resourceTypes)));
+    }
+
+    private static ConsentRequestParameters getRequestParameters(ConsentRequest... consentRequests) {
+        return new ConsentRequestParameters(true, Arrays.asList(consentRequests), "https://callback", 0, null);
+    }
+
+    private static ConsentRequest getConsentRequest(String... resourceTypes) {
+        Map<String, List<String>> resources = new HashMap<>();
+        for (String resourceType : resourceTypes) {
+            resources.put(resourceType, Collections.singletonList("TRANSACTIONS"));
+        }
+        return new ConsentRequest(30, resources, null);
+    }
+}
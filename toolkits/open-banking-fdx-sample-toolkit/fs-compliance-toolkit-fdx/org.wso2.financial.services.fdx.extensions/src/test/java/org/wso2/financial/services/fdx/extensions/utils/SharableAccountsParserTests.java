@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.extensions.utils;
+
+import org.json.JSONException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.fdx.extensions.model.SharableAccount;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class SharableAccountsParserTests {
+
+    @Test
+    public void testParseAccountsSkipsUnknownFields() throws IOException {
+        String payload = "{\"meta\": {\"page\": 1}, \"data\": [" +
+                "{\"account_id\": \"12345\", \"balances\": [{\"amount\": 10}], \"type\": \"SAVINGS\"}," +
+                "{\"type\": \"CHECKING\", \"account_id\": \"67890\", \"nickname\": null}]}";
+
+        List<SharableAccount> accounts = SharableAccountsParser.parseAccounts(toStream(payload));
+
+        Assert.assertEquals(accounts.size(), 2);
+        Assert.assertEquals(accounts.get(0), new SharableAccount("12345", "SAVINGS"));
+        Assert.assertEquals(accounts.get(1), new SharableAccount("67890", "CHECKING"));
+    }
+
+    @Test
+    public void testParseAccountsDropsAccountsOutsideFilter() throws IOException {
+        String payload = "{\"data\": [" +
+                "{\"account_id\": \"12345\", \"type\": \"SAVINGS\", \"resourceType\": \"ACCOUNT\"}," +
+                "{\"account_id\": \"67890\", \"type\": \"LOAN\", \"resourceType\": \"DOCUMENT\"}," +
+                "{\"account_id\": \"13579\", \"type\": \"CHECKING\"}]}";
+        SharableAccountsFilter accountsFilter = SharableAccountsFilterTests.getFilter("ACCOUNT");
+
+        List<SharableAccount> accounts = SharableAccountsParser.parseAccounts(toStream(payload), accountsFilter);
+
+        // Accounts that do not state their resource type are kept
+        Assert.assertEquals(accounts.size(), 2);
+        Assert.assertEquals(accounts.get(0), new SharableAccount("12345", "SAVINGS"));
+        Assert.assertEquals(accounts.get(1), new SharableAccount("13579", "CHECKING"));
+    }
+
+    @Test
+    public void testParseAccountsWithEmptyPayload() throws IOException {
+        Assert.assertNull(SharableAccountsParser.parseAccounts(toStream("")));
+    }
+
+    @Test(expectedExceptions = JSONException.class)
+    public void testParseAccountsWithoutData() throws IOException {
+        SharableAccountsParser.parseAccounts(toStream("{\"accounts\": []}"));
+    }
+
+    @Test(expectedExceptions = JSONException.class)
+    public void testParseAccountsWithoutAccountType() throws IOException {
+        SharableAccountsParser.parseAccounts(toStream("{\"data\": [{\"account_id\": \"12345\"}]}"));
+    }
+
+    @Test(expectedExceptions = JSONException.class)
+    public void testParseAccountsWithMalformedPayload() throws IOException {
+        SharableAccountsParser.parseAccounts(toStream("{\"data\": [{\"account_id\": \"12345\""));
+    }
+
+    private static InputStream toStream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
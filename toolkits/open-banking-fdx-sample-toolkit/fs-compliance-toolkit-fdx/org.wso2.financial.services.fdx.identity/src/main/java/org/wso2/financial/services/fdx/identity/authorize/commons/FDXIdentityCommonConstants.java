@@ -29,4 +29,12 @@ public class FDXIdentityCommonConstants {
     public static final String DURATION_PERIOD =  "durationPeriod";
     public static final String LOOKBACK_PERIOD = "lookbackPeriod";
     public static final String RESOURCE_TYPE = "resourceType";
+    public static final String ONE_TIME_CONSENT = "ONE_TIME";
+    public static final String DATA_CLUSTER_BITMASK = "dataClusterBitmask";
+    public static final String DATA_REQUESTED = "dataRequested";
+    public static final String EXPIRES_AT = "expiresAt";
+
+    // Authorized scopes cache
+    public static final long AUTHORIZED_SCOPES_CACHE_TTL_MILLIS = 15 * 60 * 1000L;
+    public static final int AUTHORIZED_SCOPES_CACHE_MAX_ENTRIES = 10000;
 }
@@ -18,22 +18,83 @@
 
 package org.wso2.financial.services.fdx.identity.authorize.commons;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Utility class for mapping scopes to data clusters.
+ * <p>
+ * Scopes and data clusters are also assigned fixed bit positions, so the scopes granted to a client and the scopes
+ * required by a set of data clusters can be compared as bitmasks. Scope bits follow the declaration order of the
+ * scopes. Data cluster bits follow the data cluster order of the consent extensions, so a data cluster bitmask means
+ * the same in both components. New scopes and data clusters must only be appended.
+ * </p>
+ * <p>
+ * The permission language of each data cluster is the one shown on the consent screen by the consent extensions.
+ * The permission language of a set of data clusters is resolved once per data cluster bitmask.
+ * </p>
  */
 
 public class ScopeDataClusterMappings {
     // Scope-to-DataCluster Mapping
     private static final Map<String, String> FDX_DATA_CLUSTER;
+    // Data clusters in the order of their bits
+    private static final String[] FDX_DATA_CLUSTERS = {"ACCOUNT_BASIC", "ACCOUNT_DETAILED", "ACCOUNT_PAYMENTS",
+            "TRANSACTIONS", "INVESTMENTS", "PAYMENT_SUPPORT", "CUSTOMER_CONTACT", "CUSTOMER_PERSONAL", "STATEMENTS",
+            "BILLS", "TAX", "REWARDS", "IMAGES", "NOTIFICATIONS"};
+    private static final Map<String, Integer> FDX_DATA_CLUSTER_BITS;
+    private static final Map<String, Integer> FDX_SCOPE_BITS;
+    // Bitmask of the scopes required by each data cluster
+    private static final Map<String, Integer> FDX_DATA_CLUSTER_SCOPE_BITMASKS;
+    // UX name followed by the UX descriptions of each data cluster, in the order of the data cluster bits
+    private static final String[][] FDX_DATA_CLUSTER_PERMISSION_LANGUAGE = {
+            {"Account Information - Basic",
+                    "Account display name", "Masked account number", "Account type and Description"},
+            {"Account Information - Details",
+                    "Account display name", "Masked account number", "Account type and Description",
+                    "Account balances", "Credit limits", "Due dates and Interest rates"},
+            {"Account Information - Payments",
+                    "Full account and routing number", "SWIFT or IBAN numbers"},
+            {"Transactions",
+                    "Historical and current transactions", "Transaction types", "Amounts",
+                    "Dates and descriptions"},
+            {"Investments",
+                    "Investment contributions", "Investment loans", "Pension data",
+                    "Vesting and account holding details"},
+            {"Payments IDs",
+                    "Full account number and bank routing number"},
+            {"Customer and Account Contact Information",
+                    "Your Name, Email, Address and Phone on file with this institution.",
+                    "Name, Email, Address and Phone of any other account holders."},
+            {"Sensitive personal Information",
+                    "Your Name, Email, Address and Phone on file with this institution.",
+                    "Name, Email, Address and Phone of any other account holders.", "Your Date of Birth", "Tax ID",
+                    "SSN (Social Security Number)"},
+            {"Statements",
+                    "Periodic PDF statement showing personal information",
+                    "Account and transaction details. May contain PII such as name, address."},
+            {"Bills",
+                    ""},
+            {"Tax",
+                    "All tax form entities (both JSON and PDF)"},
+            {"Rewards",
+                    ""},
+            {"Images",
+                    "Images of checks and receipts, which may include PII such as name, " +
+                            "full account and routing number."}};
+    // Permission language of each data cluster bitmask, built on first use
+    private static final AtomicReferenceArray<Map<String, List<String>>> FDX_PERMISSION_LANGUAGES =
+            new AtomicReferenceArray<>(1 << FDX_DATA_CLUSTERS.length);
 
     static {
-        Map<String, String> map = new HashMap<>();
+        Map<String, String> map = new LinkedHashMap<>();
         map.put("fdx:accountbasic:read", "ACCOUNT_BASIC");
         map.put("fdx:accountdetailed:read", "ACCOUNT_DETAILED");
         map.put("fdx:bills:read", "BILLS");
@@ -50,13 +111,33 @@ public class ScopeDataClusterMappings {
         map.put("fdx:transactions:read", "TRANSACTIONS");
 
         FDX_DATA_CLUSTER = Collections.unmodifiableMap(map);
+
+        if (FDX_DATA_CLUSTER.size() >= Integer.SIZE || FDX_DATA_CLUSTERS.length >= Integer.SIZE) {
+            throw new IllegalStateException("Scopes and data clusters cannot be represented as integer bitmasks");
+        }
+        Map<String, Integer> dataClusterBits = new HashMap<>();
+        for (int index = 0; index < FDX_DATA_CLUSTERS.length; index++) {
+            dataClusterBits.put(FDX_DATA_CLUSTERS[index], 1 << index);
+        }
+        FDX_DATA_CLUSTER_BITS = Collections.unmodifiableMap(dataClusterBits);
+
+        Map<String, Integer> scopeBits = new HashMap<>();
+        Map<String, Integer> dataClusterScopeBitmasks = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<String, String> entry : FDX_DATA_CLUSTER.entrySet()) {
+            int scopeBit = 1 << index++;
+            scopeBits.put(entry.getKey(), scopeBit);
+            dataClusterScopeBitmasks.merge(entry.getValue(), scopeBit, (bitmask, bit) -> bitmask | bit);
+        }
+        FDX_SCOPE_BITS = Collections.unmodifiableMap(scopeBits);
+        FDX_DATA_CLUSTER_SCOPE_BITMASKS = Collections.unmodifiableMap(dataClusterScopeBitmasks);
     }
 
     /**
-     * Get the data cluster for a given scope.
+     * Get the scopes for a given data cluster.
      *
-     * @param value The scope to look up.
-     * @return The data cluster associated with the scope, or null if not found.
+     * @param value The data cluster to look up.
+     * @return The scopes associated with the data cluster, or an empty set if not found.
      */
     public static Set<String> getScopeByDataCluster(String value) {
         Set<String> keys = new HashSet<>();
@@ -65,6 +146,89 @@ public class ScopeDataClusterMappings {
                 keys.add(entry.getKey());
             }
         }
-            return keys;
+        return keys;
+    }
+
+    /**
+     * Get the bitmask of the given scopes. Scopes that are not FDX scopes are ignored.
+     *
+     * @param scopes The scopes.
+     * @return The bitmask of the scopes.
+     */
+    public static int getScopeBitmask(Iterable<String> scopes) {
+        int bitmask = 0;
+        for (String scope : scopes) {
+            if (scope != null) {
+                bitmask |= FDX_SCOPE_BITS.getOrDefault(scope, 0);
+            }
+        }
+        return bitmask;
+    }
+
+    /**
+     * Get the bitmask of the scopes a client must be granted to request the given data cluster.
+     *
+     * @param dataCluster The data cluster.
+     * @return The bitmask of the required scopes, or 0 if no scope grants access to the data cluster.
+     */
+    public static int getRequiredScopeBitmask(String dataCluster) {
+        if (dataCluster == null) {
+            return 0;
+        }
+        return FDX_DATA_CLUSTER_SCOPE_BITMASKS.getOrDefault(dataCluster, 0);
+    }
+
+    /**
+     * Get the bit of the given data cluster.
+     *
+     * @param dataCluster The data cluster.
+     * @return The bit of the data cluster, or 0 if the data cluster is not known.
+     */
+    public static int getDataClusterBit(String dataCluster) {
+        if (dataCluster == null) {
+            return 0;
+        }
+        return FDX_DATA_CLUSTER_BITS.getOrDefault(dataCluster, 0);
+    }
+
+    /**
+     * Get the bitmask of the given data clusters. Unknown data clusters are ignored.
+     *
+     * @param dataClusters The data clusters.
+     * @return The bitmask of the data clusters.
+     */
+    public static int getDataClusterBitmask(Iterable<String> dataClusters) {
+        int bitmask = 0;
+        for (String dataCluster : dataClusters) {
+            bitmask |= getDataClusterBit(dataCluster);
+        }
+        return bitmask;
+    }
+
+    /**
+     * Get the permission language of the data clusters in the given bitmask, keyed by the UX name of each data
+     * cluster. Data clusters without permission language are left out. The returned map is shared between callers
+     * and cannot be modified.
+     *
+     * @param bitmask The bitmask of the data clusters.
+     * @return The UX descriptions of the data clusters keyed by their UX names.
+     */
+    public static Map<String, List<String>> getPermissionLanguage(int bitmask) {
+        int index = bitmask & ((1 << FDX_DATA_CLUSTERS.length) - 1);
+        Map<String, List<String>> permissionLanguage = FDX_PERMISSION_LANGUAGES.get(index);
+        if (permissionLanguage == null) {
+            Map<String, List<String>> builtPermissionLanguage = new LinkedHashMap<>();
+            for (int bit = 0; bit < FDX_DATA_CLUSTER_PERMISSION_LANGUAGE.length; bit++) {
+                if ((index & (1 << bit)) != 0) {
+                    String[] clusterLanguage = FDX_DATA_CLUSTER_PERMISSION_LANGUAGE[bit];
+                    builtPermissionLanguage.put(clusterLanguage[0], Collections.unmodifiableList(
+                            Arrays.asList(Arrays.copyOfRange(clusterLanguage, 1, clusterLanguage.length))));
+                }
+            }
+            // Concurrent callers may build the same map, the first one to be stored is kept
+            FDX_PERMISSION_LANGUAGES.compareAndSet(index, null, Collections.unmodifiableMap(builtPermissionLanguage));
+            permissionLanguage = FDX_PERMISSION_LANGUAGES.get(index);
+        }
+        return permissionLanguage;
     }
 }
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.identity.authorize.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.osgi.service.component.annotations.Component;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.listener.AbstractApplicationMgtListener;
+import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
+import org.wso2.financial.services.fdx.identity.authorize.utils.AuthorizedScopesCache;
+
+/**
+ * The {@code FDXApplicationMgtListener} class keeps the cached authorized scopes of client applications in sync with
+ * application management.
+ * <p>
+ * The cached scopes of an application are invalidated when it is updated. A deleted application is only known by its
+ * name, so the cached scopes of its whole tenant are invalidated instead.
+ * </p>
+ */
+@Component(service = ApplicationMgtListener.class)
+public class FDXApplicationMgtListener extends AbstractApplicationMgtListener {
+    private static final Log log = LogFactory.getLog(FDXApplicationMgtListener.class);
+
+    /**
+     * Returns the order in which the listener is invoked among the application management listeners.
+     *
+     * @return The default order ID of the listener.
+     */
+    @Override
+    public int getDefaultOrderId() {
+        return 250;
+    }
+
+    /**
+     * Invalidates the cached authorized scopes of the updated application.
+     *
+     * @param serviceProvider The updated application.
+     * @param tenantDomain    The tenant domain of the application.
+     * @param userName        The user who updated the application.
+     * @return true to continue with the remaining listeners.
+     * @throws IdentityApplicationManagementException Never thrown by this listener.
+     */
+    @Override
+    public boolean doPostUpdateApplication(ServiceProvider serviceProvider, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+        log.debug("Invalidating the cached authorized scopes of the updated application");
+        AuthorizedScopesCache.invalidateApplication(
+                serviceProvider == null ? null : serviceProvider.getApplicationResourceId(), tenantDomain);
+        return true;
+    }
+
+    /**
+     * Invalidates the cached authorized scopes of the tenant of the deleted application.
+     *
+     * @param applicationName The name of the deleted application.
+     * @param tenantDomain    The tenant domain of the application.
+     * @param userName        The user who deleted the application.
+     * @return true to continue with the remaining listeners.
+     * @throws IdentityApplicationManagementException Never thrown by this listener.
+     */
+    @Override
+    public boolean doPostDeleteApplication(String applicationName, String tenantDomain, String userName)
+            throws IdentityApplicationManagementException {
+        log.debug("Invalidating the cached authorized scopes of the tenant of the deleted application");
+        AuthorizedScopesCache.invalidateTenant(tenantDomain);
+        return true;
+    }
+}
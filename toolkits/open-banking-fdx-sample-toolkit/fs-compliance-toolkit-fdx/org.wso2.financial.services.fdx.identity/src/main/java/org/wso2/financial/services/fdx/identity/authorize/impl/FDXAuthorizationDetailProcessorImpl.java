@@ -23,7 +23,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.annotations.Component;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
-import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.rar.exception.AuthorizationDetailsProcessingException;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
@@ -32,14 +31,18 @@ import org.wso2.carbon.identity.oauth.rar.model.ValidationResult;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.rar.core.AuthorizationDetailsProcessor;
 import org.wso2.carbon.identity.oauth2.rar.model.AuthorizationDetailsContext;
+import org.wso2.financial.services.fdx.identity.authorize.commons.FDXIdentityCommonConstants;
 import org.wso2.financial.services.fdx.identity.authorize.commons.ScopeDataClusterMappings;
 import org.wso2.financial.services.fdx.identity.authorize.model.FDXAuthorizationDetails;
-import org.wso2.financial.services.fdx.identity.authorize.utils.AuthorizationDetailProcessorUtils;
+import org.wso2.financial.services.fdx.identity.authorize.utils.AuthorizedScopesCache;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * The {@code FDXAuthorizationDetailProcessorImpl} class is an implementation of the
@@ -71,36 +74,24 @@ public class FDXAuthorizationDetailProcessorImpl implements AuthorizationDetails
             String clientId = authorizationDetailsContext.getOAuthAppDO().getOauthConsumerKey();
             if (StringUtils.isNotEmpty(clientId)) {
                 String tenantDomain = IdentityTenantUtil.getTenantDomainFromContext();
-                String appId =
-                        AuthorizationDetailProcessorUtils.getApplicationResourceIdByClientId(clientId, tenantDomain);
-
-                List<AuthorizedScopes> clientScopes =
-                        AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(appId, tenantDomain);
-
-                Set<String> scopeList = new HashSet<>();
-                for (AuthorizedScopes scope : clientScopes) {
-                    if (scope != null && scope.getScopes() != null) {
-                        scope.getScopes().stream()
-                                .filter(s -> s != null && s.startsWith("fdx:"))
-                                .forEach(scopeList::add);
-                    }
-                }
 
+                int requiredScopeBitmask = 0;
                 for (List<String> dataCluster : dataClusters) {
                     for (String cluster : dataCluster) {
-                        Set<String> scopeMapping = ScopeDataClusterMappings.getScopeByDataCluster(cluster);
-                        if (scopeMapping.isEmpty()) {
+                        int scopeBitmask = ScopeDataClusterMappings.getRequiredScopeBitmask(cluster);
+                        if (scopeBitmask == 0) {
                             log.debug("Requested data cluster not found");
                             throw new AuthorizationDetailsProcessingException("invalid_scope");
                         }
-                        for (String scope : scopeMapping) {
-                            if (!scopeList.contains(scope)) {
-                                log.debug("Requested scope not found");
-                                throw new AuthorizationDetailsProcessingException("invalid_scope");
-                            }
-                        }
+                        requiredScopeBitmask |= scopeBitmask;
                     }
                 }
+
+                int clientScopeBitmask = AuthorizedScopesCache.getFDXScopeBitmask(clientId, tenantDomain);
+                if ((clientScopeBitmask & requiredScopeBitmask) != requiredScopeBitmask) {
+                    log.debug("Requested scope not found");
+                    throw new AuthorizationDetailsProcessingException("invalid_scope");
+                }
                 log.debug("Validation successful");
                 return ValidationResult.valid();
             } else {
@@ -149,23 +140,168 @@ public class FDXAuthorizationDetailProcessorImpl implements AuthorizationDetails
     }
 
     /**
-     * Returns the supported authorization detail types.
+     * Checks whether the requested authorization detail is equal to or a subset of one of the existing authorization
+     * details, so that a repeated token flow can reuse the existing authorization.
+     * <p>
+     * The requested detail is covered by an existing detail when both have the same duration type, the requested
+     * duration and lookback periods do not exceed the existing ones, and the data clusters of every requested
+     * resource are granted for a resource of the same type. Data clusters are compared as bitmasks. One time
+     * consents are never covered and never cover another detail, since they are used only once. Details with a
+     * duration or lookback period that is missing or not a number are not covered, as their periods cannot be
+     * compared.
+     * </p>
      *
-     * @return An array of supported authorization detail types.
+     * @param authorizationDetail  The requested authorization detail.
+     * @param authorizationDetails The existing authorization details.
+     * @return true if the requested authorization detail is covered by an existing authorization detail.
      */
     @Override
     public boolean isEqualOrSubset(AuthorizationDetail authorizationDetail, AuthorizationDetails authorizationDetails) {
+        if (authorizationDetails == null || authorizationDetails.getDetails() == null) {
+            return false;
+        }
+        FDXAuthorizationDetails requestedDetails =
+                FDXAuthorizationDetails.parseFDXAuthorizationDetails(authorizationDetail);
+        if (requestedDetails == null || requestedDetails.getConsentRequest() == null) {
+            return false;
+        }
+        Map<String, Integer> requestedDataClusters = getDataClusterBitmasks(requestedDetails.getConsentRequest());
+        if (requestedDataClusters == null) {
+            log.debug("Requested authorization detail contains unknown data clusters");
+            return false;
+        }
+
+        for (AuthorizationDetail existingDetail : authorizationDetails.getDetails()) {
+            FDXAuthorizationDetails existingDetails =
+                    FDXAuthorizationDetails.parseFDXAuthorizationDetails(existingDetail);
+            if (existingDetails != null && existingDetails.getConsentRequest() != null &&
+                    isSubset(requestedDetails.getConsentRequest(), requestedDataClusters,
+                            existingDetails.getConsentRequest())) {
+                return true;
+            }
+        }
         return false;
     }
 
+    private static boolean isSubset(FDXAuthorizationDetails.ConsentRequest requested,
+                                    Map<String, Integer> requestedDataClusters,
+                                    FDXAuthorizationDetails.ConsentRequest existing) {
+        if (FDXIdentityCommonConstants.ONE_TIME_CONSENT.equals(requested.getDurationType()) ||
+                FDXIdentityCommonConstants.ONE_TIME_CONSENT.equals(existing.getDurationType()) ||
+                !Objects.equals(requested.getDurationType(), existing.getDurationType()) ||
+                !isWithin(requested.getDurationPeriod(), existing.getDurationPeriod()) ||
+                !isWithin(requested.getLookbackPeriod(), existing.getLookbackPeriod())) {
+            return false;
+        }
+        Map<String, Integer> existingDataClusters = getDataClusterBitmasks(existing);
+        if (existingDataClusters == null) {
+            return false;
+        }
+        for (Map.Entry<String, Integer> requestedResource : requestedDataClusters.entrySet()) {
+            int existingBitmask = existingDataClusters.getOrDefault(requestedResource.getKey(), 0);
+            if ((requestedResource.getValue() & ~existingBitmask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the requested period does not exceed the existing period. Periods that are missing or not a
+     * number cannot be compared, hence are never within another period.
+     *
+     * @param requestedPeriod The requested period.
+     * @param existingPeriod  The existing period.
+     * @return true if both periods are known and the requested period does not exceed the existing period.
+     */
+    private static boolean isWithin(Integer requestedPeriod, Integer existingPeriod) {
+        return requestedPeriod != null && existingPeriod != null && requestedPeriod <= existingPeriod;
+    }
+
+    /**
+     * Returns the bitmask of the data clusters of each resource type in the consent request. Data clusters of
+     * resources with the same type are combined.
+     *
+     * @param consentRequest The consent request.
+     * @return The data cluster bitmasks keyed by resource type, or null if a data cluster is not known.
+     */
+    private static Map<String, Integer> getDataClusterBitmasks(FDXAuthorizationDetails.ConsentRequest consentRequest) {
+        Map<String, Integer> dataClusterBitmasks = new HashMap<>();
+        if (consentRequest.getResources() == null) {
+            return dataClusterBitmasks;
+        }
+        for (FDXAuthorizationDetails.Resource resource : consentRequest.getResources()) {
+            if (resource == null || resource.getDataClusters() == null) {
+                continue;
+            }
+            int bitmask = 0;
+            for (String dataCluster : resource.getDataClusters()) {
+                int bit = ScopeDataClusterMappings.getDataClusterBit(dataCluster);
+                if (bit == 0) {
+                    return null;
+                }
+                bitmask |= bit;
+            }
+            dataClusterBitmasks.merge(resource.getResourceType(), bitmask, (existing, added) -> existing | added);
+        }
+        return dataClusterBitmasks;
+    }
+
     /**
      * Enriches the authorization details.
+     * <p>
+     * The values derived from the consent request are resolved once at authorization time and attached to the
+     * authorization detail: the bitmask of the requested data clusters, their permission language and the expiry
+     * instant of the consent. The consent extensions read these values when populating the consent screen and
+     * persisting the consent instead of deriving them again. Values of these keys sent with the request are
+     * replaced, so only the resolved values reach the consent extensions.
+     * </p>
      *
      * @param authorizationDetailsContext The context containing the authorization details and client information.
      * @return The enriched authorization detail.
      */
     @Override
     public AuthorizationDetail enrich(AuthorizationDetailsContext authorizationDetailsContext) {
-        return null;
+        AuthorizationDetail authorizationDetail = authorizationDetailsContext.getAuthorizationDetail();
+        FDXAuthorizationDetails fdxDetails = FDXAuthorizationDetails.parseFDXAuthorizationDetails(authorizationDetail);
+        if (fdxDetails == null || fdxDetails.getConsentRequest() == null) {
+            return authorizationDetail;
+        }
+        FDXAuthorizationDetails.ConsentRequest consentRequest = fdxDetails.getConsentRequest();
+
+        int dataClusterBitmask = 0;
+        if (consentRequest.getResources() != null) {
+            for (FDXAuthorizationDetails.Resource resource : consentRequest.getResources()) {
+                if (resource != null && resource.getDataClusters() != null) {
+                    dataClusterBitmask |= ScopeDataClusterMappings.getDataClusterBitmask(resource.getDataClusters());
+                }
+            }
+        }
+
+        Map<String, Object> details = new HashMap<>(authorizationDetail.getDetails());
+        details.put(FDXIdentityCommonConstants.DATA_CLUSTER_BITMASK, dataClusterBitmask);
+        details.put(FDXIdentityCommonConstants.DATA_REQUESTED,
+                ScopeDataClusterMappings.getPermissionLanguage(dataClusterBitmask));
+        details.put(FDXIdentityCommonConstants.EXPIRES_AT, getExpiryTime(consentRequest).toString());
+        authorizationDetail.setDetails(details);
+        return authorizationDetail;
+    }
+
+    /**
+     * Returns the expiry instant of the consent, in the same way as the consent extensions. One time consents and
+     * consent requests without a duration type are not shared beyond the time of authorization.
+     *
+     * @param consentRequest The consent request.
+     * @return The expiry instant of the consent.
+     */
+    private static Instant getExpiryTime(FDXAuthorizationDetails.ConsentRequest consentRequest) {
+        Instant now = Instant.now();
+        if (consentRequest.getDurationType() == null ||
+                FDXIdentityCommonConstants.ONE_TIME_CONSENT.equals(consentRequest.getDurationType())) {
+            return now;
+        }
+        // Consent requests without a duration period are not shared beyond the time of authorization
+        return consentRequest.getDurationPeriod() == null ? now :
+                now.plus(consentRequest.getDurationPeriod(), ChronoUnit.DAYS);
     }
 }
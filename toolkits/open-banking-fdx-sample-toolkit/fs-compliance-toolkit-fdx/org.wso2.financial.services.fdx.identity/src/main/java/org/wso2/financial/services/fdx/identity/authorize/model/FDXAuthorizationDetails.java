@@ -55,8 +55,8 @@ public class FDXAuthorizationDetails {
      */
     public static class ConsentRequest {
         private String durationType;
-        private int durationPeriod;
-        private int lookbackPeriod;
+        private Integer durationPeriod;
+        private Integer lookbackPeriod;
         private List<Resource> resources;
 
         public String getDurationType() {
@@ -67,19 +67,29 @@ public class FDXAuthorizationDetails {
             this.durationType = durationType;
         }
 
-        public int getDurationPeriod() {
+        /**
+         * Returns the duration period of the consent request.
+         *
+         * @return The duration period, or null if it is not present or not a number.
+         */
+        public Integer getDurationPeriod() {
             return durationPeriod;
         }
 
-        public void setDurationPeriod(int durationPeriod) {
+        public void setDurationPeriod(Integer durationPeriod) {
             this.durationPeriod = durationPeriod;
         }
 
-        public int getLookbackPeriod() {
+        /**
+         * Returns the lookback period of the consent request.
+         *
+         * @return The lookback period, or null if it is not present or not a number.
+         */
+        public Integer getLookbackPeriod() {
             return lookbackPeriod;
         }
 
-        public void setLookbackPeriod(int lookbackPeriod) {
+        public void setLookbackPeriod(Integer lookbackPeriod) {
             this.lookbackPeriod = lookbackPeriod;
         }
 
@@ -142,8 +152,8 @@ public class FDXAuthorizationDetails {
 
         FDXAuthorizationDetails.ConsentRequest consentRequest = new FDXAuthorizationDetails.ConsentRequest();
         consentRequest.setDurationType((String) consentRequestMap.get(FDXIdentityCommonConstants.DURATION_TYPE));
-        consentRequest.setDurationPeriod((Integer) consentRequestMap.get(FDXIdentityCommonConstants.DURATION_PERIOD));
-        consentRequest.setLookbackPeriod((Integer) consentRequestMap.get(FDXIdentityCommonConstants.LOOKBACK_PERIOD));
+        consentRequest.setDurationPeriod(getPeriod(consentRequestMap, FDXIdentityCommonConstants.DURATION_PERIOD));
+        consentRequest.setLookbackPeriod(getPeriod(consentRequestMap, FDXIdentityCommonConstants.LOOKBACK_PERIOD));
 
         List<Map<String, Object>> resourcesList =
                 (List<Map<String, Object>>) consentRequestMap.get(FDXIdentityCommonConstants.RESOURCES);
@@ -165,4 +175,27 @@ public class FDXAuthorizationDetails {
         return details;
     }
 
+    /**
+     * Reads a period from the consent request map. Periods are not sent for every duration type, and authorization
+     * details may hold them as any numeric type or as a numeric string.
+     *
+     * @param consentRequestMap The consent request map.
+     * @param key               The key of the period.
+     * @return The period, or null if it is not present or not a number.
+     */
+    private static Integer getPeriod(Map<String, Object> consentRequestMap, String key) {
+        Object period = consentRequestMap.get(key);
+        if (period instanceof Number) {
+            return ((Number) period).intValue();
+        }
+        if (period instanceof String) {
+            try {
+                return Integer.valueOf(((String) period).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.identity.authorize.utils;
+
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.fdx.identity.authorize.commons.FDXIdentityCommonConstants;
+import org.wso2.financial.services.fdx.identity.authorize.commons.ScopeDataClusterMappings;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Cache of the FDX scopes authorized for each client application, held as scope bitmasks.
+ * <p>
+ * Validating the authorization details of a request needs the FDX scopes granted to the client, which are loaded
+ * from the application and authorized API management services. The scopes of an application change rarely, so they
+ * are cached for the configured time to live against the client ID and tenant domain. Entries of an application are
+ * invalidated when the application is updated or deleted, while changes made only to the authorized APIs of an
+ * application are picked up once the entry expires. Each invalidation advances the invalidation generation, and
+ * scopes loaded while an invalidation takes place are served without being cached, so that a load started before
+ * an update does not cache the scopes of the application as they were before the update. Once the cache holds the
+ * maximum number of entries, an entry is evicted for each new entry added.
+ * </p>
+ */
+public class AuthorizedScopesCache {
+    private static final ConcurrentMap<CacheKey, CacheEntry> SCOPES_CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder HIT_COUNT = new LongAdder();
+    private static final LongAdder MISS_COUNT = new LongAdder();
+    private static final LongAdder EVICTION_COUNT = new LongAdder();
+    private static final AtomicLong INVALIDATION_GENERATION = new AtomicLong();
+
+    /**
+     * Returns the bitmask of the FDX scopes authorized for the given client, loading them if they are not cached.
+     *
+     * @param clientId     The client ID of the application.
+     * @param tenantDomain The tenant domain of the application.
+     * @return The bitmask of the FDX scopes authorized for the client, as defined by {@link ScopeDataClusterMappings}.
+     * @throws IdentityOAuth2Exception                If an error occurs while retrieving the application.
+     * @throws IdentityApplicationManagementException If an error occurs while retrieving the authorized scopes.
+     */
+    public static int getFDXScopeBitmask(String clientId, String tenantDomain)
+            throws IdentityOAuth2Exception, IdentityApplicationManagementException {
+        CacheKey cacheKey = new CacheKey(clientId, tenantDomain);
+        CacheEntry cacheEntry = SCOPES_CACHE.get(cacheKey);
+        if (cacheEntry != null) {
+            if (!cacheEntry.isExpired(System.currentTimeMillis())) {
+                HIT_COUNT.increment();
+                return cacheEntry.fdxScopeBitmask;
+            }
+            if (SCOPES_CACHE.remove(cacheKey, cacheEntry)) {
+                EVICTION_COUNT.increment();
+            }
+        }
+        MISS_COUNT.increment();
+
+        long generation = INVALIDATION_GENERATION.get();
+        String appId = AuthorizationDetailProcessorUtils.getApplicationResourceIdByClientId(clientId, tenantDomain);
+        cacheEntry = new CacheEntry(appId, loadFDXScopes(appId, tenantDomain),
+                System.currentTimeMillis() + FDXIdentityCommonConstants.AUTHORIZED_SCOPES_CACHE_TTL_MILLIS);
+        if (INVALIDATION_GENERATION.get() == generation) {
+            evictIfFull();
+            SCOPES_CACHE.put(cacheKey, cacheEntry);
+            // An invalidation running concurrently with the put may not have seen the entry
+            if (INVALIDATION_GENERATION.get() != generation) {
+                SCOPES_CACHE.remove(cacheKey, cacheEntry);
+            }
+        }
+        return cacheEntry.fdxScopeBitmask;
+    }
+
+    /**
+     * Removes the cached scopes of the given application.
+     *
+     * @param appId        The resource ID of the application.
+     * @param tenantDomain The tenant domain of the application.
+     */
+    public static void invalidateApplication(String appId, String tenantDomain) {
+        if (appId == null) {
+            invalidateTenant(tenantDomain);
+            return;
+        }
+        INVALIDATION_GENERATION.incrementAndGet();
+        removeIf(cacheKey -> Objects.equals(cacheKey.tenantDomain, tenantDomain),
+                cacheEntry -> appId.equals(cacheEntry.appId));
+    }
+
+    /**
+     * Removes the cached scopes of all the applications of the given tenant.
+     *
+     * @param tenantDomain The tenant domain.
+     */
+    public static void invalidateTenant(String tenantDomain) {
+        INVALIDATION_GENERATION.incrementAndGet();
+        removeIf(cacheKey -> Objects.equals(cacheKey.tenantDomain, tenantDomain), cacheEntry -> true);
+    }
+
+    /**
+     * Removes the cached scopes of all the applications.
+     */
+    public static void invalidateAll() {
+        INVALIDATION_GENERATION.incrementAndGet();
+        SCOPES_CACHE.clear();
+    }
+
+    /**
+     * Returns the number of cached applications.
+     *
+     * @return The number of cache entries.
+     */
+    public static int size() {
+        return SCOPES_CACHE.size();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return The hit count.
+     */
+    public static long getHitCount() {
+        return HIT_COUNT.sum();
+    }
+
+    /**
+     * Returns the number of lookups that loaded the scopes from the identity services.
+     *
+     * @return The miss count.
+     */
+    public static long getMissCount() {
+        return MISS_COUNT.sum();
+    }
+
+    /**
+     * Returns the number of entries removed because they expired or were invalidated.
+     *
+     * @return The eviction count.
+     */
+    public static long getEvictionCount() {
+        return EVICTION_COUNT.sum();
+    }
+
+    private static int loadFDXScopes(String appId, String tenantDomain)
+            throws IdentityApplicationManagementException {
+        List<AuthorizedScopes> clientScopes =
+                AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(appId, tenantDomain);
+
+        int fdxScopeBitmask = 0;
+        if (clientScopes != null) {
+            for (AuthorizedScopes scope : clientScopes) {
+                if (scope != null && scope.getScopes() != null) {
+                    fdxScopeBitmask |= ScopeDataClusterMappings.getScopeBitmask(scope.getScopes());
+                }
+            }
+        }
+        return fdxScopeBitmask;
+    }
+
+    /**
+     * Makes room for a new entry by evicting entries once the cache is full. The map keeps its size as a counter, so
+     * a full cache costs a single eviction per insert rather than a scan of the entries.
+     */
+    private static void evictIfFull() {
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = SCOPES_CACHE.entrySet().iterator();
+        while (SCOPES_CACHE.size() >= FDXIdentityCommonConstants.AUTHORIZED_SCOPES_CACHE_MAX_ENTRIES &&
+                iterator.hasNext()) {
+            Map.Entry<CacheKey, CacheEntry> entry = iterator.next();
+            if (SCOPES_CACHE.remove(entry.getKey(), entry.getValue())) {
+                EVICTION_COUNT.increment();
+            }
+        }
+    }
+
+    private static void removeIf(Predicate<CacheKey> keyFilter, Predicate<CacheEntry> entryFilter) {
+        SCOPES_CACHE.forEach((cacheKey, cacheEntry) -> {
+            if (keyFilter.test(cacheKey) && entryFilter.test(cacheEntry) &&
+                    SCOPES_CACHE.remove(cacheKey, cacheEntry)) {
+                EVICTION_COUNT.increment();
+            }
+        });
+    }
+
+    /**
+     * Key of the cache.
+     */
+    private static final class CacheKey {
+        private final String clientId;
+        private final String tenantDomain;
+
+        private CacheKey(String clientId, String tenantDomain) {
+            this.clientId = clientId;
+            this.tenantDomain = tenantDomain;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return clientId.equals(cacheKey.clientId) && Objects.equals(tenantDomain, cacheKey.tenantDomain);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientId, tenantDomain);
+        }
+    }
+
+    /**
+     * Cached FDX scopes of an application.
+     */
+    private static final class CacheEntry {
+        private final String appId;
+        private final int fdxScopeBitmask;
+        private final long expiryTime;
+
+        private CacheEntry(String appId, int fdxScopeBitmask, long expiryTime) {
+            this.appId = appId;
+            this.fdxScopeBitmask = fdxScopeBitmask;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiryTime;
+        }
+    }
+}
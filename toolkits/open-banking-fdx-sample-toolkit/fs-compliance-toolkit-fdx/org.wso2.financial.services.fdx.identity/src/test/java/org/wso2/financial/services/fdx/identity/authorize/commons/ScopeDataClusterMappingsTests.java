@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.identity.authorize.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+public class ScopeDataClusterMappingsTests {
+
+    @Test
+    public void testGetScopeByDataCluster() {
+        Assert.assertEquals(ScopeDataClusterMappings.getScopeByDataCluster("TRANSACTIONS"),
+                new HashSet<>(Arrays.asList("fdx:transactions:read")));
+        Assert.assertEquals(ScopeDataClusterMappings.getScopeByDataCluster("NOTIFICATIONS"),
+                new HashSet<>(Arrays.asList("fdx:notifications:subscribe", "fdx:notifications:publish")));
+    }
+
+    @Test
+    public void testGetScopeByUnknownDataCluster() {
+        Assert.assertTrue(ScopeDataClusterMappings.getScopeByDataCluster("INVALID_CLUSTER").isEmpty());
+        Assert.assertTrue(ScopeDataClusterMappings.getScopeByDataCluster(null).isEmpty());
+    }
+
+    @Test
+    public void testRequiredScopeBitmask() {
+        int grantedScopes = ScopeDataClusterMappings.getScopeBitmask(
+                Arrays.asList("fdx:transactions:read", "fdx:notifications:subscribe", "openid", null));
+        int transactions = ScopeDataClusterMappings.getRequiredScopeBitmask("TRANSACTIONS");
+        int notifications = ScopeDataClusterMappings.getRequiredScopeBitmask("NOTIFICATIONS");
+
+        Assert.assertEquals(transactions & grantedScopes, transactions);
+        // Every scope of a data cluster is required
+        Assert.assertNotEquals(notifications & grantedScopes, notifications);
+        Assert.assertEquals(Integer.bitCount(notifications), 2);
+        Assert.assertEquals(ScopeDataClusterMappings.getRequiredScopeBitmask("ACCOUNT_PAYMENTS"), 0);
+        Assert.assertEquals(ScopeDataClusterMappings.getRequiredScopeBitmask("INVALID_CLUSTER"), 0);
+    }
+
+    @Test
+    public void testDataClusterBitmask() {
+        // Bits follow the data cluster order of the consent extensions
+        Assert.assertEquals(ScopeDataClusterMappings.getDataClusterBit("ACCOUNT_BASIC"), 1);
+        Assert.assertEquals(ScopeDataClusterMappings.getDataClusterBit("TRANSACTIONS"), 1 << 3);
+        Assert.assertEquals(ScopeDataClusterMappings.getDataClusterBitmask(
+                Arrays.asList("TRANSACTIONS", "INVALID_CLUSTER", "ACCOUNT_BASIC")), (1 << 3) | 1);
+    }
+
+    @Test
+    public void testGetPermissionLanguage() {
+        int bitmask = ScopeDataClusterMappings.getDataClusterBitmask(
+                Arrays.asList("TAX", "ACCOUNT_BASIC", "NOTIFICATIONS"));
+
+        Map<String, List<String>> permissionLanguage = ScopeDataClusterMappings.getPermissionLanguage(bitmask);
+
+        // Data clusters are in the order of their bits and data clusters without permission language are left out
+        Assert.assertEquals(new ArrayList<>(permissionLanguage.keySet()),
+                Arrays.asList("Account Information - Basic", "Tax"));
+        Assert.assertEquals(permissionLanguage.get("Tax"),
+                Collections.singletonList("All tax form entities (both JSON and PDF)"));
+        Assert.assertSame(ScopeDataClusterMappings.getPermissionLanguage(bitmask), permissionLanguage);
+        Assert.assertTrue(ScopeDataClusterMappings.getPermissionLanguage(0).isEmpty());
+    }
+}
@@ -34,16 +34,22 @@ import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
 import org.wso2.carbon.identity.oauth.rar.exception.AuthorizationDetailsProcessingException;
 import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetail;
+import org.wso2.carbon.identity.oauth.rar.model.AuthorizationDetails;
 import org.wso2.carbon.identity.oauth.rar.model.ValidationResult;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.rar.model.AuthorizationDetailsContext;
+import org.wso2.financial.services.fdx.identity.authorize.commons.ScopeDataClusterMappings;
 import org.wso2.financial.services.fdx.identity.authorize.utils.AuthorizationDetailProcessorUtils;
+import org.wso2.financial.services.fdx.identity.authorize.utils.AuthorizedScopesCache;
 import org.wso2.financial.services.fdx.identity.authorize.utils.IdentityDataHolder;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -73,6 +79,7 @@ public class FDXAuthorizationDetailProcessorImplTests {
         serviceProvider = mock(ServiceProvider.class);
         mockOAuthAppDO = mock(OAuthAppDO.class);
         when(mockOAuthAppDO.getOauthConsumerKey()).thenReturn(clientId);
+        AuthorizedScopesCache.invalidateAll();
     }
 
     private void setCache(MockedStatic<AppInfoCache> appInfoCache, OAuthAppDO appDO) {
@@ -346,7 +353,176 @@ public class FDXAuthorizationDetailProcessorImplTests {
         // Assert
         Assert.assertTrue(dataClusters.isEmpty());
     }
-}
 
+    @SafeVarargs
+    private AuthorizationDetail createAuthorizationDetail(String durationType, Object durationPeriod,
+                                                          Object lookbackPeriod, Map<String, Object>... resources) {
+        AuthorizationDetail authorizationDetail = mock(AuthorizationDetail.class);
+        Map<String, Object> details = new HashMap<>();
+        Map<String, Object> consentRequest = new HashMap<>();
+        consentRequest.put("durationType", durationType);
+        consentRequest.put("durationPeriod", durationPeriod);
+        consentRequest.put("lookbackPeriod", lookbackPeriod);
+        consentRequest.put("resources", new ArrayList<>(Arrays.asList(resources)));
+        details.put("consentRequest", consentRequest);
+        when(authorizationDetail.getDetails()).thenReturn(details);
+        when(authorizationDetail.getType()).thenReturn("fdx_v1.0");
+        return authorizationDetail;
+    }
+
+    private Map<String, Object> createResource(String resourceType, String... dataClusters) {
+        Map<String, Object> resource = new HashMap<>();
+        resource.put("resourceType", resourceType);
+        resource.put("dataClusters", Arrays.asList(dataClusters));
+        return resource;
+    }
+
+    private AuthorizationDetails createAuthorizationDetails(AuthorizationDetail... authorizationDetails) {
+        AuthorizationDetails existingDetails = mock(AuthorizationDetails.class);
+        when(existingDetails.getDetails()).thenReturn(new HashSet<>(Arrays.asList(authorizationDetails)));
+        return existingDetails;
+    }
+
+    @Test
+    public void testIsEqualOrSubset() {
+        AuthorizationDetails existingDetails = createAuthorizationDetails(createAuthorizationDetail(
+                "TIME_BOUND", 30, 90.0,
+                createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS"),
+                createResource("ACCOUNT", "STATEMENTS"),
+                createResource("CUSTOMER", "CUSTOMER_CONTACT")));
+
+        // Equal authorization details
+        Assert.assertTrue(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS"),
+                createResource("ACCOUNT", "STATEMENTS"),
+                createResource("CUSTOMER", "CUSTOMER_CONTACT")), existingDetails));
+        // Fewer data clusters and shorter windows
+        Assert.assertTrue(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 7, 30,
+                createResource("ACCOUNT", "STATEMENTS", "TRANSACTIONS")), existingDetails));
+    }
+
+    @Test
+    public void testIsEqualOrSubsetWithStringPeriods() {
+        AuthorizationDetails existingDetails = createAuthorizationDetails(createAuthorizationDetail(
+                "TIME_BOUND", "30", "90", createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS")));
+
+        // Numeric strings are compared as numbers
+        Assert.assertTrue(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", "7", 30,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", "365", "90",
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", "30", "365",
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        // Periods that are not numbers cannot be compared
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", "a month", 90,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+    }
+
+    @Test
+    public void testMissingPeriodIsNotEqualOrSubset() {
+        AuthorizationDetails existingDetails = createAuthorizationDetails(createAuthorizationDetail(
+                "TIME_BOUND", 30, 90, createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS")));
+
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", null, 90,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, null,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+    }
+
+    @Test
+    public void testOneTimeConsentIsNotEqualOrSubset() {
+        AuthorizationDetails existingDetails = createAuthorizationDetails(createAuthorizationDetail(
+                "ONE_TIME", 30, 90, createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS")));
+
+        // One time consents are not reused, even for an equal request
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("ONE_TIME", 30, 90,
+                createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("ONE_TIME", 7, 30,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+    }
+
+    @Test
+    public void testIsNotEqualOrSubset() {
+        AuthorizationDetails existingDetails = createAuthorizationDetails(createAuthorizationDetail(
+                "TIME_BOUND", 30, 90, createResource("ACCOUNT", "ACCOUNT_BASIC", "TRANSACTIONS")));
+
+        // Data cluster not granted
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("ACCOUNT", "ACCOUNT_BASIC", "INVESTMENTS")), existingDetails));
+        // Data cluster granted for another resource type
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("CUSTOMER", "TRANSACTIONS")), existingDetails));
+        // Longer duration, longer lookback and another duration type
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 31, 90,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 91,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("PERSISTENT", null, 90,
+                createResource("ACCOUNT", "TRANSACTIONS")), existingDetails));
+        // Unknown data cluster
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("ACCOUNT", "INVALID_CLUSTER")), existingDetails));
+        // No existing authorization details
+        Assert.assertFalse(processor.isEqualOrSubset(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("ACCOUNT", "TRANSACTIONS")), createAuthorizationDetails()));
+    }
 
+    @Test
+    public void testEnrich() {
+        AuthorizationDetail authorizationDetail = new AuthorizationDetail();
+        authorizationDetail.setType("fdx_v1.0");
+        authorizationDetail.setDetails(createAuthorizationDetail("TIME_BOUND", 30, 90,
+                createResource("ACCOUNT", "TRANSACTIONS", "ACCOUNT_BASIC"),
+                createResource("CUSTOMER", "CUSTOMER_CONTACT", "TRANSACTIONS")).getDetails());
+        authorizationDetail.getDetails().put("dataClusterBitmask", 0);
+        AuthorizationDetailsContext context = mock(AuthorizationDetailsContext.class);
+        when(context.getAuthorizationDetail()).thenReturn(authorizationDetail);
 
+        Instant before = Instant.now();
+        AuthorizationDetail enrichedDetail = processor.enrich(context);
+
+        Assert.assertSame(enrichedDetail, authorizationDetail);
+        Map<String, Object> details = enrichedDetail.getDetails();
+        int dataClusterBitmask = ScopeDataClusterMappings.getDataClusterBitmask(
+                Arrays.asList("ACCOUNT_BASIC", "TRANSACTIONS", "CUSTOMER_CONTACT"));
+        Assert.assertEquals(details.get("dataClusterBitmask"), dataClusterBitmask);
+        Assert.assertEquals(details.get("dataRequested"),
+                ScopeDataClusterMappings.getPermissionLanguage(dataClusterBitmask));
+        Instant expiresAt = Instant.parse((String) details.get("expiresAt"));
+        Assert.assertFalse(expiresAt.isBefore(before.plus(30, ChronoUnit.DAYS)));
+        Assert.assertFalse(expiresAt.isAfter(Instant.now().plus(30, ChronoUnit.DAYS)));
+        Assert.assertTrue(details.containsKey("consentRequest"));
+    }
+
+    @Test
+    public void testEnrichOneTimeConsent() {
+        AuthorizationDetail authorizationDetail = new AuthorizationDetail();
+        authorizationDetail.setType("fdx_v1.0");
+        authorizationDetail.setDetails(createAuthorizationDetail("ONE_TIME", null, 90,
+                createResource("ACCOUNT", "TRANSACTIONS")).getDetails());
+        authorizationDetail.getDetails().put("expiresAt", "2020-01-01T00:00:00Z");
+        AuthorizationDetailsContext context = mock(AuthorizationDetailsContext.class);
+        when(context.getAuthorizationDetail()).thenReturn(authorizationDetail);
+
+        Instant before = Instant.now();
+        Map<String, Object> details = processor.enrich(context).getDetails();
+
+        // One time consents expire at authorization, the value sent with the request is replaced
+        Instant expiresAt = Instant.parse((String) details.get("expiresAt"));
+        Assert.assertFalse(expiresAt.isBefore(before));
+        Assert.assertFalse(expiresAt.isAfter(Instant.now()));
+        Assert.assertEquals(details.get("dataRequested"), Collections.singletonMap("Transactions",
+                Arrays.asList("Historical and current transactions", "Transaction types", "Amounts",
+                        "Dates and descriptions")));
+    }
+
+    @Test
+    public void testEnrichWithoutConsentRequest() {
+        AuthorizationDetail authorizationDetail = mock(AuthorizationDetail.class);
+        when(authorizationDetail.getDetails()).thenReturn(Collections.emptyMap());
+        AuthorizationDetailsContext context = mock(AuthorizationDetailsContext.class);
+        when(context.getAuthorizationDetail()).thenReturn(authorizationDetail);
+
+        Assert.assertSame(processor.enrich(context), authorizationDetail);
+    }
+}
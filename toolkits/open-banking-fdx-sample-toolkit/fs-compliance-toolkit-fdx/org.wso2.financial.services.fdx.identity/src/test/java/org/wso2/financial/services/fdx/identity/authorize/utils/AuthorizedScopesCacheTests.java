@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.fdx.identity.authorize.utils;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
+import org.wso2.financial.services.fdx.identity.authorize.commons.FDXIdentityCommonConstants;
+import org.wso2.financial.services.fdx.identity.authorize.commons.ScopeDataClusterMappings;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class AuthorizedScopesCacheTests {
+
+    private static final String CLIENT_ID = "sample-client-id";
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private MockedStatic<AuthorizationDetailProcessorUtils> utilsMockedStatic;
+
+    @BeforeMethod
+    public void setUp() {
+        AuthorizedScopesCache.invalidateAll();
+        utilsMockedStatic = Mockito.mockStatic(AuthorizationDetailProcessorUtils.class);
+        utilsMockedStatic.when(() -> AuthorizationDetailProcessorUtils.getApplicationResourceIdByClientId(
+                Mockito.anyString(), Mockito.anyString())).thenReturn("app123");
+        utilsMockedStatic.when(() -> AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(
+                Mockito.anyString(), Mockito.anyString())).thenReturn(Collections.singletonList(
+                new AuthorizedScopes("policy-1", Arrays.asList("fdx:transactions:read", "openid", null))));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        utilsMockedStatic.close();
+        AuthorizedScopesCache.invalidateAll();
+    }
+
+    @Test
+    public void testGetFDXScopesIsCached() throws Exception {
+        long missCount = AuthorizedScopesCache.getMissCount();
+        long hitCount = AuthorizedScopesCache.getHitCount();
+
+        int fdxScopeBitmask = AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+
+        Assert.assertEquals(fdxScopeBitmask,
+                ScopeDataClusterMappings.getScopeBitmask(Collections.singletonList("fdx:transactions:read")));
+        Assert.assertEquals(AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN), fdxScopeBitmask);
+        Assert.assertEquals(AuthorizedScopesCache.getMissCount() - missCount, 1);
+        Assert.assertEquals(AuthorizedScopesCache.getHitCount() - hitCount, 1);
+        utilsMockedStatic.verify(() -> AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(
+                "app123", TENANT_DOMAIN), Mockito.times(1));
+    }
+
+    @Test
+    public void testGetFDXScopesIsTenantAware() throws Exception {
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, "wso2.com");
+
+        Assert.assertEquals(AuthorizedScopesCache.size(), 2);
+        utilsMockedStatic.verify(() -> AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(
+                "app123", "wso2.com"), Mockito.times(1));
+    }
+
+    @Test
+    public void testInvalidateApplication() throws Exception {
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, "wso2.com");
+
+        AuthorizedScopesCache.invalidateApplication("app456", TENANT_DOMAIN);
+        Assert.assertEquals(AuthorizedScopesCache.size(), 2);
+
+        AuthorizedScopesCache.invalidateApplication("app123", TENANT_DOMAIN);
+        Assert.assertEquals(AuthorizedScopesCache.size(), 1);
+
+        AuthorizedScopesCache.invalidateTenant("wso2.com");
+        Assert.assertEquals(AuthorizedScopesCache.size(), 0);
+    }
+
+    @Test
+    public void testEntryIsEvictedWhenCacheIsFull() throws Exception {
+        int maxEntries = FDXIdentityCommonConstants.AUTHORIZED_SCOPES_CACHE_MAX_ENTRIES;
+        for (int index = 0; index < maxEntries; index++) {
+            AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID + index, TENANT_DOMAIN);
+        }
+        Assert.assertEquals(AuthorizedScopesCache.size(), maxEntries);
+        long evictionCount = AuthorizedScopesCache.getEvictionCount();
+        long hitCount = AuthorizedScopesCache.getHitCount();
+
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+        AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+
+        Assert.assertEquals(AuthorizedScopesCache.size(), maxEntries);
+        Assert.assertEquals(AuthorizedScopesCache.getEvictionCount() - evictionCount, 1);
+        Assert.assertEquals(AuthorizedScopesCache.getHitCount() - hitCount, 1);
+    }
+
+    @Test
+    public void testScopesLoadedDuringInvalidationAreNotCached() throws Exception {
+        // The application is updated while its scopes are being loaded
+        utilsMockedStatic.when(() -> AuthorizationDetailProcessorUtils.getAuthorizedScopesByAppId(
+                Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+                    AuthorizedScopesCache.invalidateApplication("app123", TENANT_DOMAIN);
+                    return Collections.singletonList(new AuthorizedScopes("policy-1",
+                            Collections.singletonList("fdx:transactions:read")));
+                });
+
+        int fdxScopeBitmask = AuthorizedScopesCache.getFDXScopeBitmask(CLIENT_ID, TENANT_DOMAIN);
+
+        Assert.assertEquals(fdxScopeBitmask,
+                ScopeDataClusterMappings.getScopeBitmask(Collections.singletonList("fdx:transactions:read")));
+        Assert.assertEquals(AuthorizedScopesCache.size(), 0);
+    }
+}